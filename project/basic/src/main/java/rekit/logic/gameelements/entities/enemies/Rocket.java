@@ -183,12 +183,37 @@ public final class Rocket extends Enemy implements Configurable {
 	@Override
 	public Rocket create(Vec startPos, String... options) {
 		Rocket inst = new Rocket(startPos);
+		inst.applyOptions(options);
+		return inst;
+	}
+
+	@Override
+	public boolean isPoolable() {
+		return true;
+	}
+
+	@Override
+	public void reset(Vec startPos, String... options) {
+		this.resetEntity(startPos, new Vec(), new Vec(1.8f, 0.5f));
+		this.direction = Direction.LEFT;
+		this.paricleTimer = new Timer((long) (1000 * Rocket.PARTICLE_SPAWN_TIME));
+		this.initialSpeed = Rocket.SPEED;
+		this.currentSpeed = this.initialSpeed;
+		this.applyOptions(options);
+	}
 
+	/**
+	 * Apply the options of {@link #create(Vec, String...)}.
+	 *
+	 * @param options
+	 *            the options (direction and speed factor)
+	 */
+	private void applyOptions(String... options) {
 		// if option 0 is given: set defined direction
 		if (options.length >= 1 && options[0] != null && options[0].matches("(\\+|-)?[0-3]+")) {
 			int opt = Integer.parseInt(options[0]);
 			if (opt >= 0 && opt < Direction.values().length) {
-				inst.setDirection(Direction.values()[opt]);
+				this.setDirection(Direction.values()[opt]);
 			} else {
 				GameConf.GAME_LOGGER.error("Rocket was supplied invalid option " + options[0] + " at index 0 for Direction");
 			}
@@ -198,13 +223,11 @@ public final class Rocket extends Enemy implements Configurable {
 		if (options.length >= 2 && options[1] != null && options[1].matches("(\\+|-)?[0-9].[0-9]F+")) {
 			float opt = Float.parseFloat(options[1]);
 			if (opt >= 0 && opt < Direction.values().length) {
-				inst.initialSpeed *= opt;
+				this.initialSpeed *= opt;
 			} else {
 				GameConf.GAME_LOGGER.error("Rocket was supplied invalid option " + options[1] + " at index 1 for speedFactor");
 			}
 		}
-
-		return inst;
 	}
 
 	private int getXSignum() {
@@ -11,7 +11,6 @@ import org.fuchss.configuration.annotations.SetterInfo;
 import net.jafama.FastMath;
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.entities.Player;
 import rekit.logic.gameelements.type.Enemy;
@@ -112,7 +111,7 @@ public final class Stacker extends Enemy implements Configurable {
 		private Vec relPos;
 		private final int offset;
 
-		private final int faceId;
+		private final int faceImage;
 
 		private Timer timeToDie;
 
@@ -121,7 +120,7 @@ public final class Stacker extends Enemy implements Configurable {
 			this.relPos = relPos;
 			this.offset = offset;
 
-			this.faceId = GameConf.PRNG.nextInt(Stacker.FACES) + 1;
+			this.faceImage = GameGrid.registerImage("stacker/stackerFaces_0" + (GameConf.PRNG.nextInt(Stacker.FACES) + 1) + ".png");
 		}
 
 		@Override
@@ -132,7 +131,7 @@ public final class Stacker extends Enemy implements Configurable {
 
 		@Override
 		protected void innerLogicLoop() {
-			this.setPos(Stacker.this.getPos().add(this.relPos).addX((float) (0.1 * FastMath.sin(0.1 * GameTime.getTime() / 30 + this.offset))));
+			this.setPos(Stacker.this.getPos().add(this.relPos).addX((float) (0.1 * FastMath.sin(0.1 * this.getScene().getClock().getTime() / 30 + this.offset))));
 
 			if (this.timeToDie != null) {
 				this.timeToDie.logicLoop();
@@ -151,7 +150,7 @@ public final class Stacker extends Enemy implements Configurable {
 				f.drawCircle(this.getPos(), this.getSize(), Stacker.COLOR);
 			} else {
 				f.drawCircle(this.getPos(), this.getSize(), Stacker.COLOR);
-				f.drawImage(this.getPos(), this.getSize(), "stacker/stackerFaces_0" + this.faceId + ".png");
+				f.drawImage(this.getPos(), this.getSize(), this.faceImage);
 			}
 		}
 
@@ -14,8 +14,8 @@ import rekit.logic.gameelements.type.Boss;
 import rekit.logic.level.BossStructure;
 import rekit.primitives.geometry.Direction;
 import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.MutableVec;
 import rekit.primitives.geometry.Vec;
-import rekit.primitives.time.Timer;
 import rekit.util.ReflectUtils.LoadMe;
 
 /**
@@ -33,6 +33,12 @@ public final class RektSmasher extends Boss implements Configurable {
 	 */
 	@NoSet
 	private RektKiller innerRektKiller;
+	/**
+	 * The scratch difference to the target in
+	 * {@link #collidedWithSolid(Frame, Direction)}.
+	 */
+	@NoSet
+	private final MutableVec dif = new MutableVec();
 	/**
 	 * The base movement speed.
 	 */
@@ -92,7 +98,7 @@ public final class RektSmasher extends Boss implements Configurable {
 
 	@Override
 	public void collidedWithSolid(Frame collision, final Direction dir) {
-		Vec dif = this.getPos().add(this.target.getPos().scalar(-1));
+		MutableVec dif = this.dif.set(this.getX(), this.getY()).addX(-this.target.getX()).addY(-this.target.getY());
 		super.collidedWithSolid(collision, dir);
 
 		Direction newDir;
@@ -126,7 +132,7 @@ public final class RektSmasher extends Boss implements Configurable {
 		if (GameConf.PRNG.nextDouble() > 0.8 && this.innerRektKiller.hasSide(Direction.getOpposite(dir))) {
 			// remove side
 			this.innerRektKiller.setSide(Direction.getOpposite(dir), false);
-			Timer.execute(RektSmasher.SPIKE_TIME, () -> this.innerRektKiller.setSide(Direction.getOpposite(dir), true));
+			this.getScene().execute(RektSmasher.SPIKE_TIME, () -> this.innerRektKiller.setSide(Direction.getOpposite(dir), true));
 		}
 	}
 
@@ -62,6 +62,9 @@ public class ShootingState extends ChargingState {
 		super(angle);
 
 		this.spawner = new ParticleSpawner(new CannonParticle(this.parentCannon));
+		// the particles cause damage, so they must not be shed
+		this.spawner.name = "Cannon";
+		this.spawner.priority = ParticleSpawner.PRIORITY_HIGH;
 
 		this.spawner.amountMin = Cannon.PARTICLE_AMOUNT_MIN;
 		this.spawner.amountMax = Cannon.PARTICLE_AMOUNT_MAX;
@@ -80,6 +83,8 @@ public class ShootingState extends ChargingState {
 		super.enter(parent);
 
 		this.spawner = new ParticleSpawner(new CannonParticle(this.parentCannon));
+		this.spawner.name = "Cannon";
+		this.spawner.priority = ParticleSpawner.PRIORITY_HIGH;
 
 		this.spawner.amountMin = Cannon.PARTICLE_AMOUNT_MIN;
 		this.spawner.amountMax = Cannon.PARTICLE_AMOUNT_MAX;
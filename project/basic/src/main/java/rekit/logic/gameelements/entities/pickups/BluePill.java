@@ -24,6 +24,16 @@ import rekit.util.ReflectUtils.LoadMe;
 @LoadMe
 @SetterInfo(res = "conf/bluepill")
 public final class BluePill extends Pickup implements Configurable {
+	/**
+	 * The image of a player facing right.
+	 */
+	@NoSet
+	private static final int IMAGE_RIGHT = GameGrid.registerImage("mrRekt_glasses_right.png");
+	/**
+	 * The image of a player facing left.
+	 */
+	@NoSet
+	private static final int IMAGE_LEFT = GameGrid.registerImage("mrRekt_glasses_left.png");
 	/**
 	 * The size of the pickup.
 	 */
@@ -102,9 +112,9 @@ public final class BluePill extends Pickup implements Configurable {
 			dir = Direction.LEFT;
 		}
 		f.drawRoundRectangle(p.getPos(), p.getSize(), new RGBAColor(148, 172, 236, 180), 0.45F, 0.45F);
-		String src = dir == Direction.RIGHT //
-				? "mrRekt_glasses_right.png" // facing right
-						: "mrRekt_glasses_left.png"; // facing left
-		f.drawImage(p.getPos().addY(-0.025f * p.getVel().y), p.getSize(), src);
+		int image = dir == Direction.RIGHT //
+				? BluePill.IMAGE_RIGHT // facing right
+				: BluePill.IMAGE_LEFT; // facing left
+		f.drawImage(p.getPos().addY(-0.025f * p.getVel().y), p.getSize(), image);
 	}
 }
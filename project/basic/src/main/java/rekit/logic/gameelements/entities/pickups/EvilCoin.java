@@ -17,6 +17,10 @@ import rekit.util.ReflectUtils.LoadMe;
  */
 @LoadMe
 public final class EvilCoin extends Coin {
+	/**
+	 * The image of an evil coin.
+	 */
+	private static final int IMAGE = GameGrid.registerImage("evilCoin.png");
 
 	/**
 	 * Prototype constructor.
@@ -47,7 +51,7 @@ public final class EvilCoin extends Coin {
 
 	@Override
 	public void internalRender(GameGrid f) {
-		f.drawImage(this.getPos().addY((float) (Coin.SIN * 0.1)), new Vec(1, 1), "evilCoin.png");
+		f.drawImage(this.getPos().addY((float) (Coin.SIN * 0.1)), new Vec(1, 1), EvilCoin.IMAGE);
 	}
 
 	@Override
@@ -6,7 +6,6 @@ import org.fuchss.configuration.annotations.SetterInfo;
 
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.entities.Player;
@@ -155,10 +154,9 @@ public final class AcceleratorBox extends DynamicInanimate implements Configurab
 	private static long WARM_UP_TIME;
 
 	/**
-	 * The last time when {@link #logicLoop(float)} was invoked.
+	 * The speed of the aiming in radians per ms.
 	 */
-	@NoSet
-	private long lastTime = GameTime.getTime();
+	private static float ANGLE_SPEED;
 
 	/**
 	 * The timer for the warmUp of the aiming.
@@ -308,7 +306,7 @@ public final class AcceleratorBox extends DynamicInanimate implements Configurab
 		if (this.playerCaught) {
 			// if aiming is already activated:
 			if (this.warmUp != null && this.warmUp.timeUp()) {
-				long deltaTime = GameTime.getTime() - this.lastTime;
+				long deltaTime = this.getScene().getDeltaTime();
 				Vec vel = player.getVel();
 
 				if (!player.getEntityState().canJump()) { // JUMP
@@ -317,10 +315,10 @@ public final class AcceleratorBox extends DynamicInanimate implements Configurab
 				}
 
 				if (vel.x < -0.1) { // LEFT
-					this.addToCurrentAngle(this.invertControls * 0.000002 * deltaTime);
+					this.addToCurrentAngle(this.invertControls * AcceleratorBox.ANGLE_SPEED * deltaTime);
 				}
 				if (vel.x > 0.1) { // RIGHT
-					this.addToCurrentAngle(this.invertControls * -0.000002 * deltaTime);
+					this.addToCurrentAngle(this.invertControls * -AcceleratorBox.ANGLE_SPEED * deltaTime);
 				}
 			}
 
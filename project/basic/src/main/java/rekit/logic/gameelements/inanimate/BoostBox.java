@@ -5,7 +5,6 @@ import org.fuchss.configuration.annotations.NoSet;
 import org.fuchss.configuration.annotations.SetterInfo;
 
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.entities.Player;
@@ -90,18 +89,10 @@ public final class BoostBox extends DynamicInanimate implements Configurable {
 
 	}
 
-	/**
-	 * The last time when {@link #logicLoop(float)} was invoked.
-	 */
-	@NoSet
-	private long lastTime = GameTime.getTime();
-
 	@Override
 	public void logicLoop() {
 		// Get new strategy from strategy map
-		long deltaTime = GameTime.getTime() - this.lastTime;
-		this.lastTime += deltaTime;
-		this.offset += deltaTime;
+		this.offset += this.getScene().getDeltaTime();
 
         this.sparkling = this.offset > BoostBox.PERIOD - 750;
 		if (this.offset < BoostBox.PERIOD) {
@@ -43,6 +43,7 @@ public final class ReflectionBox extends DynamicInanimate {
 		ReflectionBox.particles.amountMax = 1;
 		ReflectionBox.particles.size = new ParticleSpawnerOption(0.3f, 0.5f, 0, 0);
 		ReflectionBox.particles.speed = new ParticleSpawnerOption(2, 3, -1, 1);
+		ReflectionBox.particles.name = "ReflectionBox";
 	}
 
 	/**
@@ -15,6 +15,8 @@ import rekit.controller.commands.MenuCommand;
 import rekit.controller.commands.MenuDirection;
 import rekit.controller.commands.PlayPauseCommand;
 import rekit.controller.commands.WalkCommand;
+import rekit.core.GameTime;
+import rekit.core.SimulationClock;
 import rekit.gui.InputHelper;
 import rekit.gui.View;
 import rekit.logic.IScene;
@@ -24,6 +26,7 @@ import rekit.logic.filters.Filter;
 import rekit.logic.filters.GrayScaleMode;
 import rekit.logic.filters.InvertedMode;
 import rekit.logic.filters.RandomMode;
+import rekit.logic.gameelements.GameElementFactory;
 import rekit.logic.gameelements.entities.StateEntity;
 import rekit.logic.gui.menu.MenuItem;
 import rekit.primitives.geometry.Direction;
@@ -143,16 +146,29 @@ final class ControllerImpl implements Observer, Controller, CommandSupervisor {
 		this.helper.register(this);
 	}
 
+	/**
+	 * Handle all pressed and released keys. The clock and the scene of the
+	 * model are bound to the input thread like in {@link IScene#logicLoop()},
+	 * so that e.g. timers of the player use the clock of the scene.
+	 */
 	@Override
 	public void update() {
-		Iterator<Integer> it = this.helper.getPressedKeyIterator();
-		while (it.hasNext()) {
-			this.handleEvent(it.next(), InputMethod.PRESS);
-		}
-		it = this.helper.getReleasedKeyIterator();
-		while (it.hasNext()) {
-			this.handleEvent(it.next(), InputMethod.RELEASE);
-			it.remove();
+		IScene scene = this.model.getScene();
+		SimulationClock previous = GameTime.bindClock(scene == null ? null : scene.getClock());
+		IScene previousScene = GameElementFactory.bindScene(scene);
+		try {
+			Iterator<Integer> it = this.helper.getPressedKeyIterator();
+			while (it.hasNext()) {
+				this.handleEvent(it.next(), InputMethod.PRESS);
+			}
+			it = this.helper.getReleasedKeyIterator();
+			while (it.hasNext()) {
+				this.handleEvent(it.next(), InputMethod.RELEASE);
+				it.remove();
+			}
+		} finally {
+			GameElementFactory.bindScene(previousScene);
+			GameTime.bindClock(previous);
 		}
 	}
 
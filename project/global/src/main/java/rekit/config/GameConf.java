@@ -1,7 +1,6 @@
 package rekit.config;
 
 import java.awt.Font;
-import java.util.Random;
 
 import org.apache.log4j.Logger;
 import org.fuchss.configuration.Configurable;
@@ -13,6 +12,7 @@ import org.fuchss.configuration.parser.Parser;
 import rekit.primitives.TextOptions;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
+import rekit.util.BindableRandom;
 import rekit.util.ReflectUtils;
 
 /**
@@ -35,10 +35,11 @@ public final class GameConf implements Configurable {
 	@NoSet
 	public static final String SEARCH_PATH = "rekit";
 	/**
-	 * The GameWide randomness source.
+	 * The GameWide randomness source. A different source can be bound to a
+	 * thread (see {@link BindableRandom#bind(java.util.Random)}).
 	 */
 	@NoSet
-	public static final Random PRNG = new Random();
+	public static final BindableRandom PRNG = new BindableRandom();
 
 	/**
 	 * The about text.
@@ -106,6 +107,14 @@ public final class GameConf implements Configurable {
 	 */
 	@Deprecated
 	public static int RENDER_DELTA;
+
+	/**
+	 * Indicates whether filters shall be applied to whole frames (the frame
+	 * will be drawn unfiltered and filtered afterwards) instead of to every
+	 * drawn color and image. In this mode, texts and primitives which are drawn
+	 * without filter will be filtered as well.
+	 */
+	public static boolean FRAME_FILTER;
 	/**
 	 * Time in milliseconds to wait after each logicLoop, that simulates physics
 	 * changes positions, detects collisions, ...
@@ -118,6 +127,13 @@ public final class GameConf implements Configurable {
 	 */
 	public static float G;
 
+	/**
+	 * The maximum amount of alive particles per scene (or {@code 0} for no
+	 * limit). Particles of low priority will be shed before the budget is
+	 * exceeded.
+	 */
+	public static int PARTICLE_BUDGET;
+
 	/**
 	 * The menu's background color.
 	 */
@@ -5,7 +5,12 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 import rekit.primitives.TextOptions;
 import rekit.primitives.geometry.Polygon;
@@ -21,6 +26,59 @@ import rekit.primitives.image.RGBAColor;
  *
  */
 public abstract class GameGrid {
+	/**
+	 * The ids of all registered images by path (see
+	 * {@link #registerImage(String)}).
+	 */
+	private static final Map<String, Integer> IMAGE_IDS = new HashMap<>();
+	/**
+	 * The paths of all registered images by id (copied on registration, so it
+	 * can be read without locking).
+	 */
+	private static volatile String[] imagePaths = new String[0];
+
+	/**
+	 * Register an image. Every path gets one id for the whole runtime, so
+	 * elements can resolve the ids of their images once (e.g. in a static
+	 * field) and draw them by {@link #drawImage(Vec, Vec, int)} without any
+	 * lookup of the path.
+	 *
+	 * @param imagePath
+	 *            the path to the image
+	 * @return the id of the image
+	 */
+	public static synchronized int registerImage(String imagePath) {
+		Integer id = GameGrid.IMAGE_IDS.get(imagePath);
+		if (id != null) {
+			return id;
+		}
+		String[] paths = Arrays.copyOf(GameGrid.imagePaths, GameGrid.imagePaths.length + 1);
+		paths[paths.length - 1] = imagePath;
+		GameGrid.IMAGE_IDS.put(imagePath, paths.length - 1);
+		GameGrid.imagePaths = paths;
+		return paths.length - 1;
+	}
+
+	/**
+	 * Get the path of a registered image (see {@link #registerImage(String)}).
+	 *
+	 * @param imageId
+	 *            the id of the image
+	 * @return the path to the image
+	 */
+	public static String getImagePath(int imageId) {
+		return GameGrid.imagePaths[imageId];
+	}
+
+	/**
+	 * Get the amount of registered images (see {@link #registerImage(String)}).
+	 *
+	 * @return the amount of images
+	 */
+	public static int getImageCount() {
+		return GameGrid.imagePaths.length;
+	}
+
 	/**
 	 * Set the current camera offset (e.g. for Bosses)
 	 *
@@ -29,6 +87,20 @@ public abstract class GameGrid {
 	 */
 	public abstract void setCurrentOffset(float cameraOffsetUnits);
 
+	/**
+	 * Move all following in-game draw calls by an offset (e.g. to draw an
+	 * element between two logic steps). The offset will be reset by
+	 * {@link #setCurrentOffset(float)}. By default the offset is ignored.
+	 *
+	 * @param dx
+	 *            the x-component of the offset in units
+	 * @param dy
+	 *            the y-component of the offset in units
+	 */
+	public void setElementOffset(float dx, float dy) {
+		// Not supported
+	}
+
 	/////////////////////////////////////////////////////////
 	// Draw Rectangle
 	////////////////////////////////////////////////////////
@@ -132,6 +204,23 @@ public abstract class GameGrid {
 		this.drawImage(pos, size, imagePath, true, true);
 	}
 
+	/**
+	 * Draw a registered image (see {@link #registerImage(String)}). <br>
+	 * invokes {@link #drawImage(Vec, Vec, int, boolean, boolean)} and set
+	 * ingame and usefilter to {@code true}
+	 *
+	 * @param pos
+	 *            the position
+	 * @param size
+	 *            the size
+	 * @param imageId
+	 *            the id of the image
+	 */
+	@Ingame
+	public final void drawImage(Vec pos, Vec size, int imageId) {
+		this.drawImage(pos, size, imageId, true, true);
+	}
+
 	/**
 	 * Draw a line between two given points with a given lineWidth and a color.
 	 *
@@ -221,6 +310,29 @@ public abstract class GameGrid {
 	@NonIngame
 	public abstract void drawImage(Vec pos, Vec size, String imagePath, boolean ingame, boolean usefilter);
 
+	/**
+	 * Draw a registered image (see {@link #registerImage(String)}).
+	 *
+	 * @param pos
+	 *            the position
+	 * @param size
+	 *            the size
+	 * @param imageId
+	 *            the id of the image
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawImage(Vec pos, Vec size, int imageId, boolean ingame, boolean usefilter) {
+		this.drawImage(pos, size, GameGrid.getImagePath(imageId), ingame, usefilter);
+	}
+
 	/////////////////////////////////////////////////////////
 	// Draw Polygon
 	////////////////////////////////////////////////////////
@@ -257,6 +369,42 @@ public abstract class GameGrid {
 	@Ingame
 	public abstract void drawPolygon(Polygon polygon, RGBAColor color, boolean fill, boolean usefilter);
 
+	/**
+	 * Draw many polygons at once (e.g. particles). The points of all polygons
+	 * are stored consecutively in one array ({x1, y1, x2, y2, ...}).<br>
+	 * The default implementation invokes
+	 * {@link #drawPolygon(Polygon, RGBAColor, boolean, boolean)} for each
+	 * polygon.
+	 *
+	 * @param points
+	 *            the absolute points of all polygons <b>in units</b>
+	 * @param sizes
+	 *            the amount of points of each polygon
+	 * @param colors
+	 *            the ARGB color of each polygon (see
+	 *            {@link RGBAColor#toARGB()})
+	 * @param count
+	 *            the amount of polygons
+	 * @param fill
+	 *            indicates whether the polygons shall be filled
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	public void drawPolygons(float[] points, int[] sizes, int[] colors, int count, boolean fill, boolean usefilter) {
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			Vec start = new Vec(points[offset], points[offset + 1]);
+			Vec[] relPts = new Vec[sizes[i] - 1];
+			for (int pt = 0; pt < relPts.length; pt++) {
+				relPts[pt] = new Vec(points[offset + 2 * pt + 2] - start.x, points[offset + 2 * pt + 3] - start.y);
+			}
+			this.drawPolygon(new Polygon(start, relPts), new RGBAColor(colors[i]), fill, usefilter);
+			offset += 2 * sizes[i];
+		}
+	}
+
 	/////////////////////////////////////////////////////////
 	// Draw Text
 	////////////////////////////////////////////////////////
@@ -369,6 +517,340 @@ public abstract class GameGrid {
 	@Ingame
 	public abstract void drawPath(Vec startPos, List<Vec> pts, RGBAColor color, int lineWidth, boolean usefilter);
 
+	/////////////////////////////////////////////////////////
+	// Draw Cached
+	////////////////////////////////////////////////////////
+	/**
+	 * Draw a static drawing which may be cached by the grid (e.g. rasterized
+	 * once and drawn as image afterwards). The painter has to draw only
+	 * in-game elements within the size around the given position, and it has
+	 * to draw the same for equal keys. <br>
+	 * The default implementation invokes the painter directly.
+	 *
+	 * @param pos
+	 *            the position (center)
+	 * @param size
+	 *            the size of the area the painter draws in
+	 * @param key
+	 *            the key of the drawing (see {@link Object#equals(Object)})
+	 * @param painter
+	 *            the painter which draws relative to the position it gets
+	 */
+	@Ingame
+	public void drawCached(Vec pos, Vec size, Object key, BiConsumer<GameGrid, Vec> painter) {
+		painter.accept(this, pos);
+	}
+
+	/////////////////////////////////////////////////////////
+	// Draw Packed
+	////////////////////////////////////////////////////////
+	// The following methods take primitive arguments (e.g. to replay a
+	// RenderSnapshot without creating objects). Positions have a perspective
+	// (z-component, see Vec#translate2D(float)) and colors are ARGB (see
+	// RGBAColor#toARGB()). The default implementations create the objects
+	// and invoke the methods above.
+
+	/**
+	 * Draw a rectangle (see
+	 * {@link #drawRectangle(Vec, Vec, RGBAColor, boolean, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param argb
+	 *            the color
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawRectangle(float x, float y, float z, float width, float height, int argb, boolean ingame, boolean usefilter) {
+		this.drawRectangle(new Vec(x, y, z), new Vec(width, height), new RGBAColor(argb), ingame, usefilter);
+	}
+
+	/**
+	 * Draw a circle (see
+	 * {@link #drawCircle(Vec, Vec, RGBAColor, boolean, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param argb
+	 *            the color
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawCircle(float x, float y, float z, float width, float height, int argb, boolean ingame, boolean usefilter) {
+		this.drawCircle(new Vec(x, y, z), new Vec(width, height), new RGBAColor(argb), ingame, usefilter);
+	}
+
+	/**
+	 * Draw a rectangle with round corners (see
+	 * {@link #drawRoundRectangle(Vec, Vec, RGBAColor, float, float, boolean, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param argb
+	 *            the color
+	 * @param arcWidth
+	 *            the arc width
+	 * @param arcHeight
+	 *            the arc height
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawRoundRectangle(float x, float y, float z, float width, float height, int argb, float arcWidth, float arcHeight, boolean ingame,
+			boolean usefilter) {
+		this.drawRoundRectangle(new Vec(x, y, z), new Vec(width, height), new RGBAColor(argb), arcWidth, arcHeight, ingame, usefilter);
+	}
+
+	/**
+	 * Draw a line (see
+	 * {@link #drawLine(Vec, Vec, int, RGBAColor, boolean, boolean)}).
+	 *
+	 * @param ax
+	 *            the x-coordinate of the start point
+	 * @param ay
+	 *            the y-coordinate of the start point
+	 * @param az
+	 *            the perspective of the start point
+	 * @param bx
+	 *            the x-coordinate of the end point
+	 * @param by
+	 *            the y-coordinate of the end point
+	 * @param bz
+	 *            the perspective of the end point
+	 * @param lineWidth
+	 *            the line width
+	 * @param argb
+	 *            the color
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawLine(float ax, float ay, float az, float bx, float by, float bz, int lineWidth, int argb, boolean ingame, boolean usefilter) {
+		this.drawLine(new Vec(ax, ay, az), new Vec(bx, by, bz), lineWidth, new RGBAColor(argb), ingame, usefilter);
+	}
+
+	/**
+	 * Draw an image (see
+	 * {@link #drawImage(Vec, Vec, String, boolean, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param imagePath
+	 *            the path to the image
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawImage(float x, float y, float z, float width, float height, String imagePath, boolean ingame, boolean usefilter) {
+		this.drawImage(new Vec(x, y, z), new Vec(width, height), imagePath, ingame, usefilter);
+	}
+
+	/**
+	 * Draw a registered image (see
+	 * {@link #drawImage(Vec, Vec, int, boolean, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param imageId
+	 *            the id of the image
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	@NonIngame
+	public void drawImage(float x, float y, float z, float width, float height, int imageId, boolean ingame, boolean usefilter) {
+		this.drawImage(new Vec(x, y, z), new Vec(width, height), imageId, ingame, usefilter);
+	}
+
+	/**
+	 * Draw a text (see {@link #drawText(Vec, String, TextOptions, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate
+	 * @param y
+	 *            the y-coordinate
+	 * @param z
+	 *            the perspective
+	 * @param text
+	 *            the text
+	 * @param options
+	 *            options to customize appearance
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 */
+	@Ingame
+	@NonIngame
+	public void drawText(float x, float y, float z, String text, TextOptions options, boolean ingame) {
+		this.drawText(new Vec(x, y, z), text, options, ingame);
+	}
+
+	/**
+	 * Draw a polygon (see
+	 * {@link #drawPolygon(Polygon, RGBAColor, boolean, boolean)}).
+	 *
+	 * @param points
+	 *            the absolute points <b>in units</b> ({x1, y1, x2, y2, ...})
+	 * @param offset
+	 *            the index of the first point
+	 * @param size
+	 *            the amount of points
+	 * @param z
+	 *            the perspective of the polygon
+	 * @param argb
+	 *            the color
+	 * @param fill
+	 *            indicates whether the polygon shall be filled
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	public void drawPolygon(float[] points, int offset, int size, float z, int argb, boolean fill, boolean usefilter) {
+		Vec start = new Vec(points[offset], points[offset + 1], z);
+		Vec[] relPts = new Vec[size - 1];
+		for (int pt = 0; pt < relPts.length; pt++) {
+			relPts[pt] = new Vec(points[offset + 2 * pt + 2] - start.x, points[offset + 2 * pt + 3] - start.y);
+		}
+		this.drawPolygon(new Polygon(start, relPts), new RGBAColor(argb), fill, usefilter);
+	}
+
+	/**
+	 * Draw a path (see
+	 * {@link #drawPath(Vec, List, RGBAColor, int, boolean)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the start position
+	 * @param y
+	 *            the y-coordinate of the start position
+	 * @param z
+	 *            the perspective of the start position
+	 * @param points
+	 *            the points relative to the start position ({x1, y1, x2, y2,
+	 *            ...})
+	 * @param offset
+	 *            the index of the first point
+	 * @param size
+	 *            the amount of points
+	 * @param argb
+	 *            the color
+	 * @param lineWidth
+	 *            the line width
+	 * @param usefilter
+	 *            indicates whether a filter (if set) shall applied before
+	 *            drawing
+	 */
+	@Ingame
+	public void drawPath(float x, float y, float z, float[] points, int offset, int size, int argb, int lineWidth, boolean usefilter) {
+		List<Vec> pts = new ArrayList<>(size);
+		for (int pt = 0; pt < size; pt++) {
+			pts.add(new Vec(points[offset + 2 * pt], points[offset + 2 * pt + 1]));
+		}
+		this.drawPath(new Vec(x, y, z), pts, new RGBAColor(argb), lineWidth, usefilter);
+	}
+
+	/**
+	 * Draw a static drawing which may be cached (see
+	 * {@link #drawCached(Vec, Vec, Object, BiConsumer)}).
+	 *
+	 * @param x
+	 *            the x-coordinate of the center
+	 * @param y
+	 *            the y-coordinate of the center
+	 * @param z
+	 *            the perspective
+	 * @param width
+	 *            the width of the area the painter draws in
+	 * @param height
+	 *            the height of the area the painter draws in
+	 * @param key
+	 *            the key of the drawing (see {@link Object#equals(Object)})
+	 * @param painter
+	 *            the painter which draws relative to the position it gets
+	 */
+	@Ingame
+	public void drawCached(float x, float y, float z, float width, float height, Object key, BiConsumer<GameGrid, Vec> painter) {
+		this.drawCached(new Vec(x, y, z), new Vec(width, height), key, painter);
+	}
+
 	/**
 	 * This annotation indicates that this method can be used to draw InGame
 	 * Elements.
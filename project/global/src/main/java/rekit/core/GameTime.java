@@ -2,7 +2,12 @@ package rekit.core;
 
 /**
  * This class manages the time of the game and replaces
- * {@link System#currentTimeMillis()}.
+ * {@link System#currentTimeMillis()}.<br>
+ * It only is a facade for the current {@link SimulationClock}: the clock which
+ * has been bound to the current thread (see
+ * {@link #bindClock(SimulationClock)}) or, if none, a default clock which will
+ * never be advanced by any scene. New code shall use the clock of its scene
+ * directly.
  *
  * @author Dominik Fuchss
  *
@@ -15,17 +20,42 @@ public final class GameTime {
 	}
 
 	/**
-	 * Time the game is paused.
+	 * The clock of threads without bound clock (e.g. while loading the
+	 * prototypes of the elements).
 	 */
-	private static long paused = 0;
+	private static final SimulationClock DEFAULT = new SimulationClock();
 	/**
-	 * The time when the last pause started.
+	 * The clocks bound to threads.
 	 */
-	private static long started = 0;
+	private static final ThreadLocal<SimulationClock> BOUND = new ThreadLocal<>();
+
 	/**
-	 * Indicates whether game is paused.
+	 * Get the current clock.
+	 *
+	 * @return the clock bound to the current thread or the default clock if
+	 *         none is bound
 	 */
-	private static boolean pause = false;
+	public static SimulationClock getClock() {
+		SimulationClock bound = GameTime.BOUND.get();
+		return bound == null ? GameTime.DEFAULT : bound;
+	}
+
+	/**
+	 * Bind a clock to the current thread.
+	 *
+	 * @param clock
+	 *            the clock or {@code null} to unbind
+	 * @return the previously bound clock or {@code null} if none
+	 */
+	public static SimulationClock bindClock(SimulationClock clock) {
+		SimulationClock previous = GameTime.BOUND.get();
+		if (clock == null) {
+			GameTime.BOUND.remove();
+		} else {
+			GameTime.BOUND.set(clock);
+		}
+		return previous;
+	}
 
 	/**
 	 * Get the current time in the game.
@@ -33,33 +63,21 @@ public final class GameTime {
 	 * @return the current time
 	 */
 	public static long getTime() {
-		if (GameTime.pause) {
-			return GameTime.started;
-		}
-		return System.currentTimeMillis() - GameTime.paused;
+		return GameTime.getClock().getTime();
 	}
 
 	/**
 	 * Pause the game.
 	 */
-	public static synchronized void pause() {
-		if (GameTime.pause) {
-			return;
-		}
-		GameTime.pause = true;
-		GameTime.started = System.currentTimeMillis();
+	public static void pause() {
+		GameTime.getClock().pause();
 	}
 
 	/**
 	 * Resume from pause.
 	 */
-	public static synchronized void resume() {
-		if (!GameTime.pause) {
-			return;
-		}
-		GameTime.pause = false;
-		GameTime.paused += System.currentTimeMillis() - GameTime.started;
-
+	public static void resume() {
+		GameTime.getClock().resume();
 	}
 
 	/**
@@ -68,6 +86,6 @@ public final class GameTime {
 	 * @return {@code true} if stopped, {@code false} otherwise
 	 */
 	public static boolean isPaused() {
-		return GameTime.pause;
+		return GameTime.getClock().isPaused();
 	}
 }
@@ -0,0 +1,876 @@
+package rekit.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import rekit.primitives.TextOptions;
+import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.Polygon;
+import rekit.primitives.geometry.Vec;
+import rekit.primitives.image.RGBAColor;
+
+/**
+ * This class contains the recorded draw calls of one logic step. A snapshot
+ * will not change while it is acquired (see {@link #acquire()}), so it can be
+ * drawn by the render thread without any lock while the logic thread already
+ * records the next one into another buffer (see {@link Recorder}).
+ * <br>
+ * The draw calls are grouped by the element which has issued them (in z-order)
+ * followed by the draw calls of the gui. They are stored as primitives (like
+ * the command buffer of the render grid), so the buffers of a snapshot can be
+ * reused for later steps.
+ * <br>
+ * Scenes which rarely change (e.g. menus) may track the regions which have
+ * changed since their previous snapshot (see
+ * {@link Recorder#trackDirtyRegions(long)}), so that only these regions have
+ * to be repainted.
+ * <br>
+ * The positions of the elements and the camera offset at the beginning of the
+ * step are recorded as well, so the view may interpolate between the previous
+ * and the current step (see {@link #drawElement(int, GameGrid, float)}).
+ *
+ */
+public final class RenderSnapshot {
+	/**
+	 * The id of the next snapshot.
+	 */
+	private static final AtomicLong NEXT_ID = new AtomicLong();
+
+	/**
+	 * Command: a rectangle (x, y, z, width, height).
+	 */
+	private static final int RECTANGLE = 0;
+	/**
+	 * Command: a circle (x, y, z, width, height).
+	 */
+	private static final int CIRCLE = 1;
+	/**
+	 * Command: a rectangle with round corners (x, y, z, width, height,
+	 * arcWidth, arcHeight).
+	 */
+	private static final int ROUND_RECTANGLE = 2;
+	/**
+	 * Command: a line (ax, ay, az, bx, by, bz), the argument is the line
+	 * width.
+	 */
+	private static final int LINE = 3;
+	/**
+	 * Command: an image (x, y, z, width, height), the argument is the id of
+	 * the image (see {@link GameGrid#registerImage(String)}).
+	 */
+	private static final int IMAGE = 4;
+	/**
+	 * Command: a polygon (z, x1, y1, x2, y2, ...), the argument is the amount
+	 * of points.
+	 */
+	private static final int POLYGON = 5;
+	/**
+	 * Command: a text (x, y, z), the argument is the index of the text
+	 * followed by its options.
+	 */
+	private static final int TEXT = 6;
+	/**
+	 * Command: a path (x, y, z, size, x1, y1, x2, y2, ...), the argument is
+	 * the line width.
+	 */
+	private static final int PATH = 7;
+	/**
+	 * Command: a cached drawing (x, y, z, width, height), the argument is the
+	 * index of the key followed by the painter.
+	 */
+	private static final int CACHED = 8;
+	/**
+	 * The mask of the type of a command.
+	 */
+	private static final int TYPE_MASK = 0xFF;
+	/**
+	 * Flag: the command shall be drawn in-game.
+	 */
+	private static final int INGAME = 1 << 8;
+	/**
+	 * Flag: the command shall be filtered.
+	 */
+	private static final int FILTER = 1 << 9;
+	/**
+	 * Flag: the polygon shall be filled.
+	 */
+	private static final int FILL = 1 << 10;
+	/**
+	 * The amount of ints per command (type and flags, argb, index of data,
+	 * argument).
+	 */
+	private static final int COMMAND_SIZE = 4;
+	/**
+	 * The initial amount of commands.
+	 */
+	private static final int INITIAL_COMMANDS = 256;
+	/**
+	 * The initial amount of elements.
+	 */
+	private static final int INITIAL_ELEMENTS = 64;
+
+	/**
+	 * The state of the buffers: {@code -1} while recording, the amount of
+	 * readers otherwise.
+	 */
+	private final AtomicInteger state = new AtomicInteger(-1);
+	/**
+	 * The id of the snapshot.
+	 */
+	private long id;
+	/**
+	 * Indicates whether the scene tracks its changed regions.
+	 */
+	private boolean tracked;
+	/**
+	 * The id of the snapshot the {@link #dirtyRegions} refer to or {@code -1}
+	 * if everything has changed.
+	 */
+	private long baseId;
+	/**
+	 * The regions (in pixels) which have changed since the snapshot
+	 * {@link #baseId}.
+	 */
+	private final List<Frame> dirtyRegions = new ArrayList<>();
+	/**
+	 * The camera offset of the step.
+	 */
+	private float cameraOffset;
+	/**
+	 * The camera offset at the beginning of the step.
+	 */
+	private float previousCameraOffset;
+	/**
+	 * All draw calls (elements followed by gui), see
+	 * {@link #COMMAND_SIZE}.
+	 */
+	private int[] commands = new int[RenderSnapshot.INITIAL_COMMANDS * RenderSnapshot.COMMAND_SIZE];
+	/**
+	 * The amount of draw calls.
+	 */
+	private int commandCount;
+	/**
+	 * The float arguments of the draw calls.
+	 */
+	private float[] data = new float[RenderSnapshot.INITIAL_COMMANDS * 5];
+	/**
+	 * The amount of used entries of {@link #data}.
+	 */
+	private int dataCount;
+	/**
+	 * The object arguments of the draw calls.
+	 */
+	private Object[] refs = new Object[RenderSnapshot.INITIAL_COMMANDS / 4];
+	/**
+	 * The amount of used entries of {@link #refs}.
+	 */
+	private int refCount;
+	/**
+	 * The copies of the text options by the index of the text. They will be
+	 * reused as long as the options do not change.
+	 */
+	private TextOptions[] textOptions = new TextOptions[8];
+	/**
+	 * The amount of recorded texts.
+	 */
+	private int textCount;
+	/**
+	 * The index after the last draw call of each element.
+	 */
+	private int[] ends = new int[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The positions of the elements.
+	 */
+	private Vec[] positions = new Vec[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The x-components of the positions of the elements at the beginning of
+	 * the step.
+	 */
+	private float[] previousX = new float[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The y-components of the positions of the elements at the beginning of
+	 * the step.
+	 */
+	private float[] previousY = new float[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The sizes of the elements.
+	 */
+	private Vec[] sizes = new Vec[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The types of the elements.
+	 */
+	private Class<?>[] types = new Class<?>[RenderSnapshot.INITIAL_ELEMENTS];
+	/**
+	 * The amount of elements.
+	 */
+	private int elementCount;
+
+	/**
+	 * Create an empty snapshot which is being recorded.
+	 */
+	private RenderSnapshot() {
+	}
+
+	/**
+	 * Acquire the snapshot for reading. As long as it is acquired, its
+	 * buffers will not be reused. Each successful invocation has to be
+	 * followed by {@link #release()}.
+	 *
+	 * @return {@code true} if acquired, {@code false} if the buffers are
+	 *         already being reused (the latest snapshot of the scene has to be
+	 *         fetched again)
+	 */
+	public boolean acquire() {
+		while (true) {
+			int readers = this.state.get();
+			if (readers < 0) {
+				return false;
+			}
+			if (this.state.compareAndSet(readers, readers + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Release the snapshot (see {@link #acquire()}).
+	 */
+	public void release() {
+		this.state.decrementAndGet();
+	}
+
+	/**
+	 * Get the id of the snapshot. The id changes whenever the buffers have
+	 * been reused.
+	 *
+	 * @return the id
+	 */
+	public long getId() {
+		return this.id;
+	}
+
+	/**
+	 * Get the camera offset of the step.
+	 *
+	 * @return the camera offset
+	 */
+	public float getCameraOffset() {
+		return this.cameraOffset;
+	}
+
+	/**
+	 * Get the camera offset between the beginning and the end of the step.
+	 *
+	 * @param alpha
+	 *            the progress of the step ({@code 0} for the beginning,
+	 *            {@code 1} for the end, see {@code Model#getInterpolation()})
+	 * @return the interpolated camera offset
+	 */
+	public float getCameraOffset(float alpha) {
+		return this.previousCameraOffset + (this.cameraOffset - this.previousCameraOffset) * alpha;
+	}
+
+	/**
+	 * Indicates whether the scene tracks the regions which have changed
+	 * between its snapshots (see {@link #getDirtyRegions(long)}).
+	 *
+	 * @return {@code true} if the regions are tracked, {@code false} if every
+	 *         snapshot has to be drawn completely
+	 */
+	public boolean isTrackingDirtyRegions() {
+		return this.tracked;
+	}
+
+	/**
+	 * Get the regions which have changed since a previous snapshot.
+	 *
+	 * @param previousId
+	 *            the id of the snapshot which has been drawn before or
+	 *            {@code -1}
+	 * @return the changed regions (in pixels) or {@code null} if the snapshot
+	 *         has to be drawn completely (e.g. if the previous snapshot is
+	 *         not the direct predecessor of this snapshot)
+	 */
+	public List<Frame> getDirtyRegions(long previousId) {
+		if (!this.tracked || previousId == -1 || this.baseId == -1 || previousId != this.baseId) {
+			return null;
+		}
+		return Collections.unmodifiableList(this.dirtyRegions);
+	}
+
+	/**
+	 * Get the amount of recorded elements.
+	 *
+	 * @return the amount of elements
+	 */
+	public int getElementCount() {
+		return this.elementCount;
+	}
+
+	/**
+	 * Get the position of an element.
+	 *
+	 * @param element
+	 *            the index of the element
+	 * @return the position or {@code null} if unknown
+	 */
+	public Vec getPos(int element) {
+		return this.positions[element];
+	}
+
+	/**
+	 * Get the size of an element.
+	 *
+	 * @param element
+	 *            the index of the element
+	 * @return the size or {@code null} if unknown
+	 */
+	public Vec getSize(int element) {
+		return this.sizes[element];
+	}
+
+	/**
+	 * Get the type of an element.
+	 *
+	 * @param element
+	 *            the index of the element
+	 * @return the simple class name of the element
+	 */
+	public String getType(int element) {
+		return this.types[element].getSimpleName();
+	}
+
+	/**
+	 * Replay the draw calls of an element.
+	 *
+	 * @param element
+	 *            the index of the element
+	 * @param grid
+	 *            the target grid
+	 */
+	public void drawElement(int element, GameGrid grid) {
+		int start = element == 0 ? 0 : this.ends[element - 1];
+		this.replay(start, this.ends[element], grid);
+	}
+
+	/**
+	 * Replay the draw calls of an element at its position between the
+	 * beginning and the end of the step. The draw calls will be moved by the
+	 * difference of both positions (see
+	 * {@link GameGrid#setElementOffset(float, float)}).
+	 *
+	 * @param element
+	 *            the index of the element
+	 * @param grid
+	 *            the target grid
+	 * @param alpha
+	 *            the progress of the step ({@code 0} for the beginning,
+	 *            {@code 1} for the end, see {@code Model#getInterpolation()})
+	 */
+	public void drawElement(int element, GameGrid grid, float alpha) {
+		Vec pos = this.positions[element];
+		if (pos == null || alpha >= 1) {
+			this.drawElement(element, grid);
+			return;
+		}
+		float dx = (this.previousX[element] - pos.x) * (1 - alpha);
+		float dy = (this.previousY[element] - pos.y) * (1 - alpha);
+		if (dx == 0 && dy == 0) {
+			this.drawElement(element, grid);
+			return;
+		}
+		grid.setElementOffset(dx, dy);
+		this.drawElement(element, grid);
+		grid.setElementOffset(0, 0);
+	}
+
+	/**
+	 * Replay the draw calls of the gui.
+	 *
+	 * @param grid
+	 *            the target grid
+	 */
+	public void drawGui(GameGrid grid) {
+		int start = this.elementCount == 0 ? 0 : this.ends[this.elementCount - 1];
+		this.replay(start, this.commandCount, grid);
+	}
+
+	/**
+	 * Replay a range of draw calls.
+	 *
+	 * @param start
+	 *            the first draw call (inclusive)
+	 * @param end
+	 *            the last draw call (exclusive)
+	 * @param grid
+	 *            the target grid
+	 */
+	private void replay(int start, int end, GameGrid grid) {
+		float[] d = this.data;
+		for (int c = start * RenderSnapshot.COMMAND_SIZE; c < end * RenderSnapshot.COMMAND_SIZE; c += RenderSnapshot.COMMAND_SIZE) {
+			int flags = this.commands[c];
+			int argb = this.commands[c + 1];
+			int i = this.commands[c + 2];
+			int argument = this.commands[c + 3];
+			boolean ingame = (flags & RenderSnapshot.INGAME) != 0;
+			boolean usefilter = (flags & RenderSnapshot.FILTER) != 0;
+			switch (flags & RenderSnapshot.TYPE_MASK) {
+			case RECTANGLE:
+				grid.drawRectangle(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], argb, ingame, usefilter);
+				break;
+			case CIRCLE:
+				grid.drawCircle(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], argb, ingame, usefilter);
+				break;
+			case ROUND_RECTANGLE:
+				grid.drawRoundRectangle(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], argb, d[i + 5], d[i + 6], ingame, usefilter);
+				break;
+			case LINE:
+				grid.drawLine(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], d[i + 5], argument, argb, ingame, usefilter);
+				break;
+			case IMAGE:
+				grid.drawImage(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], argument, ingame, usefilter);
+				break;
+			case POLYGON:
+				grid.drawPolygon(d, i + 1, argument, d[i], argb, (flags & RenderSnapshot.FILL) != 0, usefilter);
+				break;
+			case TEXT:
+				grid.drawText(d[i], d[i + 1], d[i + 2], (String) this.refs[argument], (TextOptions) this.refs[argument + 1], ingame);
+				break;
+			case PATH:
+				grid.drawPath(d[i], d[i + 1], d[i + 2], d, i + 4, (int) d[i + 3], argb, argument, usefilter);
+				break;
+			case CACHED:
+				@SuppressWarnings("unchecked")
+				BiConsumer<GameGrid, Vec> painter = (BiConsumer<GameGrid, Vec>) this.refs[argument + 1];
+				grid.drawCached(d[i], d[i + 1], d[i + 2], d[i + 3], d[i + 4], this.refs[argument], painter);
+				break;
+			default:
+				throw new IllegalStateException("Unknown command: " + flags);
+			}
+		}
+	}
+
+	/**
+	 * Clear the buffers for recording.
+	 */
+	private void clear() {
+		Arrays.fill(this.refs, 0, this.refCount, null);
+		Arrays.fill(this.positions, 0, this.elementCount, null);
+		Arrays.fill(this.sizes, 0, this.elementCount, null);
+		Arrays.fill(this.types, 0, this.elementCount, null);
+		this.dirtyRegions.clear();
+		this.tracked = false;
+		this.baseId = -1;
+		this.cameraOffset = 0;
+		this.previousCameraOffset = 0;
+		this.commandCount = 0;
+		this.dataCount = 0;
+		this.refCount = 0;
+		this.textCount = 0;
+		this.elementCount = 0;
+	}
+
+	/**
+	 * This {@link GameGrid} records all draw calls into the buffers of a
+	 * {@link RenderSnapshot}. A recorder owns several snapshots and reuses
+	 * those which are neither published nor acquired (see
+	 * {@link RenderSnapshot#acquire()}), so the buffers are at least double
+	 * buffered. A recorder must be used by one thread only.
+	 *
+	 */
+	public static final class Recorder extends GameGrid {
+		/**
+		 * All snapshots of the recorder.
+		 */
+		private final List<RenderSnapshot> snapshots = new ArrayList<>();
+		/**
+		 * The snapshot which is being recorded or {@code null}.
+		 */
+		private RenderSnapshot current;
+		/**
+		 * The latest published snapshot or {@code null}.
+		 */
+		private RenderSnapshot published;
+		/**
+		 * Indicates whether the draw calls of the gui are being recorded.
+		 */
+		private boolean gui = false;
+
+		/**
+		 * Start recording a new snapshot into buffers which are neither
+		 * published nor acquired.
+		 */
+		public void begin() {
+			if (this.current != null) {
+				throw new IllegalStateException("The recording has not been finished");
+			}
+			for (RenderSnapshot snapshot : this.snapshots) {
+				if (snapshot != this.published && snapshot.state.compareAndSet(0, -1)) {
+					this.current = snapshot;
+					break;
+				}
+			}
+			if (this.current == null) {
+				this.current = new RenderSnapshot();
+				this.snapshots.add(this.current);
+			}
+			this.current.clear();
+			this.gui = false;
+		}
+
+		/**
+		 * Start recording the draw calls of an element. Elements have to be
+		 * recorded before the gui.
+		 *
+		 * @param pos
+		 *            the position of the element
+		 * @param size
+		 *            the size of the element
+		 * @param type
+		 *            the type of the element
+		 */
+		public void beginElement(Vec pos, Vec size, Class<?> type) {
+			this.beginElement(pos, size, type, pos == null ? 0 : pos.x, pos == null ? 0 : pos.y);
+		}
+
+		/**
+		 * Start recording the draw calls of an element which has moved during
+		 * the step. Elements have to be recorded before the gui.
+		 *
+		 * @param pos
+		 *            the position of the element
+		 * @param size
+		 *            the size of the element
+		 * @param type
+		 *            the type of the element
+		 * @param previousX
+		 *            the x-component of the position at the beginning of the
+		 *            step
+		 * @param previousY
+		 *            the y-component of the position at the beginning of the
+		 *            step
+		 */
+		public void beginElement(Vec pos, Vec size, Class<?> type, float previousX, float previousY) {
+			if (this.gui) {
+				throw new IllegalStateException("Elements have to be recorded before the gui");
+			}
+			RenderSnapshot s = this.current;
+			if (s.elementCount != 0) {
+				s.ends[s.elementCount - 1] = s.commandCount;
+			}
+			if (s.elementCount == s.types.length) {
+				int length = 2 * s.types.length;
+				s.ends = Arrays.copyOf(s.ends, length);
+				s.positions = Arrays.copyOf(s.positions, length);
+				s.previousX = Arrays.copyOf(s.previousX, length);
+				s.previousY = Arrays.copyOf(s.previousY, length);
+				s.sizes = Arrays.copyOf(s.sizes, length);
+				s.types = Arrays.copyOf(s.types, length);
+			}
+			s.positions[s.elementCount] = pos;
+			s.previousX[s.elementCount] = previousX;
+			s.previousY[s.elementCount] = previousY;
+			s.sizes[s.elementCount] = size;
+			s.types[s.elementCount] = type;
+			s.elementCount++;
+		}
+
+		/**
+		 * Start recording the draw calls of the gui.
+		 */
+		public void beginGui() {
+			RenderSnapshot s = this.current;
+			if (!this.gui && s.elementCount != 0) {
+				s.ends[s.elementCount - 1] = s.commandCount;
+			}
+			this.gui = true;
+		}
+
+		/**
+		 * Track the regions which have changed since the previous snapshot
+		 * (see {@link #addDirtyRegion(Frame)}).
+		 *
+		 * @param previousId
+		 *            the id of the previous snapshot of the scene or
+		 *            {@code -1} if everything has changed
+		 */
+		public void trackDirtyRegions(long previousId) {
+			this.current.tracked = true;
+			this.current.baseId = previousId;
+		}
+
+		/**
+		 * Add a region which has changed since the previous snapshot.
+		 *
+		 * @param region
+		 *            the region (in pixels)
+		 */
+		public void addDirtyRegion(Frame region) {
+			this.current.dirtyRegions.add(region);
+		}
+
+		/**
+		 * Finish the recording. The snapshot may be published afterwards; its
+		 * buffers will not be reused until the next snapshot has been built.
+		 *
+		 * @return the snapshot
+		 */
+		public RenderSnapshot build() {
+			this.beginGui();
+			RenderSnapshot snapshot = this.current;
+			snapshot.id = RenderSnapshot.NEXT_ID.getAndIncrement();
+			this.current = null;
+			this.published = snapshot;
+			snapshot.state.set(0);
+			return snapshot;
+		}
+
+		/**
+		 * Append a command to the buffers.
+		 *
+		 * @param type
+		 *            the type and flags of the command
+		 * @param argb
+		 *            the color
+		 * @param argument
+		 *            the argument of the command
+		 * @param floats
+		 *            the amount of data entries to reserve
+		 * @return the index of the reserved data entries
+		 */
+		private int record(int type, int argb, int argument, int floats) {
+			RenderSnapshot s = this.current;
+			int command = s.commandCount * RenderSnapshot.COMMAND_SIZE;
+			if (command == s.commands.length) {
+				s.commands = Arrays.copyOf(s.commands, s.commands.length * 2);
+			}
+			if (s.dataCount + floats > s.data.length) {
+				s.data = Arrays.copyOf(s.data, Math.max(s.data.length * 2, s.dataCount + floats));
+			}
+			int index = s.dataCount;
+			s.commands[command] = type;
+			s.commands[command + 1] = argb;
+			s.commands[command + 2] = index;
+			s.commands[command + 3] = argument;
+			s.commandCount++;
+			s.dataCount += floats;
+			return index;
+		}
+
+		/**
+		 * Record a command which is defined by a bounding box.
+		 *
+		 * @param type
+		 *            the type and flags of the command
+		 * @param argb
+		 *            the color
+		 * @param argument
+		 *            the argument of the command
+		 * @param pos
+		 *            the position
+		 * @param size
+		 *            the size
+		 * @param floats
+		 *            the amount of data entries (at least five)
+		 * @return the index of the data of the command
+		 */
+		private int recordBox(int type, int argb, int argument, Vec pos, Vec size, int floats) {
+			int index = this.record(type, argb, argument, floats);
+			float[] d = this.current.data;
+			d[index] = pos.x;
+			d[index + 1] = pos.y;
+			d[index + 2] = pos.z;
+			d[index + 3] = size.x;
+			d[index + 4] = size.y;
+			return index;
+		}
+
+		/**
+		 * Append an object to the buffers.
+		 *
+		 * @param ref
+		 *            the object
+		 * @return the index of the object
+		 */
+		private int addRef(Object ref) {
+			RenderSnapshot s = this.current;
+			if (s.refCount == s.refs.length) {
+				s.refs = Arrays.copyOf(s.refs, s.refs.length * 2);
+			}
+			s.refs[s.refCount] = ref;
+			return s.refCount++;
+		}
+
+		/**
+		 * Get a copy of text options. The copy of the previous recording of
+		 * this text (by order) will be reused if the options are equal.
+		 *
+		 * @param options
+		 *            the options
+		 * @return the copy
+		 */
+		private TextOptions copy(TextOptions options) {
+			RenderSnapshot s = this.current;
+			if (s.textCount == s.textOptions.length) {
+				s.textOptions = Arrays.copyOf(s.textOptions, s.textOptions.length * 2);
+			}
+			TextOptions copy = s.textOptions[s.textCount];
+			if (copy == null || !Recorder.equals(copy, options)) {
+				copy = options.clone();
+				s.textOptions[s.textCount] = copy;
+			}
+			s.textCount++;
+			return copy;
+		}
+
+		/**
+		 * Check whether two text options are equal.
+		 *
+		 * @param a
+		 *            the first options
+		 * @param b
+		 *            the second options
+		 * @return {@code true} if all fields are equal, {@code false}
+		 *         otherwise
+		 */
+		private static boolean equals(TextOptions a, TextOptions b) {
+			return a.getHeight() == b.getHeight() && a.getFontOptions() == b.getFontOptions() && a.getUseFilter() == b.getUseFilter() //
+					&& a.getAlignment().x == b.getAlignment().x && a.getAlignment().y == b.getAlignment().y //
+					&& a.getColor().toARGB() == b.getColor().toARGB() && Objects.equals(a.getFont(), b.getFont());
+		}
+
+		/**
+		 * Get the flags of a command.
+		 *
+		 * @param type
+		 *            the type of the command
+		 * @param ingame
+		 *            indicates whether the command is drawn in-game
+		 * @param usefilter
+		 *            indicates whether the command shall be filtered
+		 * @return the type with flags
+		 */
+		private static int flags(int type, boolean ingame, boolean usefilter) {
+			return type | (ingame ? RenderSnapshot.INGAME : 0) | (usefilter ? RenderSnapshot.FILTER : 0);
+		}
+
+		@Override
+		public void setCurrentOffset(float cameraOffsetUnits) {
+			this.current.cameraOffset = cameraOffsetUnits;
+			this.current.previousCameraOffset = cameraOffsetUnits;
+		}
+
+		/**
+		 * Set the camera offset at the beginning of the step (after
+		 * {@link #setCurrentOffset(float)}).
+		 *
+		 * @param cameraOffsetUnits
+		 *            the previous camera offset in units
+		 */
+		public void setPreviousOffset(float cameraOffsetUnits) {
+			this.current.previousCameraOffset = cameraOffsetUnits;
+		}
+
+		@Override
+		public void drawRectangle(Vec pos, Vec size, RGBAColor color, boolean ingame, boolean usefilter) {
+			this.recordBox(Recorder.flags(RenderSnapshot.RECTANGLE, ingame, usefilter), color.toARGB(), 0, pos, size, 5);
+		}
+
+		@Override
+		public void drawCircle(Vec pos, Vec size, RGBAColor color, boolean ingame, boolean usefilter) {
+			this.recordBox(Recorder.flags(RenderSnapshot.CIRCLE, ingame, usefilter), color.toARGB(), 0, pos, size, 5);
+		}
+
+		@Override
+		public void drawLine(Vec a, Vec b, int lineWidth, RGBAColor color, boolean ingame, boolean usefilter) {
+			int index = this.record(Recorder.flags(RenderSnapshot.LINE, ingame, usefilter), color.toARGB(), lineWidth, 6);
+			float[] d = this.current.data;
+			d[index] = a.x;
+			d[index + 1] = a.y;
+			d[index + 2] = a.z;
+			d[index + 3] = b.x;
+			d[index + 4] = b.y;
+			d[index + 5] = b.z;
+		}
+
+		@Override
+		public void drawImage(Vec pos, Vec size, String imagePath, boolean ingame, boolean usefilter) {
+			this.drawImage(pos, size, GameGrid.registerImage(imagePath), ingame, usefilter);
+		}
+
+		@Override
+		public void drawImage(Vec pos, Vec size, int imageId, boolean ingame, boolean usefilter) {
+			this.recordBox(Recorder.flags(RenderSnapshot.IMAGE, ingame, usefilter), 0, imageId, pos, size, 5);
+		}
+
+		@Override
+		public void drawPolygon(Polygon polygon, RGBAColor color, boolean fill, boolean usefilter) {
+			int size = polygon.getPointCount();
+			int type = Recorder.flags(RenderSnapshot.POLYGON, true, usefilter) | (fill ? RenderSnapshot.FILL : 0);
+			int index = this.record(type, color.toARGB(), size, 1 + 2 * size);
+			this.current.data[index] = polygon.getStartPoint().z;
+			polygon.getAbsoluteArray(this.current.data, index + 1);
+		}
+
+		@Override
+		public void drawPolygons(float[] points, int[] sizes, int[] colors, int count, boolean fill, boolean usefilter) {
+			int type = Recorder.flags(RenderSnapshot.POLYGON, true, usefilter) | (fill ? RenderSnapshot.FILL : 0);
+			int offset = 0;
+			for (int i = 0; i < count; i++) {
+				int length = 2 * sizes[i];
+				// the points are absolute (without perspective)
+				int index = this.record(type, colors[i], sizes[i], 1 + length);
+				this.current.data[index] = 0;
+				System.arraycopy(points, offset, this.current.data, index + 1, length);
+				offset += length;
+			}
+		}
+
+		@Override
+		public void drawText(Vec pos, String text, TextOptions options, boolean ingame) {
+			int ref = this.addRef(text);
+			this.addRef(this.copy(options));
+			int index = this.record(Recorder.flags(RenderSnapshot.TEXT, ingame, false), 0, ref, 3);
+			float[] d = this.current.data;
+			d[index] = pos.x;
+			d[index + 1] = pos.y;
+			d[index + 2] = pos.z;
+		}
+
+		@Override
+		public void drawRoundRectangle(Vec pos, Vec size, RGBAColor color, float arcWidth, float arcHeight, boolean ingame, boolean usefilter) {
+			int index = this.recordBox(Recorder.flags(RenderSnapshot.ROUND_RECTANGLE, ingame, usefilter), color.toARGB(), 0, pos, size, 7);
+			this.current.data[index + 5] = arcWidth;
+			this.current.data[index + 6] = arcHeight;
+		}
+
+		@Override
+		public void drawCached(Vec pos, Vec size, Object key, BiConsumer<GameGrid, Vec> painter) {
+			int ref = this.addRef(key);
+			this.addRef(painter);
+			this.recordBox(Recorder.flags(RenderSnapshot.CACHED, true, false), 0, ref, pos, size, 5);
+		}
+
+		@Override
+		public void drawPath(Vec startPos, List<Vec> pts, RGBAColor color, int lineWidth, boolean usefilter) {
+			int size = pts.size();
+			int index = this.record(Recorder.flags(RenderSnapshot.PATH, true, usefilter), color.toARGB(), lineWidth, 4 + 2 * size);
+			float[] d = this.current.data;
+			d[index] = startPos.x;
+			d[index + 1] = startPos.y;
+			d[index + 2] = startPos.z;
+			d[index + 3] = size;
+			for (int pt = 0; pt < size; pt++) {
+				Vec p = pts.get(pt);
+				d[index + 4 + 2 * pt] = p.x;
+				d[index + 5 + 2 * pt] = p.y;
+			}
+		}
+	}
+}
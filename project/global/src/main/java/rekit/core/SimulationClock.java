@@ -0,0 +1,90 @@
+package rekit.core;
+
+import rekit.config.GameConf;
+
+/**
+ * This class represents the clock of one simulation (usually a scene). The
+ * clock does not depend on the real time: it will only be advanced by
+ * {@link #advance(long)} (typically by {@link GameConf#LOGIC_DELTA} per logic
+ * step) and stands still while paused.
+ *
+ */
+public final class SimulationClock {
+	/**
+	 * The current time in millis.
+	 */
+	private volatile long time;
+	/**
+	 * The amount of steps the clock has been advanced.
+	 */
+	private volatile long ticks;
+	/**
+	 * Indicates whether the clock is paused.
+	 */
+	private volatile boolean paused;
+
+	/**
+	 * Create a new clock at time 0.
+	 */
+	public SimulationClock() {
+		this.time = 0;
+		this.ticks = 0;
+		this.paused = false;
+	}
+
+	/**
+	 * Advance the clock by one step. This will be ignored while the clock is
+	 * paused.
+	 *
+	 * @param delta
+	 *            the length of the step in millis
+	 */
+	public synchronized void advance(long delta) {
+		if (this.paused) {
+			return;
+		}
+		this.time += delta;
+		this.ticks++;
+	}
+
+	/**
+	 * Get the current time.
+	 *
+	 * @return the time in millis
+	 */
+	public long getTime() {
+		return this.time;
+	}
+
+	/**
+	 * Get the amount of steps the clock has been advanced.
+	 *
+	 * @return the amount of steps
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * Pause the clock.
+	 */
+	public synchronized void pause() {
+		this.paused = true;
+	}
+
+	/**
+	 * Resume from pause.
+	 */
+	public synchronized void resume() {
+		this.paused = false;
+	}
+
+	/**
+	 * Indicates whether the clock has been stopped.
+	 *
+	 * @return {@code true} if stopped, {@code false} otherwise
+	 */
+	public boolean isPaused() {
+		return this.paused;
+	}
+}
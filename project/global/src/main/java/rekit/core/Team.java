@@ -40,6 +40,22 @@ public enum Team {
 	 */
 	public final Range zRange;
 
+	/**
+	 * The precomputed result of {@link #canCollide(Team)} indexed by the
+	 * ordinals of both teams.
+	 */
+	private static final boolean[][] COLLISION_MATRIX;
+
+	static {
+		Team[] teams = Team.values();
+		COLLISION_MATRIX = new boolean[teams.length][teams.length];
+		for (Team a : teams) {
+			for (Team b : teams) {
+				Team.COLLISION_MATRIX[a.ordinal()][b.ordinal()] = Team.calcCanCollide(a, b);
+			}
+		}
+	}
+
 	/**
 	 * Create a team by its min and max z-layer.
 	 *
@@ -69,6 +85,42 @@ public enum Team {
 		return false;
 	}
 
+	/**
+	 * Check whether a collision of elements of this team and team t can have
+	 * any effect. This is the case if one team is hostile to the other or if
+	 * one team is {@link #INANIMATE} and the other can be blocked by solid
+	 * elements ({@link #ENEMY} or {@link #PICKUP}). The relation is
+	 * symmetric.
+	 *
+	 * @param t
+	 *            the other team
+	 * @return {@code true} if a collision has to be checked, {@code false}
+	 *         otherwise
+	 */
+	public final boolean canCollide(Team t) {
+		return Team.COLLISION_MATRIX[this.ordinal()][t.ordinal()];
+	}
+
+	/**
+	 * Calculate the value of {@link #canCollide(Team)}.
+	 *
+	 * @param a
+	 *            the first team
+	 * @param b
+	 *            the second team
+	 * @return {@code true} if a collision has to be checked, {@code false}
+	 *         otherwise
+	 */
+	private static boolean calcCanCollide(Team a, Team b) {
+		if (a.isNeutral() || b.isNeutral()) {
+			return false;
+		}
+		if (a.isHostile(b) || b.isHostile(a)) {
+			return true;
+		}
+		return a == INANIMATE && (b == ENEMY || b == PICKUP) || b == INANIMATE && (a == ENEMY || a == PICKUP);
+	}
+
 	/**
 	 * Is this the {@link Team} neutral (no interactions possible).
 	 *
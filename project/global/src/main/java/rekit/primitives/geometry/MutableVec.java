@@ -0,0 +1,246 @@
+package rekit.primitives.geometry;
+
+import net.jafama.FastMath;
+
+/**
+ * A mutable three dimensional Vector. In contrast to {@link Vec}, all
+ * operations change this vector and return it (for chaining), so it can be
+ * used as reusable scratch vector in hot paths without creating garbage.<br>
+ * Use {@link #toVec()} to get an immutable copy.
+ *
+ */
+public final class MutableVec {
+	/**
+	 * The x-component of the vector.
+	 */
+	public float x;
+	/**
+	 * The y-component of the vector.
+	 */
+	public float y;
+	/**
+	 * The optional z-component of the vector.
+	 */
+	public float z;
+
+	/**
+	 * Create a new vector (0|0).
+	 */
+	public MutableVec() {
+		// All components are zero
+	}
+
+	/**
+	 * Create a new vector by components.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 */
+	public MutableVec(float x, float y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Create a new vector by a {@link Vec}.
+	 *
+	 * @param vec
+	 *            the vector to copy
+	 */
+	public MutableVec(Vec vec) {
+		this.set(vec);
+	}
+
+	/**
+	 * Set all components by a {@link Vec}.
+	 *
+	 * @param vec
+	 *            the vector to copy
+	 * @return this vector
+	 */
+	public MutableVec set(Vec vec) {
+		this.x = vec.x;
+		this.y = vec.y;
+		this.z = vec.z;
+		return this;
+	}
+
+	/**
+	 * Set x- and y-component.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 * @return this vector
+	 */
+	public MutableVec set(float x, float y) {
+		this.x = x;
+		this.y = y;
+		return this;
+	}
+
+	/**
+	 * Set the x-component.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @return this vector
+	 */
+	public MutableVec setX(float x) {
+		this.x = x;
+		return this;
+	}
+
+	/**
+	 * Set the y-component.
+	 *
+	 * @param y
+	 *            the y-component
+	 * @return this vector
+	 */
+	public MutableVec setY(float y) {
+		this.y = y;
+		return this;
+	}
+
+	/**
+	 * Add a delta to the x-component.
+	 *
+	 * @param deltaX
+	 *            the delta
+	 * @return this vector
+	 */
+	public MutableVec addX(float deltaX) {
+		this.x += deltaX;
+		return this;
+	}
+
+	/**
+	 * Add a delta to the y-component.
+	 *
+	 * @param deltaY
+	 *            the delta
+	 * @return this vector
+	 */
+	public MutableVec addY(float deltaY) {
+		this.y += deltaY;
+		return this;
+	}
+
+	/**
+	 * Add another vector (z-component will be kept).
+	 *
+	 * @param vec
+	 *            the other vector
+	 * @return this vector
+	 */
+	public MutableVec add(Vec vec) {
+		this.x += vec.x;
+		this.y += vec.y;
+		return this;
+	}
+
+	/**
+	 * Add another vector (z-component will be kept).
+	 *
+	 * @param vec
+	 *            the other vector
+	 * @return this vector
+	 */
+	public MutableVec add(MutableVec vec) {
+		this.x += vec.x;
+		this.y += vec.y;
+		return this;
+	}
+
+	/**
+	 * Add a scaled vector ({@code this + vec * scalar}).
+	 *
+	 * @param vec
+	 *            the other vector
+	 * @param scalar
+	 *            the scalar
+	 * @return this vector
+	 */
+	public MutableVec addScaled(Vec vec, float scalar) {
+		this.x += vec.x * scalar;
+		this.y += vec.y * scalar;
+		return this;
+	}
+
+	/**
+	 * Subtract another vector (z-component will be kept).
+	 *
+	 * @param vec
+	 *            the other vector
+	 * @return this vector
+	 */
+	public MutableVec sub(Vec vec) {
+		this.x -= vec.x;
+		this.y -= vec.y;
+		return this;
+	}
+
+	/**
+	 * Multiply x- and y-component with a scalar.
+	 *
+	 * @param scalar
+	 *            the scalar
+	 * @return this vector
+	 */
+	public MutableVec scalar(float scalar) {
+		return this.scalar(scalar, scalar);
+	}
+
+	/**
+	 * Multiply x- and y-component with scalars.
+	 *
+	 * @param scalarX
+	 *            the scalar for the x-component
+	 * @param scalarY
+	 *            the scalar for the y-component
+	 * @return this vector
+	 */
+	public MutableVec scalar(float scalarX, float scalarY) {
+		this.x *= scalarX;
+		this.y *= scalarY;
+		return this;
+	}
+
+	/**
+	 * Rotate this vector relative to a vector.
+	 *
+	 * @param angle
+	 *            the angle
+	 * @param relative
+	 *            the relative vector for rotation
+	 * @return this vector
+	 * @see Vec#rotate(double, Vec)
+	 */
+	public MutableVec rotate(double angle, Vec relative) {
+		float shiftedX = this.x - relative.x;
+		float shiftedY = this.y - relative.y;
+		double cos = FastMath.cosQuick(angle);
+		double sin = FastMath.sinQuick(angle);
+		this.x = (float) (shiftedX * cos - shiftedY * sin) + relative.x;
+		this.y = (float) (shiftedX * sin + shiftedY * cos) + relative.y;
+		return this;
+	}
+
+	/**
+	 * Create an immutable copy of this vector.
+	 *
+	 * @return the new {@link Vec}
+	 */
+	public Vec toVec() {
+		return new Vec(this.x, this.y, this.z);
+	}
+
+	@Override
+	public String toString() {
+		return "(" + this.x + "|" + this.y + (this.z != 0 ? "|" + this.z : "") + ")";
+	}
+}
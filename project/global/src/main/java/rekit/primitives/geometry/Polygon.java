@@ -142,21 +142,42 @@ public final class Polygon implements Cloneable {
 	 */
 	public float[] getAbsoluteArray() {
 		// prepare actual array {x1, y1, x2, y2, ...}
-		float[] actualArray = new float[2 + this.relPts.size() * 2];
+		float[] actualArray = new float[2 * this.getPointCount()];
+		this.getAbsoluteArray(actualArray, 0);
+		return actualArray;
+	}
+
+	/**
+	 * Get the amount of points (including the start point).
+	 *
+	 * @return the amount of points
+	 */
+	public int getPointCount() {
+		return 1 + this.relPts.size();
+	}
 
+	/**
+	 * Write the absolute positions of all points to an array
+	 * ({x1, y1, x2, y2, ...}).
+	 *
+	 * @param target
+	 *            the array (at least {@code 2 * }{@link #getPointCount()}
+	 *            entries after the offset)
+	 * @param offset
+	 *            the index of the first entry
+	 */
+	public void getAbsoluteArray(float[] target, int offset) {
 		// save first (absolute) point x1, y1
-		actualArray[0] = this.startPoint.x;
-		actualArray[1] = this.startPoint.y;
+		target[offset] = this.startPoint.x;
+		target[offset + 1] = this.startPoint.y;
 
 		// calculate rest of absolute points from relative points to start
-		int i = 0;
+		int i = offset + 2;
 		for (Vec relPt : this.relPts) {
-			actualArray[2 * i + 2] = this.startPoint.x + relPt.x;
-			actualArray[2 * i + 3] = this.startPoint.y + relPt.y;
-			i++;
+			target[i] = this.startPoint.x + relPt.x;
+			target[i + 1] = this.startPoint.y + relPt.y;
+			i += 2;
 		}
-
-		return actualArray;
 	}
 
 	/**
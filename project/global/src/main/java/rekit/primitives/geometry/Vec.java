@@ -27,6 +27,10 @@ public final class Vec implements Cloneable, Operable<Vec> {
 	 * The optional z-component of the vector.
 	 */
 	public final float z;
+	/**
+	 * The vector (0|0).
+	 */
+	private static final Vec ZERO = new Vec();
 
 	/**
 	 * Constructor that takes the initial coordinates an saves them.
@@ -158,7 +162,7 @@ public final class Vec implements Cloneable, Operable<Vec> {
 
 	@Override
 	public Vec sub(Vec other) {
-		return this.add(other.scalar(-1));
+		return new Vec(this.x - other.x, this.y - other.y, this.z);
 	}
 
 	/**
@@ -233,15 +237,15 @@ public final class Vec implements Cloneable, Operable<Vec> {
 	 */
 	public Vec rotate(double angle, Vec relative) {
 		// translate toTurn to (0, 0) relative to relative
-		Vec shifted = this.add(relative.scalar(-1));
-
-		// rotate shifted vector
-		Vec rotated = new Vec();
-		rotated = rotated.setX((float) (shifted.x * FastMath.cosQuick(angle) - shifted.y * FastMath.sinQuick(angle)));
-		rotated = rotated.setY((float) (shifted.x * FastMath.sinQuick(angle) + shifted.y * FastMath.cosQuick(angle)));
-		rotated = rotated.setZ(this.z);
-
-		return rotated.add(relative);
+		float shiftedX = this.x - relative.x;
+		float shiftedY = this.y - relative.y;
+
+		// rotate shifted vector and translate it back
+		double cos = FastMath.cosQuick(angle);
+		double sin = FastMath.sinQuick(angle);
+		float rotatedX = (float) (shiftedX * cos - shiftedY * sin);
+		float rotatedY = (float) (shiftedX * sin + shiftedY * cos);
+		return new Vec(rotatedX + relative.x, rotatedY + relative.y, this.z);
 	}
 
 	/**
@@ -252,7 +256,7 @@ public final class Vec implements Cloneable, Operable<Vec> {
 	 * @return the new vector
 	 */
 	public Vec rotate(double angle) {
-		return this.rotate(angle, new Vec());
+		return this.rotate(angle, Vec.ZERO);
 	}
 
 	@Override
@@ -77,6 +77,16 @@ public final class RGBAColor implements Cloneable, Operable<RGBAColor> {
 		this.blue = (color) & 0xFF;
 	}
 
+	/**
+	 * Get the int coded ARGB color (every channel will be truncated to 8 bit).
+	 *
+	 * @return the ARGB color
+	 * @see #RGBAColor(int)
+	 */
+	public int toARGB() {
+		return (this.alpha & 0xFF) << 24 | (this.red & 0xFF) << 16 | (this.green & 0xFF) << 8 | (this.blue & 0xFF);
+	}
+
 	/**
 	 * Darken the color.
 	 *
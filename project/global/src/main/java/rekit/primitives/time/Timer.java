@@ -2,7 +2,7 @@ package rekit.primitives.time;
 
 import rekit.config.GameConf;
 import rekit.core.GameTime;
-import rekit.util.ThreadUtils;
+import rekit.core.SimulationClock;
 
 /**
  * Data class that holds an duration time.
@@ -20,20 +20,39 @@ public final class Timer {
 	 * The time left millis.
 	 */
 	private long timeLeft;
+	/**
+	 * The clock which measures the time.
+	 */
+	private final SimulationClock clock;
 	/**
 	 * The last time {@link #logicLoop()} was invoked.
 	 */
-	private long lastTime = GameTime.getTime();
+	private long lastTime;
 
 	/**
-	 * Create a TimeDependency by duration time.
+	 * Create a TimeDependency by duration time. The time will be measured by
+	 * the current clock (see {@link GameTime#getClock()}).
 	 *
 	 * @param duration
 	 *            the duration time in millis
 	 */
 	public Timer(long duration) {
+		this(duration, GameTime.getClock());
+	}
+
+	/**
+	 * Create a TimeDependency by duration time and clock.
+	 *
+	 * @param duration
+	 *            the duration time in millis
+	 * @param clock
+	 *            the clock which measures the time
+	 */
+	public Timer(long duration, SimulationClock clock) {
 		this.duration = duration;
 		this.timeLeft = duration;
+		this.clock = clock;
+		this.lastTime = clock.getTime();
 	}
 
 	/**
@@ -41,7 +60,7 @@ public final class Timer {
 	 * {@link GameConf#LOGIC_DELTA} ms.
 	 */
 	public void logicLoop() {
-		long now = GameTime.getTime();
+		long now = this.clock.getTime();
 		this.removeTime(now - this.lastTime);
 		this.lastTime = now;
 	}
@@ -90,36 +109,4 @@ public final class Timer {
 	public void offset(long offset) {
 		this.removeTime(offset);
 	}
-
-	/**
-	 * This method can be used instead of {@link ThreadUtils#sleep(long)} if
-	 * {@link GameTime#pause()} shall take effect.<br>
-	 * <b>Be careful: If game is paused, this method will cause endless
-	 * waiting</b>
-	 *
-	 * @param offset
-	 *            the time to wait in millis
-	 */
-	public static void sleep(long offset) {
-		Timer t = new Timer(offset);
-		while (!t.timeUp()) {
-			t.logicLoop();
-			ThreadUtils.sleep(GameConf.LOGIC_DELTA);
-		}
-	}
-
-	/**
-	 * This method can be used instead to execute a job after a specified time.
-	 *
-	 * @param offset
-	 *            the time to wait in millis
-	 * @param r
-	 *            the job
-	 */
-	public static void execute(int offset, Runnable r) {
-		ThreadUtils.runDaemon("" + r, () -> {
-			Timer.sleep(offset);
-			r.run();
-		});
-	}
 }
@@ -0,0 +1,62 @@
+package rekit.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * This class measures the memory allocated by the current thread (e.g. to
+ * find garbage in hot paths). The measurement is only supported on JVMs which
+ * provide {@link com.sun.management.ThreadMXBean}.
+ *
+ */
+public final class AllocationCounter {
+	/**
+	 * Prevent instantiation.
+	 */
+	private AllocationCounter() {
+	}
+
+	/**
+	 * The thread bean or {@code null} if not supported.
+	 */
+	private static final com.sun.management.ThreadMXBean THREADS = AllocationCounter.findThreadBean();
+
+	/**
+	 * Find a thread bean which supports the measurement of allocations.
+	 *
+	 * @return the bean or {@code null} if not supported
+	 */
+	private static com.sun.management.ThreadMXBean findThreadBean() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+			return null;
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		if (!threads.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+		return threads;
+	}
+
+	/**
+	 * Indicates whether the measurement is supported.
+	 *
+	 * @return {@code true} if supported, {@code false} otherwise
+	 */
+	public static boolean isSupported() {
+		return AllocationCounter.THREADS != null;
+	}
+
+	/**
+	 * Get the amount of memory the current thread has allocated so far.
+	 *
+	 * @return the amount of bytes or {@code -1} if not supported
+	 */
+	public static long getAllocatedBytes() {
+		if (AllocationCounter.THREADS == null) {
+			return -1;
+		}
+		return AllocationCounter.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
@@ -0,0 +1,71 @@
+package rekit.util;
+
+import java.util.Random;
+
+/**
+ * This {@link Random} delegates to the source of randomness bound to the
+ * current thread (see {@link #bind(Random)}). If none is bound, it behaves
+ * like a plain {@link Random}. This allows parallel simulations to use their
+ * own (e.g. seeded) randomness without changing the code using
+ * {@link rekit.config.GameConf#PRNG}.
+ *
+ */
+public final class BindableRandom extends Random {
+	/**
+	 * The serial version UID.
+	 */
+	private static final long serialVersionUID = 6281594731804153227L;
+	/**
+	 * The sources of randomness bound to threads (initialized after
+	 * {@link Random#Random()} has set the seed).
+	 */
+	private final transient ThreadLocal<Random> bound = new ThreadLocal<>();
+
+	/**
+	 * Bind a source of randomness to the current thread.
+	 *
+	 * @param random
+	 *            the source of randomness or {@code null} to unbind
+	 * @return the previously bound source or {@code null} if none
+	 */
+	public Random bind(Random random) {
+		Random previous = this.bound.get();
+		if (random == null) {
+			this.bound.remove();
+		} else {
+			this.bound.set(random);
+		}
+		return previous;
+	}
+
+	/**
+	 * Get the source of randomness bound to the current thread.
+	 *
+	 * @return the bound source or {@code null} if none
+	 */
+	private Random getBound() {
+		return this.bound == null ? null : this.bound.get();
+	}
+
+	@Override
+	protected int next(int bits) {
+		Random random = this.getBound();
+		return random == null ? super.next(bits) : random.nextInt() >>> (32 - bits);
+	}
+
+	@Override
+	public synchronized double nextGaussian() {
+		Random random = this.getBound();
+		return random == null ? super.nextGaussian() : random.nextGaussian();
+	}
+
+	@Override
+	public synchronized void setSeed(long seed) {
+		Random random = this.getBound();
+		if (random == null) {
+			super.setSeed(seed);
+		} else {
+			random.setSeed(seed);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package rekit.gui;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * This class wraps an image which has been prepared for drawing (see
+ * {@link ImageManagement#toCompatible(java.awt.Image, int, int, GraphicsConfiguration)}).
+ * The image itself is compatible to the device, so it may be cached by Java2D
+ * in video memory. Opaque images will additionally be drawn from a
+ * {@link VolatileImage}, which will be restored from the image if its contents
+ * have been lost.
+ *
+ */
+final class AcceleratedImage {
+	/**
+	 * The (compatible) image.
+	 */
+	private final BufferedImage image;
+	/**
+	 * The accelerated copy of an opaque image or {@code null} if not created
+	 * yet.
+	 */
+	private VolatileImage accelerated;
+
+	/**
+	 * Create a new image.
+	 *
+	 * @param image
+	 *            the compatible image
+	 */
+	AcceleratedImage(BufferedImage image) {
+		this.image = image;
+	}
+
+	/**
+	 * Get the width of the image.
+	 *
+	 * @return the width in pixels
+	 */
+	int getWidth() {
+		return this.image.getWidth();
+	}
+
+	/**
+	 * Get the height of the image.
+	 *
+	 * @return the height in pixels
+	 */
+	int getHeight() {
+		return this.image.getHeight();
+	}
+
+	/**
+	 * Draw the image.
+	 *
+	 * @param g
+	 *            the graphics
+	 * @param x
+	 *            the x-coordinate of the upper left corner
+	 * @param y
+	 *            the y-coordinate of the upper left corner
+	 */
+	void draw(Graphics2D g, int x, int y) {
+		this.draw(g, x, y, 0, 0, this.getWidth(), this.getHeight());
+	}
+
+	/**
+	 * Draw a region of the image (e.g. of a {@link SpriteAtlas}).
+	 *
+	 * @param g
+	 *            the graphics
+	 * @param x
+	 *            the x-coordinate of the upper left corner
+	 * @param y
+	 *            the y-coordinate of the upper left corner
+	 * @param srcX
+	 *            the x-coordinate of the region in the image
+	 * @param srcY
+	 *            the y-coordinate of the region in the image
+	 * @param width
+	 *            the width of the region
+	 * @param height
+	 *            the height of the region
+	 */
+	void draw(Graphics2D g, int x, int y, int srcX, int srcY, int width, int height) {
+		if (this.image.getTransparency() != Transparency.OPAQUE) {
+			g.drawImage(this.image, x, y, x + width, y + height, srcX, srcY, srcX + width, srcY + height, null);
+			return;
+		}
+		GraphicsConfiguration config = g.getDeviceConfiguration();
+		do {
+			int state = this.accelerated == null ? VolatileImage.IMAGE_INCOMPATIBLE : this.accelerated.validate(config);
+			if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+				this.accelerated = config.createCompatibleVolatileImage(this.getWidth(), this.getHeight());
+				state = VolatileImage.IMAGE_RESTORED;
+			}
+			if (state == VolatileImage.IMAGE_RESTORED) {
+				Graphics2D restore = this.accelerated.createGraphics();
+				restore.drawImage(this.image, 0, 0, null);
+				restore.dispose();
+			}
+			g.drawImage(this.accelerated, x, y, x + width, y + height, srcX, srcY, srcX + width, srcY + height, null);
+		} while (this.accelerated.contentsLost());
+	}
+
+	/**
+	 * Get the (compatible) image.
+	 *
+	 * @return the image
+	 */
+	BufferedImage getImage() {
+		return this.image;
+	}
+}
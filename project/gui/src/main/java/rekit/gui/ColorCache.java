@@ -0,0 +1,57 @@
+package rekit.gui;
+
+import java.awt.Color;
+
+/**
+ * This class caches {@link Color Colors} by their int coded ARGB value. The
+ * cache is bounded and direct mapped: every value has exactly one slot, a
+ * colliding value replaces the cached color. So a lookup neither allocates
+ * nor needs any boxing.
+ *
+ */
+final class ColorCache {
+	/**
+	 * The amount of bits of a slot index.
+	 */
+	private static final int BITS = 10;
+	/**
+	 * The ARGB values of the cached colors.
+	 */
+	private final int[] keys = new int[1 << ColorCache.BITS];
+	/**
+	 * The cached colors.
+	 */
+	private final Color[] colors = new Color[1 << ColorCache.BITS];
+	/**
+	 * The amount of created colors.
+	 */
+	private long created;
+
+	/**
+	 * Get the color of an ARGB value.
+	 *
+	 * @param argb
+	 *            the ARGB value
+	 * @return the color
+	 */
+	Color get(int argb) {
+		// Fibonacci hashing spreads similar colors over the slots
+		int slot = (argb * 0x9E3779B9) >>> (32 - ColorCache.BITS);
+		Color color = this.colors[slot];
+		if (color == null || this.keys[slot] != argb) {
+			color = this.colors[slot] = new Color(argb, true);
+			this.keys[slot] = argb;
+			this.created++;
+		}
+		return color;
+	}
+
+	/**
+	 * Get the amount of colors created by this cache.
+	 *
+	 * @return the amount of created colors
+	 */
+	long getCreated() {
+		return this.created;
+	}
+}
@@ -0,0 +1,145 @@
+package rekit.gui;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import rekit.config.GameConf;
+import rekit.logic.filters.Filter;
+
+/**
+ * This class applies a {@link Filter} to whole frames (see
+ * {@link GameConf#FRAME_FILTER}). The frame will be drawn unfiltered into an
+ * int-ARGB back buffer and filtered afterwards in one pass (see
+ * {@link Filter#apply(int)}), which is split by rows and executed by the
+ * common {@link ForkJoinPool}.
+ *
+ */
+final class FrameFilter {
+	/**
+	 * The minimum amount of rows of one task.
+	 */
+	private static final int MIN_ROWS = 32;
+
+	/**
+	 * The filter.
+	 */
+	private final Filter filter;
+	/**
+	 * The back buffer.
+	 */
+	private final BufferedImage image;
+	/**
+	 * The pixels of the {@link #image} (ARGB).
+	 */
+	private final int[] pixels;
+	/**
+	 * The duration of the last pass in microseconds.
+	 */
+	private long duration;
+
+	/**
+	 * Create a new frame filter of the size of the window.
+	 *
+	 * @param filter
+	 *            the filter (see {@link Filter#isApplyPixel()})
+	 */
+	FrameFilter(Filter filter) {
+		this.filter = filter;
+		this.image = new BufferedImage(GameConf.PIXEL_W, GameConf.PIXEL_H, BufferedImage.TYPE_INT_ARGB);
+		this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+	}
+
+	/**
+	 * Create the graphics to draw the next frame into the back buffer.
+	 *
+	 * @return the graphics
+	 */
+	Graphics2D createGraphics() {
+		return this.image.createGraphics();
+	}
+
+	/**
+	 * Apply the filter to the back buffer.
+	 */
+	void apply() {
+		long start = System.nanoTime();
+		// no cached state depends on the filter, but its state has to be
+		// consumed (e.g. RandomMode will only change if polled)
+		this.filter.changed();
+		ForkJoinPool.commonPool().invoke(new Rows(0, this.image.getHeight()));
+		this.duration = (System.nanoTime() - start) / 1000;
+	}
+
+	/**
+	 * Get the (filtered) back buffer.
+	 *
+	 * @return the back buffer
+	 */
+	BufferedImage getImage() {
+		return this.image;
+	}
+
+	/**
+	 * Get the duration of the last pass.
+	 *
+	 * @return the duration in microseconds
+	 */
+	long getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * The task which filters a range of rows. Ranges which are larger than
+	 * {@link FrameFilter#MIN_ROWS} will be split.
+	 *
+	 */
+	private final class Rows extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		/**
+		 * The first row.
+		 */
+		private final int from;
+		/**
+		 * The row after the last row.
+		 */
+		private final int to;
+
+		/**
+		 * Create a new task.
+		 *
+		 * @param from
+		 *            the first row
+		 * @param to
+		 *            the row after the last row
+		 */
+		Rows(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from > FrameFilter.MIN_ROWS) {
+				int middle = (this.from + this.to) >>> 1;
+				RecursiveAction.invokeAll(new Rows(this.from, middle), new Rows(middle, this.to));
+				return;
+			}
+			int[] p = FrameFilter.this.pixels;
+			Filter f = FrameFilter.this.filter;
+			int width = FrameFilter.this.image.getWidth();
+			// neighbored pixels mostly have the same color
+			int last = p[this.from * width];
+			int filtered = f.apply(last);
+			for (int i = this.from * width; i < this.to * width; i++) {
+				if (p[i] != last) {
+					last = p[i];
+					filtered = f.apply(last);
+				}
+				p[i] = filtered;
+			}
+		}
+	}
+}
@@ -4,19 +4,24 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
 import rekit.logic.filters.Filter;
 import rekit.primitives.TextOptions;
+import rekit.primitives.geometry.MutableVec;
 import rekit.primitives.geometry.Polygon;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
@@ -25,22 +30,91 @@ import rekit.util.tuple.Triple;
 import rekit.util.tuple.Tuple;
 
 /**
- * This class represents a {@link GameGrid} of the {@link GameView}.
+ * This class represents a {@link GameGrid} of the {@link GameView}.<br>
+ * All draw calls will be translated to pixels and appended as compact records
+ * (type, packed ARGB color, pixel coordinates) to a reusable command buffer.
+ * {@link #flush()} issues the recorded commands in order and only changes the
+ * state of the {@link Graphics2D} (color, stroke, font) if it differs from the
+ * previous command, so runs of commands with equal state will be drawn
+ * without any state change.
  *
  * @author Angelo Aracri
  * @author Dominik Fuchss
  *
  */
 class GameGridImpl extends GameGrid {
+	/**
+	 * Command: fill a rectangle (data: x, y, width, height).
+	 */
+	private static final int RECTANGLE = 0;
+	/**
+	 * Command: fill an ellipse (data: x, y, width, height).
+	 */
+	private static final int CIRCLE = 1;
+	/**
+	 * Command: fill a rounded rectangle (data: x, y, width, height, arc width,
+	 * arc height).
+	 */
+	private static final int ROUND_RECTANGLE = 2;
+	/**
+	 * Command: fill a polygon (argument: amount of points; data: x1, y1, x2,
+	 * y2, ...).
+	 */
+	private static final int FILL_POLYGON = 3;
+	/**
+	 * Command: draw the outline of a polygon (argument: amount of points;
+	 * data: x1, y1, x2, y2, ...).
+	 */
+	private static final int DRAW_POLYGON = 4;
+	/**
+	 * Command: draw a line (argument: line width; data: x1, y1, x2, y2).
+	 */
+	private static final int LINE = 5;
+	/**
+	 * Command: draw an image (argument: index of the image; data: x, y).
+	 */
+	private static final int IMAGE = 6;
+	/**
+	 * Command: draw a text (argument: index of the text, the font follows;
+	 * data: x, y, x-alignment, y-alignment).
+	 */
+	private static final int TEXT = 7;
+	/**
+	 * Command: draw an image of a {@link SpriteAtlas} (argument: index of the
+	 * atlas; data: x, y, id).
+	 */
+	private static final int ATLAS_IMAGE = 8;
+	/**
+	 * The amount of ints per command (type, color, data index, argument).
+	 */
+	private static final int COMMAND_SIZE = 4;
+	/**
+	 * The initial amount of commands of the buffer.
+	 */
+	private static final int INITIAL_COMMANDS = 1024;
+	/**
+	 * The maximum amount of cached sprites.
+	 */
+	private static final int MAX_SPRITES = 512;
+	/**
+	 * The maximum amount of cached scaled images.
+	 */
+	private static final int MAX_SCALED_IMAGES = 128;
 
 	/**
-	 * The current camera offset.
+	 * The current camera offset in pixels (x-component, including the offset
+	 * of the element, see {@link #setElementOffset(float, float)}).
+	 */
+	private float cameraOffsetX;
+	/**
+	 * The current camera offset in pixels (y-component, including the offset
+	 * of the element).
 	 */
-	private Vec cameraOffset = new Vec();
+	private float cameraOffsetY;
 	/**
 	 * The current camera offset in units.
 	 */
-	private Vec cameraOffsetUnits = new Vec();
+	private float cameraOffsetUnits;
 	/**
 	 * The current filter.
 	 */
@@ -52,16 +126,141 @@ class GameGridImpl extends GameGrid {
 	/**
 	 * The image cache: (Path, Filter) -&gt; Image.
 	 */
-	private final Map<Tuple<String, Filter>, Image> images = new HashMap<>();
+	private final Map<Tuple<String, Filter>, AcceleratedImage> images = new HashMap<>();
+	/**
+	 * The image cache for in-game images which are drawn at another size than
+	 * their own: (Path, Filter, Size) -&gt; Image (least recently used images
+	 * will be dropped).
+	 */
+	private final Map<Triple<String, Filter, Dimension>, AcceleratedImage> scaledImages = new LinkedHashMap<Triple<String, Filter, Dimension>, AcceleratedImage>(16,
+			0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Triple<String, Filter, Dimension>, AcceleratedImage> eldest) {
+			return this.size() > GameGridImpl.MAX_SCALED_IMAGES;
+		}
+	};
+	/**
+	 * The paths of all images, which will be packed into the atlases.
+	 */
+	private List<String> atlasPaths;
+	/**
+	 * The atlases (created on demand): unfiltered, filtered.
+	 */
+	private final SpriteAtlas[] atlases = new SpriteAtlas[2];
+
+	/**
+	 * The sprite cache of {@link #drawCached(Vec, Vec, Object, BiConsumer)}:
+	 * key -&gt; sprite (least recently used sprites will be dropped).
+	 */
+	private final Map<Object, AcceleratedImage> sprites = new LinkedHashMap<Object, AcceleratedImage>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, AcceleratedImage> eldest) {
+			return this.size() > GameGridImpl.MAX_SPRITES;
+		}
+	};
+	/**
+	 * The grid which draws the sprites (created on demand).
+	 */
+	private GameGridImpl spriteGrid;
+	/**
+	 * The amount of sprites created since the last flush.
+	 */
+	private int spriteMisses;
+	/**
+	 * The amount of sprites created by the last frame.
+	 */
+	private int createdSprites;
 
 	/**
-	 * Set the current graphics.
+	 * The recorded commands (see {@link #COMMAND_SIZE}).
+	 */
+	private int[] commands = new int[GameGridImpl.INITIAL_COMMANDS * GameGridImpl.COMMAND_SIZE];
+	/**
+	 * The amount of recorded commands.
+	 */
+	private int commandCount;
+	/**
+	 * The coordinates of the recorded commands (in pixels).
+	 */
+	private float[] data = new float[GameGridImpl.INITIAL_COMMANDS * 4];
+	/**
+	 * The amount of used entries of {@link #data}.
+	 */
+	private int dataCount;
+	/**
+	 * The objects (images, texts and fonts) of the recorded commands.
+	 */
+	private Object[] refs = new Object[GameGridImpl.INITIAL_COMMANDS / 4];
+	/**
+	 * The amount of used entries of {@link #refs}.
+	 */
+	private int refCount;
+	/**
+	 * The last result of {@link #translate2D(float, float, float, boolean)}
+	 * (reused for every draw call).
+	 */
+	private final MutableVec translated = new MutableVec();
+	/**
+	 * The strokes by line width.
+	 */
+	private BasicStroke[] strokes = new BasicStroke[8];
+	/**
+	 * The ellipse which will be reused for drawing circles.
+	 */
+	private final Ellipse2D.Float ellipse = new Ellipse2D.Float();
+	/**
+	 * The x-components of a polygon which will be drawn.
+	 */
+	private int[] polygonX = new int[16];
+	/**
+	 * The y-components of a polygon which will be drawn.
+	 */
+	private int[] polygonY = new int[16];
+	/**
+	 * The absolute points of the current polygon or path (in units).
+	 */
+	private float[] points = new float[32];
+	/**
+	 * The cache of fonts and text layouts.
+	 */
+	private final TextLayoutCache texts = new TextLayoutCache();
+	/**
+	 * The cache of the colors by ARGB value.
+	 */
+	private final ColorCache colors = new ColorCache();
+	/**
+	 * The amount of colors created by the last flush.
+	 */
+	private long createdColors;
+	/**
+	 * The amount of commands of the last flush.
+	 */
+	private int flushedCommands;
+	/**
+	 * The amount of changes of the graphics state of the last flush.
+	 */
+	private int stateChanges;
+
+	/**
+	 * Set the current graphics (once per frame). If the state of the filter
+	 * has been changed, all cached images and sprites will be dropped.
 	 *
 	 * @param current
 	 *            the new graphics
 	 */
 	void setGraphics(Graphics2D current) {
 		this.graphics = current;
+		this.texts.nextFrame();
+		if (this.filter != null && this.filter.changed()) {
+			this.images.clear();
+			this.scaledImages.clear();
+			this.sprites.clear();
+			this.clearFilteredAtlases();
+		}
 	}
 
 	/**
@@ -71,343 +270,783 @@ class GameGridImpl extends GameGrid {
 
 	@Override
 	public void setCurrentOffset(float cameraOffsetUnits) {
-		this.cameraOffsetUnits = GameGridImpl.CORRECTION.addX(cameraOffsetUnits);
-		this.cameraOffset = CalcUtil.units2pixel(this.cameraOffsetUnits).scalar(-1, 1);
+		this.cameraOffsetUnits = GameGridImpl.CORRECTION.x + cameraOffsetUnits;
+		this.cameraOffsetX = -(this.cameraOffsetUnits * GameConf.PX_PER_UNIT);
+		this.cameraOffsetY = GameGridImpl.CORRECTION.y * GameConf.PX_PER_UNIT;
 	}
 
-	/**
-	 * The implementation of {@link #drawCircle(Vec, Vec, RGBAColor)}.
-	 *
-	 * @param pos
-	 *            same as in base method
-	 * @param size
-	 *            same as in base method
-	 * @param col
-	 *            same as in base method
-	 */
-	private void drawCircleImpl(Vec pos, Vec size, Color col) {
-		this.graphics.setColor(col);
-		Ellipse2D.Float circle = new Ellipse2D.Float(//
-				(pos.x - size.x / 2f), //
-				(pos.y - size.y / 2f), //
-				size.x, size.y);
-
-		this.graphics.fill(circle);
-
+	@Override
+	public void setElementOffset(float dx, float dy) {
+		this.cameraOffsetX = (dx - this.cameraOffsetUnits) * GameConf.PX_PER_UNIT;
+		this.cameraOffsetY = (GameGridImpl.CORRECTION.y + dy) * GameConf.PX_PER_UNIT;
 	}
 
 	/**
-	 * The implementation of {@link #drawRectangle(Vec, Vec, RGBAColor)}.
+	 * Set the current filter.
 	 *
-	 * @param pos
-	 *            same as in base method
-	 * @param size
-	 *            same as in base method
-	 * @param col
-	 *            same as in base method
+	 * @param filter
+	 *            the filter or {@code null} for deleting current filters
 	 */
-	private void drawRectangleImpl(Vec pos, Vec size, Color col) {
-		this.graphics.setColor(col);
-		this.graphics.fillRect(//
-				(int) (pos.x - size.x / 2f), //
-				(int) (pos.y - size.y / 2f), //
-				(int) size.x, (int) size.y);
-
+	void setFilter(Filter filter) {
+		if (filter == null) {
+			this.filter = null;
+		} else {
+			this.filter = filter;
+		}
+		this.sprites.clear();
+		this.clearFilteredAtlases();
 	}
 
 	/**
-	 * The implementation of
-	 * {@link #drawRoundRectangle(Vec, Vec, RGBAColor, float, float)}.
-	 *
-	 * @param pos
-	 *            same as in base method
-	 * @param size
-	 *            same as in base method
-	 * @param col
-	 *            same as in base method
-	 * @param arcWidth
-	 *            same as in base method
-	 * @param arcHeight
-	 *            same as in base method
+	 * Drop the filtered atlases.
 	 */
-	private void drawRoundRectangleImpl(Vec pos, Vec size, Color col, int arcWidth, int arcHeight) {
-		this.graphics.setColor(col);
-		this.graphics.fillRoundRect(//
-				(int) (pos.x - size.x / 2f), // X
-				(int) (pos.y - size.y / 2f), // Y
-				(int) size.x, (int) size.y, // Size
-				arcWidth, arcHeight); // arc
-
+	private void clearFilteredAtlases() {
+		this.atlases[1] = null;
 	}
 
 	/**
-	 * The implementation of {@link #drawPolygon(Polygon, RGBAColor, boolean)}.
+	 * Set the background of the field.
 	 *
-	 * @param polygon
-	 *            px-points (x,y),(x,y),...
-	 * @param col
-	 *            same as in base method
-	 * @param fill
-	 *            same as in base method
+	 * @param in
+	 *            the color
 	 */
-	private void drawPolygonImpl(int[] polygon, Color col, boolean fill) {
-		this.graphics.setColor(col);
-		// Split in x and y points.
-		int[] xpoints = new int[polygon.length / 2];
-		int[] ypoints = new int[polygon.length / 2];
-		for (int i = 0; i < polygon.length; i += 2) {
-			xpoints[i / 2] = polygon[i];
-			ypoints[i / 2] = polygon[i + 1];
-		}
-
-		java.awt.Polygon toDraw = new java.awt.Polygon(xpoints, ypoints, polygon.length / 2);
-		// draw actual polygon
-		if (fill) {
-			this.graphics.fillPolygon(toDraw);
-		} else {
-			this.graphics.drawPolygon(toDraw);
-		}
-
+	public void setBackground(RGBAColor in) {
+		int index = this.record(GameGridImpl.RECTANGLE, this.applyFilter(in, true), 0, 4);
+		this.data[index] = 0;
+		this.data[index + 1] = 0;
+		this.data[index + 2] = GameConf.PIXEL_W;
+		this.data[index + 3] = GameConf.PIXEL_H;
 	}
 
 	/**
-	 * The implementation of {@link #drawImage(Vec, Vec, String)}.
+	 * Get the amount of commands drawn by the last {@link #flush()}.
 	 *
-	 * @param pos
-	 *            same as in base method
-	 * @param size
-	 *            same as in base method
-	 * @param imagePath
-	 *            same as in base method
-	 * @param usefilter
-	 *            indicates whether a filter shall used
+	 * @return the amount of commands
 	 */
-	private void drawImageImpl(Vec pos, Vec size, String imagePath, boolean usefilter) {
-		Image image = null;
-		Tuple<String, Filter> key = Tuple.create(imagePath, usefilter ? this.filter : null);
-		if (this.images.containsKey(key) && !(this.filter != null && this.filter.changed())) {
-			image = this.images.get(key);
-		} else {
-			image = ImageManagement.get(imagePath);
-			if (this.filter != null && this.filter.isApplyImage()) {
-				image = ImageManagement.toImage(this.filter.apply(ImageManagement.getAsAbstractImage(imagePath)));
-			}
-			this.images.put(key, image);
-			GameConf.GAME_LOGGER.debug("GameGrid: Image Cache Miss: " + key);
-		}
-
-		this.graphics.drawImage(image, // image
-				(int) (pos.x - size.x / 2f), // dstX
-				(int) (pos.y - size.y / 2f), // dstY
-				null);
-
+	int getFlushedCommands() {
+		return this.flushedCommands;
 	}
 
 	/**
-	 * The implementation of
-	 * {@link #drawText(Vec, String, TextOptions, boolean)}.
+	 * Get the amount of changes of the graphics state (color, stroke and
+	 * font) of the last {@link #flush()}.
 	 *
-	 * @param pos
-	 *            same as in base method
-	 * @param text
-	 *            same as in base method
-	 * @param options
-	 *            same as in base method
+	 * @return the amount of state changes
 	 */
-	private void drawTextImpl(Vec pos, String text, TextOptions options) {
-		// Set color to red and set font
-		RGBAColor in = options.getColor();
-		RGBAColor col = (!options.getUseFilter() || this.filter == null || !this.filter.isApplyPixel()) ? in : this.filter.apply(in);
-		this.graphics.setColor(this.calcRGBA(col));
-
-		Font font = new Font(options.getFont(), options.getFontOptions(), options.getHeight());
-		this.graphics.setFont(font);
-		FontMetrics metrics = this.graphics.getFontMetrics(font);
-
-		float x = pos.x;
-		float y = pos.y;
-		float xAlign = options.getAlignment().x;
-		float yAlign = options.getAlignment().y;
-		for (String line : text.split("\n")) {
-			Dimension offset = this.getTextOffset(line, metrics);
-			this.graphics.drawString(line, //
-					(x + xAlign * offset.width), //
-					(y += metrics.getHeight()) + yAlign * offset.height);
-		}
-
+	int getStateChanges() {
+		return this.stateChanges;
 	}
 
 	/**
-	 * Get offset for {@link #drawTextImpl(Vec, String, TextOptions)}.
+	 * Get the amount of {@link Color Colors} created by the last
+	 * {@link #flush()} (see {@link ColorCache}).
 	 *
-	 * @param text
-	 *            the line
-	 * @param metrics
-	 *            the metrics
-	 * @return the dimensions for the correction of positioning
+	 * @return the amount of created colors
 	 */
-	private Dimension getTextOffset(String text, FontMetrics metrics) {
-		// get the height of a line of text in this font and render context
-		int hgt = metrics.getHeight();
-		// get the advance of my text in this font and render context
-		int adv = metrics.stringWidth(text);
-		// calculate the size of a box to hold the text with some padding.
-		return new Dimension(adv + 2, hgt + 2);
+	long getCreatedColors() {
+		return this.createdColors;
 	}
 
 	/**
-	 * Set the current filter.
+	 * Get the amount of sprites created by the last frame (see
+	 * {@link #drawCached(Vec, Vec, Object, BiConsumer)}).
 	 *
-	 * @param filter
-	 *            the filter or {@code null} for deleting current filters
+	 * @return the amount of created sprites
 	 */
-	void setFilter(Filter filter) {
-		if (filter == null) {
-			this.filter = null;
-		} else {
-			this.filter = filter;
-		}
+	int getCreatedSprites() {
+		return this.createdSprites;
 	}
 
 	/**
-	 * Set the background of the field.
+	 * Get the cache of fonts and text layouts (e.g. for its hit rate).
 	 *
-	 * @param in
-	 *            the color
+	 * @return the text cache
 	 */
-	public void setBackground(RGBAColor in) {
-		RGBAColor col = (this.filter == null || !this.filter.isApplyPixel()) ? in : this.filter.apply(in);
-		this.graphics.setColor(this.calcRGBA(col));
-		this.graphics.fillRect(0, 0, GameConf.PIXEL_W, GameConf.PIXEL_H);
-
+	TextLayoutCache getTextCache() {
+		return this.texts;
 	}
 
-	// Adapt methods (separate world position calculation from drawing)
+	// Record methods (translate to pixels and append to the buffer)
 
 	@Override
 	public void drawRectangle(Vec pos, Vec size, RGBAColor in, boolean inGame, boolean usefilter) {
-		Triple<Vec, Vec, Color> preProcessing = this.preProcessing(pos, size, in, inGame, usefilter);
-		this.drawRectangleImpl(preProcessing.getT(), preProcessing.getU(), preProcessing.getV());
+		this.drawRectangle(pos.x, pos.y, pos.z, size.x, size.y, in.toARGB(), inGame, usefilter);
+	}
+
+	@Override
+	public void drawRectangle(float x, float y, float z, float width, float height, int argb, boolean inGame, boolean usefilter) {
+		this.recordBox(GameGridImpl.RECTANGLE, x, y, z, width, height, argb, inGame, usefilter, 4);
 	}
 
 	@Override
 	public void drawCircle(Vec pos, Vec size, RGBAColor in, boolean inGame, boolean usefilter) {
-		Triple<Vec, Vec, Color> preProcessing = this.preProcessing(pos, size, in, inGame, usefilter);
-		this.drawCircleImpl(preProcessing.getT(), preProcessing.getU(), preProcessing.getV());
+		this.drawCircle(pos.x, pos.y, pos.z, size.x, size.y, in.toARGB(), inGame, usefilter);
+	}
+
+	@Override
+	public void drawCircle(float x, float y, float z, float width, float height, int argb, boolean inGame, boolean usefilter) {
+		this.recordBox(GameGridImpl.CIRCLE, x, y, z, width, height, argb, inGame, usefilter, 4);
+	}
+
+	@Override
+	public void drawRoundRectangle(Vec pos, Vec size, RGBAColor in, float arcWidth, float arcHeight, boolean inGame, boolean usefilter) {
+		this.drawRoundRectangle(pos.x, pos.y, pos.z, size.x, size.y, in.toARGB(), arcWidth, arcHeight, inGame, usefilter);
+	}
+
+	@Override
+	public void drawRoundRectangle(float x, float y, float z, float width, float height, int argb, float arcWidth, float arcHeight, boolean inGame,
+			boolean usefilter) {
+		int index = this.recordBox(GameGridImpl.ROUND_RECTANGLE, x, y, z, width, height, argb, inGame, usefilter, 6);
+		this.data[index + 4] = inGame ? CalcUtil.units2pixel(arcWidth) : (int) arcWidth;
+		this.data[index + 5] = inGame ? CalcUtil.units2pixel(arcHeight) : (int) arcHeight;
 	}
 
 	@Override
 	public void drawPolygon(Polygon polygon, RGBAColor in, boolean fill, boolean usefilter) {
-		RGBAColor col = (!usefilter || this.filter == null || !this.filter.isApplyPixel()) ? in : this.filter.apply(in);
-		polygon.moveTo(this.translate2D(polygon.getStartPoint(), false));
+		int size = polygon.getPointCount();
+		if (this.points.length < 2 * size) {
+			this.points = new float[2 * size];
+		}
+		polygon.getAbsoluteArray(this.points, 0);
+		this.drawPolygon(this.points, 0, size, polygon.getStartPoint().z, in.toARGB(), fill, usefilter);
+	}
 
-		float[] unitArray = polygon.getAbsoluteArray();
-		int[] pixelArray = new int[unitArray.length];
+	@Override
+	public void drawPolygon(float[] points, int offset, int size, float z, int argb, boolean fill, boolean usefilter) {
+		int index = this.record(fill ? GameGridImpl.FILL_POLYGON : GameGridImpl.DRAW_POLYGON, this.applyFilter(argb, usefilter), size, 2 * size);
+		// the perspective of the start point applies to the whole polygon
+		float shift = z != 0 ? this.cameraOffsetUnits / z : 0;
 
 		// calculate to pixels and add level scrolling offset
-		for (int i = 0; i < unitArray.length; i += 2) {
-			pixelArray[i] = (int) (this.cameraOffset.x + CalcUtil.units2pixel(unitArray[i]));
-			pixelArray[i + 1] = (int) (this.cameraOffset.y + CalcUtil.units2pixel(unitArray[i + 1]));
+		for (int i = 0; i < 2 * size; i += 2) {
+			this.data[index + i] = (int) (this.cameraOffsetX + CalcUtil.units2pixel(points[offset + i] + shift));
+			this.data[index + i + 1] = (int) (this.cameraOffsetY + CalcUtil.units2pixel(points[offset + i + 1]));
 		}
+	}
 
-		this.drawPolygonImpl(pixelArray, this.calcRGBA(col), fill);
+	@Override
+	public void drawPolygons(float[] points, int[] sizes, int[] colors, int count, boolean fill, boolean usefilter) {
+		int type = fill ? GameGridImpl.FILL_POLYGON : GameGridImpl.DRAW_POLYGON;
+		int offset = 0;
+		for (int i = 0; i < count; i++) {
+			int length = 2 * sizes[i];
+			int index = this.record(type, this.applyFilter(colors[i], usefilter), sizes[i], length);
+			// calculate to pixels and add level scrolling offset
+			for (int pt = 0; pt < length; pt += 2) {
+				this.data[index + pt] = (int) (this.cameraOffsetX + CalcUtil.units2pixel(points[offset + pt]));
+				this.data[index + pt + 1] = (int) (this.cameraOffsetY + CalcUtil.units2pixel(points[offset + pt + 1]));
+			}
+			offset += length;
+		}
 	}
 
 	@Override
 	public void drawImage(Vec pos, Vec size, String imagePath, boolean inGame, boolean usefilter) {
-		Triple<Vec, Vec, Color> preProcessing = this.preProcessing(pos, size, new RGBAColor(0), inGame, usefilter);
-		this.drawImageImpl(preProcessing.getT(), preProcessing.getU(), imagePath, usefilter);
+		this.drawImage(pos.x, pos.y, pos.z, size.x, size.y, imagePath, inGame, usefilter);
+	}
+
+	@Override
+	public void drawImage(Vec pos, Vec size, int imageId, boolean inGame, boolean usefilter) {
+		this.drawImage(pos.x, pos.y, pos.z, size.x, size.y, imageId, inGame, usefilter);
+	}
+
+	@Override
+	public void drawImage(float x, float y, float z, float sizeX, float sizeY, String imagePath, boolean inGame, boolean usefilter) {
+		this.drawImage(x, y, z, sizeX, sizeY, GameGrid.registerImage(imagePath), inGame, usefilter);
+	}
+
+	@Override
+	public void drawImage(float x, float y, float z, float sizeX, float sizeY, int imageId, boolean inGame, boolean usefilter) {
+		float width = inGame ? sizeX * GameConf.PX_PER_UNIT : sizeX;
+		float height = inGame ? sizeY * GameConf.PX_PER_UNIT : sizeY;
+
+		SpriteAtlas atlas = this.getAtlas();
+		boolean packed = atlas.contains(imageId);
+		AcceleratedImage image = null;
+		if (!packed) {
+			// Not packed (e.g. not found while building the atlas)
+			image = this.getImage(GameGrid.getImagePath(imageId), usefilter);
+			if (image == null) {
+				return;
+			}
+		}
+		if (inGame) {
+			// in-game images fit into their size (keeping the aspect ratio),
+			// frame-relative images keep their own size
+			int imageWidth = packed ? atlas.getWidth(imageId) : image.getWidth();
+			int imageHeight = packed ? atlas.getHeight(imageId) : image.getHeight();
+			float scale = Math.min(width / imageWidth, height / imageHeight);
+			int targetWidth = Math.round(imageWidth * scale);
+			int targetHeight = Math.round(imageHeight * scale);
+			if (targetWidth <= 0 || targetHeight <= 0) {
+				return;
+			}
+			if (targetWidth != imageWidth || targetHeight != imageHeight) {
+				image = this.getScaledImage(GameGrid.getImagePath(imageId), usefilter, targetWidth, targetHeight);
+				packed = false;
+				if (image == null) {
+					return;
+				}
+			}
+		}
+		this.translate2D(x, y, z, inGame);
+		if (packed) {
+			int index = this.record(GameGridImpl.ATLAS_IMAGE, 0, this.addRef(atlas), 3);
+			this.data[index] = this.translated.x - width / 2f;
+			this.data[index + 1] = this.translated.y - height / 2f;
+			this.data[index + 2] = imageId;
+			return;
+		}
+
+		int index = this.record(GameGridImpl.IMAGE, 0, this.addRef(image), 2);
+		this.data[index] = this.translated.x - width / 2f;
+		this.data[index + 1] = this.translated.y - height / 2f;
 	}
 
 	@Override
 	public void drawText(Vec pos, String text, TextOptions options, boolean inGame) {
-		this.drawTextImpl(this.translate2D(pos, inGame), text, options);
+		this.drawText(pos.x, pos.y, pos.z, text, options, inGame);
 	}
 
 	@Override
-	public void drawRoundRectangle(Vec pos, Vec size, RGBAColor in, float arcWidth, float arcHeight, boolean inGame, boolean usefilter) {
-		Triple<Vec, Vec, Color> preProcessing = this.preProcessing(pos, size, in, inGame, usefilter);
-		int calcArcWidth = inGame ? CalcUtil.units2pixel(arcWidth) : (int) arcWidth;
-		int calcArcHeight = inGame ? CalcUtil.units2pixel(arcHeight) : (int) arcHeight;
-		this.drawRoundRectangleImpl(preProcessing.getT(), preProcessing.getU(), preProcessing.getV(), calcArcWidth, calcArcHeight);
+	public void drawText(float x, float y, float z, String text, TextOptions options, boolean inGame) {
+		int argb = this.applyFilter(options.getColor(), options.getUseFilter());
+		this.translate2D(x, y, z, inGame);
+
+		int index = this.record(GameGridImpl.TEXT, argb, this.addRef(text), 4);
+		this.addRef(this.texts.getFont(options));
+		this.data[index] = this.translated.x;
+		this.data[index + 1] = this.translated.y;
+		this.data[index + 2] = options.getAlignment().x;
+		this.data[index + 3] = options.getAlignment().y;
 	}
 
 	@Override
 	public void drawLine(Vec a, Vec b, int lineWidth, RGBAColor color, boolean ingame, boolean usefilter) {
-		// calc col and position
-		RGBAColor col = (!usefilter || this.filter == null || !this.filter.isApplyPixel()) ? color : this.filter.apply(color);
-		Vec calcA = this.translate2D(a, ingame);
-		Vec calcB = this.translate2D(b, ingame);
-
-		// set parameters for drawing
-		this.graphics.setColor(this.calcRGBA(col));
-		this.graphics.setStroke(new BasicStroke(lineWidth));
+		this.drawLine(a.x, a.y, a.z, b.x, b.y, b.z, lineWidth, color.toARGB(), ingame, usefilter);
+	}
 
-		// draw line
-		this.graphics.drawLine((int) calcA.x, (int) calcA.y, (int) calcB.x, (int) calcB.y);
+	@Override
+	public void drawLine(float ax, float ay, float az, float bx, float by, float bz, int lineWidth, int color, boolean ingame, boolean usefilter) {
+		int argb = this.applyFilter(color, usefilter);
+		int index = this.record(GameGridImpl.LINE, argb, lineWidth, 4);
+		this.translate2D(ax, ay, az, ingame);
+		this.data[index] = (int) this.translated.x;
+		this.data[index + 1] = (int) this.translated.y;
+		this.translate2D(bx, by, bz, ingame);
+		this.data[index + 2] = (int) this.translated.x;
+		this.data[index + 3] = (int) this.translated.y;
 	}
+
 	@Override
 	public void drawPath(Vec startPos, List<Vec> pts, RGBAColor in, int lineWidth, boolean usefilter) {
-		if (pts.size() == 0) {
-			return;
+		int size = pts.size();
+		if (this.points.length < 2 * size) {
+			this.points = new float[2 * size];
+		}
+		for (int pt = 0; pt < size; pt++) {
+			this.points[2 * pt] = pts.get(pt).x;
+			this.points[2 * pt + 1] = pts.get(pt).y;
 		}
+		this.drawPath(startPos.x, startPos.y, startPos.z, this.points, 0, size, in.toARGB(), lineWidth, usefilter);
+	}
 
-		RGBAColor col = (!usefilter || this.filter == null || !this.filter.isApplyPixel()) ? in : this.filter.apply(in);
-		Vec calcPos = this.translate2D(startPos, true);
+	@Override
+	public void drawPath(float startX, float startY, float startZ, float[] points, int offset, int size, int color, int lineWidth, boolean usefilter) {
+		if (size == 0) {
+			return;
+		}
 
-		Iterator<Vec> it = pts.iterator();
+		int argb = this.applyFilter(color, usefilter);
+		this.translate2D(startX, startY, startZ, true);
+		float originX = this.translated.x;
+		float originY = this.translated.y;
 
-		Vec lastPt = calcPos.add(CalcUtil.units2pixel(it.next()));
-		this.graphics.setColor(this.calcRGBA(col));
-		this.graphics.setStroke(new BasicStroke(lineWidth));
-		while (it.hasNext()) {
-			Vec pt = calcPos.add(CalcUtil.units2pixel(it.next()));
-			this.graphics.drawLine((int) lastPt.x, (int) lastPt.y, (int) pt.x, (int) pt.y);
-			lastPt = pt;
+		// every segment becomes a line with the same state
+		float lastX = 0;
+		float lastY = 0;
+		for (int pt = 0; pt < size; pt++) {
+			float x = originX + points[offset + 2 * pt] * GameConf.PX_PER_UNIT;
+			float y = originY + points[offset + 2 * pt + 1] * GameConf.PX_PER_UNIT;
+			if (pt != 0) {
+				int index = this.record(GameGridImpl.LINE, argb, lineWidth, 4);
+				this.data[index] = (int) lastX;
+				this.data[index + 1] = (int) lastY;
+				this.data[index + 2] = (int) x;
+				this.data[index + 3] = (int) y;
+			}
+			lastX = x;
+			lastY = y;
 		}
 	}
 
-	private Triple<Vec, Vec, Color> preProcessing(Vec pos, Vec size, RGBAColor in, boolean inGame, boolean usefilter) {
-		Vec calcPos = this.translate2D(pos, inGame);
-		Vec calcSize = inGame ? CalcUtil.units2pixel(size) : size;
-		RGBAColor col = (!usefilter || this.filter == null || !this.filter.isApplyPixel()) ? in : this.filter.apply(in);
-		return Triple.create(calcPos, calcSize, this.calcRGBA(col));
+	/**
+	 * {@inheritDoc}<br>
+	 * The drawing will be rasterized once per key (and filter) into a
+	 * translucent compatible image, which will be drawn afterwards. The
+	 * perspective (z-component) of the position applies to the whole drawing.
+	 */
+	@Override
+	public void drawCached(Vec pos, Vec size, Object key, BiConsumer<GameGrid, Vec> painter) {
+		this.drawCached(pos.x, pos.y, pos.z, size.x, size.y, key, painter);
+	}
+
+	@Override
+	public void drawCached(float x, float y, float z, float width, float height, Object key, BiConsumer<GameGrid, Vec> painter) {
+		AcceleratedImage sprite = this.sprites.get(key);
+		if (sprite == null) {
+			sprite = this.createSprite(new Vec(width, height), painter);
+			this.sprites.put(key, sprite);
+			this.spriteMisses++;
+		}
+		this.translate2D(x, y, z, true);
+
+		// truncate the upper left corner like the pixels of the sprite, so
+		// that adjacent sprites keep their distance in pixels
+		int index = this.record(GameGridImpl.IMAGE, 0, this.addRef(sprite), 2);
+		this.data[index] = (float) Math.floor(this.translated.x - width * GameConf.PX_PER_UNIT / 2f);
+		this.data[index + 1] = (float) Math.floor(this.translated.y - height * GameConf.PX_PER_UNIT / 2f);
 	}
 
 	/**
-	 * Translate a vec3D to a vec2D.
+	 * Rasterize a sprite for {@link #drawCached(Vec, Vec, Object, BiConsumer)}.
 	 *
-	 * @param vec3D
-	 *            the vec3D
-	 * @param ingame
-	 *            indicates whether it shall drawn as entity of the game
-	 *            (relative to current game progress) or relative to the
-	 *            surrounding frame
-	 * @return the vec2D
+	 * @param size
+	 *            the size of the sprite (in units)
+	 * @param painter
+	 *            the painter
+	 * @return the sprite
 	 */
-	private Vec translate2D(Vec vec3D, boolean ingame) {
-		Vec perspective = vec3D.z != 0 ? vec3D.translate2D(this.cameraOffsetUnits.x) : vec3D;
+	private AcceleratedImage createSprite(Vec size, BiConsumer<GameGrid, Vec> painter) {
+		int width = (int) Math.ceil(size.x * GameConf.PX_PER_UNIT);
+		int height = (int) Math.ceil(size.y * GameConf.PX_PER_UNIT);
+		if (this.spriteGrid == null) {
+			this.spriteGrid = new GameGridImpl();
+		}
+		GameGridImpl grid = this.spriteGrid;
+		grid.filter = this.filter;
+		// the origin is the upper left corner of the sprite, so all positions
+		// are positive (pixels will be truncated like on screen)
+		grid.cameraOffsetUnits = 0;
+		grid.cameraOffsetX = 0;
+		grid.cameraOffsetY = 0;
+		painter.accept(grid, size.scalar(0.5f));
 
-		Vec newPos = perspective;
-		if (ingame) {
-			newPos = CalcUtil.units2pixel(newPos);
-			newPos = newPos.add(this.cameraOffset);
+		// opaque drawings only need a bitmask, which is much cheaper to draw
+		int transparency = grid.isOpaque() ? Transparency.BITMASK : Transparency.TRANSLUCENT;
+		BufferedImage sprite = this.graphics.getDeviceConfiguration().createCompatibleImage(width, height, transparency);
+		grid.graphics = sprite.createGraphics();
+		grid.flush();
+		grid.graphics.dispose();
+		grid.graphics = null;
+		return new AcceleratedImage(sprite);
+	}
+
+	/**
+	 * Check whether all recorded commands draw opaque shapes.
+	 *
+	 * @return {@code true} if all commands are shapes with opaque colors,
+	 *         {@code false} otherwise
+	 */
+	private boolean isOpaque() {
+		for (int c = 0; c < this.commandCount * GameGridImpl.COMMAND_SIZE; c += GameGridImpl.COMMAND_SIZE) {
+			int type = this.commands[c];
+			if (type == GameGridImpl.IMAGE || type == GameGridImpl.ATLAS_IMAGE || type == GameGridImpl.TEXT || this.commands[c + 1] >>> 24 != 0xFF) {
+				return false;
+			}
 		}
-		return newPos;
+		return true;
 	}
 
 	/**
-	 * Convert a {@link RGBAColor} to a {@link Color}.
+	 * Record a command which is defined by a bounding box (position is the
+	 * center).
 	 *
-	 * @param color
+	 * @param type
+	 *            the type of the command
+	 * @param x
+	 *            the x-coordinate of the position
+	 * @param y
+	 *            the y-coordinate of the position
+	 * @param z
+	 *            the perspective of the position
+	 * @param sizeX
+	 *            the width
+	 * @param sizeY
+	 *            the height
+	 * @param argb
 	 *            the color
-	 * @return the converted color
+	 * @param inGame
+	 *            indicates whether position and size are in units
+	 * @param usefilter
+	 *            indicates whether the filter shall be applied
+	 * @param floats
+	 *            the amount of data entries (at least four)
+	 * @return the index of the data of the command
 	 */
-	private Color calcRGBA(RGBAColor color) {
-		return new Color(color.red, color.green, color.blue, color.alpha);
+	private int recordBox(int type, float x, float y, float z, float sizeX, float sizeY, int argb, boolean inGame, boolean usefilter, int floats) {
+		float width = inGame ? sizeX * GameConf.PX_PER_UNIT : sizeX;
+		float height = inGame ? sizeY * GameConf.PX_PER_UNIT : sizeY;
+		this.translate2D(x, y, z, inGame);
+
+		int index = this.record(type, this.applyFilter(argb, usefilter), 0, floats);
+		this.data[index] = this.translated.x - width / 2f;
+		this.data[index + 1] = this.translated.y - height / 2f;
+		this.data[index + 2] = width;
+		this.data[index + 3] = height;
+		return index;
+	}
 
+	/**
+	 * Append a command to the buffer.
+	 *
+	 * @param type
+	 *            the type of the command
+	 * @param argb
+	 *            the packed color
+	 * @param argument
+	 *            the argument of the command
+	 * @param floats
+	 *            the amount of data entries to reserve
+	 * @return the index of the reserved data entries
+	 */
+	private int record(int type, int argb, int argument, int floats) {
+		int command = this.commandCount * GameGridImpl.COMMAND_SIZE;
+		if (command == this.commands.length) {
+			this.commands = Arrays.copyOf(this.commands, this.commands.length * 2);
+		}
+		if (this.dataCount + floats > this.data.length) {
+			this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.dataCount + floats));
+		}
+		int index = this.dataCount;
+		this.commands[command] = type;
+		this.commands[command + 1] = argb;
+		this.commands[command + 2] = index;
+		this.commands[command + 3] = argument;
+		this.commandCount++;
+		this.dataCount += floats;
+		return index;
 	}
 
+	/**
+	 * Append an object to the buffer.
+	 *
+	 * @param ref
+	 *            the object
+	 * @return the index of the object
+	 */
+	private int addRef(Object ref) {
+		if (this.refCount == this.refs.length) {
+			this.refs = Arrays.copyOf(this.refs, this.refs.length * 2);
+		}
+		this.refs[this.refCount] = ref;
+		return this.refCount++;
+	}
 
+	/**
+	 * Draw all recorded commands in order and clear the buffer.
+	 */
+	void flush() {
+		Graphics2D g = this.graphics;
+		long created = this.colors.getCreated();
+		// the state of new graphics is unknown
+		int color = 0;
+		int lineWidth = -1;
+		Font currentFont = null;
+		int changes = 0;
+		boolean hasColor = false;
+
+		for (int c = 0; c < this.commandCount * GameGridImpl.COMMAND_SIZE; c += GameGridImpl.COMMAND_SIZE) {
+			int type = this.commands[c];
+			int index = this.commands[c + 2];
+			int argument = this.commands[c + 3];
+			if (type != GameGridImpl.IMAGE && type != GameGridImpl.ATLAS_IMAGE && (!hasColor || color != this.commands[c + 1])) {
+				color = this.commands[c + 1];
+				hasColor = true;
+				g.setColor(this.colors.get(color));
+				changes++;
+			}
+			if (type == GameGridImpl.LINE && lineWidth != argument) {
+				lineWidth = argument;
+				g.setStroke(this.getStroke(argument));
+				changes++;
+			}
+			if (type == GameGridImpl.TEXT && currentFont != this.refs[argument + 1]) {
+				currentFont = (Font) this.refs[argument + 1];
+				g.setFont(currentFont);
+				changes++;
+			}
+			this.draw(type, index, argument);
+		}
+
+		this.flushedCommands = this.commandCount;
+		this.stateChanges = changes;
+		this.createdColors = this.colors.getCreated() - created;
+		this.createdSprites = this.spriteMisses;
+		this.spriteMisses = 0;
+		Arrays.fill(this.refs, 0, this.refCount, null);
+		this.commandCount = 0;
+		this.dataCount = 0;
+		this.refCount = 0;
+	}
+
+	/**
+	 * Draw one command. The state of the graphics has to be set before.
+	 *
+	 * @param type
+	 *            the type of the command
+	 * @param index
+	 *            the index of the data of the command
+	 * @param argument
+	 *            the argument of the command
+	 */
+	private void draw(int type, int index, int argument) {
+		float[] d = this.data;
+		switch (type) {
+		case RECTANGLE:
+			this.graphics.fillRect((int) d[index], (int) d[index + 1], (int) d[index + 2], (int) d[index + 3]);
+			break;
+		case CIRCLE:
+			this.ellipse.setFrame(d[index], d[index + 1], d[index + 2], d[index + 3]);
+			this.graphics.fill(this.ellipse);
+			break;
+		case ROUND_RECTANGLE:
+			this.graphics.fillRoundRect((int) d[index], (int) d[index + 1], (int) d[index + 2], (int) d[index + 3], //
+					(int) d[index + 4], (int) d[index + 5]);
+			break;
+		case FILL_POLYGON:
+		case DRAW_POLYGON:
+			this.drawPolygonImpl(index, argument, type == GameGridImpl.FILL_POLYGON);
+			break;
+		case LINE:
+			this.graphics.drawLine((int) d[index], (int) d[index + 1], (int) d[index + 2], (int) d[index + 3]);
+			break;
+		case IMAGE:
+			((AcceleratedImage) this.refs[argument]).draw(this.graphics, (int) d[index], (int) d[index + 1]);
+			break;
+		case ATLAS_IMAGE:
+			((SpriteAtlas) this.refs[argument]).draw(this.graphics, (int) d[index + 2], (int) d[index], (int) d[index + 1]);
+			break;
+		case TEXT:
+			this.drawTextImpl(index, (String) this.refs[argument]);
+			break;
+		default:
+			throw new IllegalStateException("Unknown command: " + type);
+		}
+	}
+
+	/**
+	 * Draw a recorded polygon.
+	 *
+	 * @param index
+	 *            the index of the points
+	 * @param points
+	 *            the amount of points
+	 * @param fill
+	 *            indicates whether the polygon shall be filled
+	 */
+	private void drawPolygonImpl(int index, int points, boolean fill) {
+		if (this.polygonX.length < points) {
+			this.polygonX = new int[points];
+			this.polygonY = new int[points];
+		}
+		// Split in x and y points.
+		for (int i = 0; i < points; i++) {
+			this.polygonX[i] = (int) this.data[index + 2 * i];
+			this.polygonY[i] = (int) this.data[index + 2 * i + 1];
+		}
+		// draw actual polygon
+		if (fill) {
+			this.graphics.fillPolygon(this.polygonX, this.polygonY, points);
+		} else {
+			this.graphics.drawPolygon(this.polygonX, this.polygonY, points);
+		}
+	}
+
+	/**
+	 * Draw a recorded text. Color and font have to be set before.
+	 *
+	 * @param index
+	 *            the index of the position and alignment
+	 * @param text
+	 *            the text
+	 */
+	private void drawTextImpl(int index, String text) {
+		TextLayoutCache.Layout layout = this.texts.get(this.graphics, text);
+		boolean rasterized = this.texts.isRasterized(this.graphics, layout, this.graphics.getColor().getRGB());
+
+		float x = this.data[index];
+		float y = this.data[index + 1];
+		float xAlign = this.data[index + 2];
+		float yAlign = this.data[index + 3];
+		// the box of a line is padded by 2px
+		int height = layout.height;
+		for (int i = 0; i < layout.lines.length; i++) {
+			int width = layout.widths[i];
+			float lineX = x + xAlign * width;
+			float lineY = (y += height) + yAlign * (height + 2);
+			if (rasterized) {
+				// round like the text pipeline does
+				this.graphics.drawImage(layout.images[i], //
+						(int) Math.floor(lineX + 0.5f) + layout.imageX[i], //
+						(int) Math.floor(lineY + 0.5f) + layout.imageY[i], null);
+			} else {
+				this.graphics.drawString(layout.lines[i], lineX, lineY);
+			}
+		}
+	}
+
+	/**
+	 * Get the atlas of all images in their own size (filtered if necessary).
+	 * The atlases will be created on first use, as they need the configuration
+	 * of the current device.
+	 *
+	 * @return the atlas
+	 */
+	private SpriteAtlas getAtlas() {
+		GraphicsConfiguration config = this.graphics.getDeviceConfiguration();
+		if (this.atlases[0] == null) {
+			if (this.atlasPaths == null) {
+				this.atlasPaths = ImageManagement.findAll();
+			}
+			this.atlases[0] = SpriteAtlas.create(this.atlasPaths, config);
+		}
+		if (this.filter == null || !this.filter.isApplyImage()) {
+			return this.atlases[0];
+		}
+		if (this.atlases[1] == null) {
+			this.atlases[1] = this.atlases[0].filter(this.filter, config);
+		}
+		return this.atlases[1];
+	}
+
+	/**
+	 * Get an image in its own size (filtered if necessary) from the image
+	 * cache. The image is compatible to the current device.
+	 *
+	 * @param imagePath
+	 *            the path of the image
+	 * @param usefilter
+	 *            indicates whether a filter shall used
+	 * @return the image or {@code null} if not found
+	 */
+	private AcceleratedImage getImage(String imagePath, boolean usefilter) {
+		AcceleratedImage image = null;
+		Tuple<String, Filter> key = Tuple.create(imagePath, usefilter ? this.filter : null);
+		if (this.images.containsKey(key)) {
+			image = this.images.get(key);
+		} else {
+			Image source = ImageManagement.get(imagePath);
+			if (this.filter != null && this.filter.isApplyImage()) {
+				source = ImageManagement.toImage(this.filter.apply(ImageManagement.getAsAbstractImage(imagePath)));
+			}
+			if (source != null) {
+				image = new AcceleratedImage(ImageManagement.toCompatible(source, source.getWidth(null), source.getHeight(null), this.graphics.getDeviceConfiguration()));
+			}
+			this.images.put(key, image);
+			GameConf.GAME_LOGGER.debug("GameGrid: Image Cache Miss: " + key);
+		}
+		return image;
+	}
+
+	/**
+	 * Get an image scaled to the size it is drawn at (filtered if necessary)
+	 * from the image cache. The scaled image will be created from the image
+	 * in its own size (see {@link #getImage(String, boolean)}).
+	 *
+	 * @param imagePath
+	 *            the path of the image
+	 * @param usefilter
+	 *            indicates whether a filter shall used
+	 * @param width
+	 *            the target width in pixels
+	 * @param height
+	 *            the target height in pixels
+	 * @return the image or {@code null} if not found
+	 */
+	private AcceleratedImage getScaledImage(String imagePath, boolean usefilter, int width, int height) {
+		Triple<String, Filter, Dimension> key = Triple.create(imagePath, usefilter ? this.filter : null, new Dimension(width, height));
+		AcceleratedImage image = this.scaledImages.get(key);
+		if (image == null && !this.scaledImages.containsKey(key)) {
+			AcceleratedImage source = this.getImage(imagePath, usefilter);
+			if (source != null) {
+				image = new AcceleratedImage(ImageManagement.toCompatible(source.getImage(), width, height, this.graphics.getDeviceConfiguration()));
+			}
+			this.scaledImages.put(key, image);
+			GameConf.GAME_LOGGER.debug("GameGrid: Image Cache Miss: " + key);
+		}
+		return image;
+	}
+
+	/**
+	 * Get the stroke of a line width.
+	 *
+	 * @param lineWidth
+	 *            the line width
+	 * @return the stroke
+	 */
+	private BasicStroke getStroke(int lineWidth) {
+		if (lineWidth < 0) {
+			return new BasicStroke(lineWidth);
+		}
+		if (lineWidth >= this.strokes.length) {
+			this.strokes = Arrays.copyOf(this.strokes, lineWidth + 1);
+		}
+		if (this.strokes[lineWidth] == null) {
+			this.strokes[lineWidth] = new BasicStroke(lineWidth);
+		}
+		return this.strokes[lineWidth];
+	}
+
+	/**
+	 * Apply the current filter to a color.
+	 *
+	 * @param in
+	 *            the color
+	 * @param usefilter
+	 *            indicates whether the filter shall be applied
+	 * @return the filtered color (ARGB)
+	 */
+	private int applyFilter(RGBAColor in, boolean usefilter) {
+		return this.applyFilter(in.toARGB(), usefilter);
+	}
+
+	/**
+	 * Apply the current filter to a color.
+	 *
+	 * @param argb
+	 *            the color (ARGB)
+	 * @param usefilter
+	 *            indicates whether the filter shall be applied
+	 * @return the filtered color (ARGB)
+	 */
+	private int applyFilter(int argb, boolean usefilter) {
+		return (!usefilter || this.filter == null || !this.filter.isApplyPixel()) ? argb : this.filter.apply(argb);
+	}
+
+	/**
+	 * Translate a vec3D to a vec2D. The result will be stored in
+	 * {@link #translated}.
+	 *
+	 * @param vecX
+	 *            the x-coordinate of the vec3D
+	 * @param vecY
+	 *            the y-coordinate of the vec3D
+	 * @param vecZ
+	 *            the perspective of the vec3D
+	 * @param ingame
+	 *            indicates whether it shall drawn as entity of the game
+	 *            (relative to current game progress) or relative to the
+	 *            surrounding frame
+	 */
+	private void translate2D(float vecX, float vecY, float vecZ, boolean ingame) {
+		float x = vecZ != 0 ? vecX + this.cameraOffsetUnits / vecZ : vecX;
+		float y = vecY;
+		if (ingame) {
+			x = x * GameConf.PX_PER_UNIT + this.cameraOffsetX;
+			y = y * GameConf.PX_PER_UNIT + this.cameraOffsetY;
+		}
+		this.translated.set(x, y);
+	}
 
 }
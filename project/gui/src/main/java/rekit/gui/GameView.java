@@ -1,15 +1,22 @@
 package rekit.gui;
 
+import java.awt.AlphaComposite;
 import java.awt.BorderLayout;
 import java.awt.Canvas;
 import java.awt.Dimension;
-import java.awt.Frame;
+import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
 import java.awt.Toolkit;
+import java.awt.Window;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.TreeMap;
@@ -17,11 +24,14 @@ import java.util.TreeMap;
 import javax.swing.JFrame;
 
 import rekit.config.GameConf;
-import rekit.core.GameTime;
+import rekit.core.RenderSnapshot;
 import rekit.logic.IScene;
 import rekit.logic.Model;
+import rekit.logic.filters.Filter;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gui.GuiElement;
+import rekit.primitives.geometry.Direction;
+import rekit.primitives.geometry.Frame;
 import rekit.primitives.geometry.Vec;
 import rekit.util.ThreadUtils;
 
@@ -62,7 +72,6 @@ class GameView implements View {
 	 * Amount of points in time to calculate FPS.
 	 */
 	private static final int FPS_COUNTER = 500;
-
 	/**
 	 * The Field that manages the graphic context.
 	 */
@@ -79,6 +88,37 @@ class GameView implements View {
 	 * The Buffer of the {@link #canvas}.
 	 */
 	private final BufferStrategy bufferStrategy;
+	/**
+	 * The image of scenes which repaint only their changed regions (see
+	 * {@link RenderSnapshot#isTrackingDirtyRegions()}) or {@code null} if not
+	 * created yet.
+	 */
+	private VolatileImage image;
+	/**
+	 * The id of the snapshot which is shown by {@link #image} or {@code -1}
+	 * if its contents are invalid.
+	 */
+	private long imageSnapshotId = -1;
+	/**
+	 * The id of the last drawn snapshot or {@code -1}.
+	 */
+	private long lastSnapshotId = -1;
+	/**
+	 * Indicates whether a filter is set. Filters may change their state at
+	 * any time (see {@link rekit.logic.filters.Filter#changed()}), so the
+	 * scene will be drawn continuously.
+	 */
+	private boolean filtered;
+	/**
+	 * The filter of whole frames (see {@link GameConf#FRAME_FILTER}) or
+	 * {@code null} if the filter is applied by the {@link #grid}.
+	 */
+	private FrameFilter frameFilter;
+	/**
+	 * Indicates whether the canvas has to be shown again (e.g. after it has
+	 * been uncovered).
+	 */
+	private volatile boolean repaint = true;
 
 	/**
 	 * Constructor that creates a new window with a canvas and prepares all
@@ -99,10 +139,23 @@ class GameView implements View {
 		this.center(this.frame);
 		this.frame.setLayout(new BorderLayout());
 
-		// Create and position a canvas
-		this.canvas = new Canvas();
+		// Create and position a canvas (repaints of the system will be done
+		// by the render loop)
+		this.canvas = new Canvas() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void paint(Graphics g) {
+				GameView.this.repaint = true;
+				GameView.this.model.signalRender();
+			}
+
+			@Override
+			public void update(Graphics g) {
+				this.paint(g);
+			}
+		};
 		this.canvas.setPreferredSize(new Dimension(GameConf.PIXEL_W, GameConf.PIXEL_H));
-		this.canvas.setIgnoreRepaint(true);
 		this.frame.add(this.canvas, BorderLayout.CENTER);
 		this.frame.pack();
 
@@ -115,12 +168,12 @@ class GameView implements View {
 	}
 
 	/**
-	 * Center {@link Frame} relative to monitor.
+	 * Center {@link Window} relative to monitor.
 	 *
 	 * @param frame
 	 *            the frame
 	 */
-	private void center(Frame frame) {
+	private void center(Window frame) {
 		Dimension dimension = Toolkit.getDefaultToolkit().getScreenSize();
 		int x = (int) ((dimension.getWidth() - frame.getWidth()) / 2);
 		int y = (int) ((dimension.getHeight() - frame.getHeight()) / 2);
@@ -137,60 +190,231 @@ class GameView implements View {
 	}
 
 	/**
-	 * "Update-Thread" content.
+	 * "Update-Thread" content. The thread waits until the scene has published
+	 * a new snapshot (e.g. after an input or while an animation is active) or
+	 * the canvas has to be repainted (see {@link Model#awaitRender()}). If
+	 * {@link GameConf#DEBUG} or a filter is set, the canvas will be updated
+	 * even without a new snapshot, but at most once per logic step and
+	 * signal.
 	 */
 	private void update() {
 		while (this.frame.isVisible()) {
-			this.renderLoop();
-			Thread.yield();
-			// ThreadUtils.sleep(GameConf.RENDER_DELTA);
+			boolean drawn = this.renderLoop();
+			if (drawn && (GameConf.DEBUG || this.filtered)) {
+				// every frame is drawn: don't redraw before the next step
+				this.model.awaitRender(GameConf.LOGIC_DELTA);
+			} else if (!drawn) {
+				this.model.awaitRender();
+			}
 		}
 	}
 
 	/**
 	 * Games main render loop that is periodically called. It updates the canvas
-	 * by iterating over all GameElements that GameMode.getGameElementIterator()
-	 * supplies and invoking each render()
+	 * by replaying the latest {@link RenderSnapshot} of the scene. As the
+	 * snapshot is acquired while drawing (see {@link RenderSnapshot#acquire()}),
+	 * no lock on the scene is necessary. The draw calls are buffered by the
+	 * {@link GameGridImpl} and flushed at the end. Nothing will be drawn if
+	 * the snapshot has already been drawn (unless {@link GameConf#DEBUG} or a
+	 * filter is set).
+	 *
+	 * @return {@code true} if the canvas has been updated, {@code false} if
+	 *         nothing has changed
 	 */
-	private void renderLoop() {
+	private boolean renderLoop() {
 		IScene scene = this.model.getScene();
+		RenderSnapshot snapshot = scene.getRenderSnapshot();
+		// the buffers of the snapshot may already be reused for a newer one
+		while (snapshot != null && !snapshot.acquire()) {
+			snapshot = scene.getRenderSnapshot();
+		}
+		try {
+			return this.render(snapshot);
+		} finally {
+			if (snapshot != null) {
+				snapshot.release();
+			}
+		}
+	}
+
+	/**
+	 * Update the canvas by an acquired snapshot (see {@link #renderLoop()}).
+	 *
+	 * @param snapshot
+	 *            the snapshot or {@code null}
+	 * @return {@code true} if the canvas has been updated, {@code false} if
+	 *         nothing has changed
+	 */
+	private boolean render(RenderSnapshot snapshot) {
+		long id = snapshot == null ? -1 : snapshot.getId();
+		boolean changed = id != this.lastSnapshotId || GameConf.DEBUG || this.filtered;
 		if (this.model.filterChanged()) {
-			this.grid.setFilter(this.model.getFilter());
+			Filter filter = this.model.getFilter();
+			if (GameConf.FRAME_FILTER && filter != null && filter.isApplyPixel()) {
+				this.frameFilter = new FrameFilter(filter);
+				this.grid.setFilter(null);
+			} else {
+				this.frameFilter = null;
+				this.grid.setFilter(filter);
+			}
+			this.filtered = filter != null;
+			this.imageSnapshotId = -1;
+			changed = true;
+		}
+		if (!changed && !this.repaint) {
+			return false;
 		}
+		this.repaint = false;
+		this.lastSnapshotId = id;
+
+		if (this.frameFilter != null) {
+			this.imageSnapshotId = -1;
+			this.renderFrameFiltered(snapshot);
+			return true;
+		}
+		if (snapshot != null && snapshot.isTrackingDirtyRegions()) {
+			this.renderDirtyRegions(snapshot);
+			return true;
+		}
+		this.imageSnapshotId = -1;
 
 		// Create temporary GC on new Image and let field draw on that
 		// Double buffering reduces flickering
 		Graphics2D graphics = (Graphics2D) this.bufferStrategy.getDrawGraphics();
+		this.draw(graphics, snapshot);
+
+		// draw temporary image on actual cavans
+		graphics.dispose();
+		this.bufferStrategy.show();
+		return true;
+	}
 
+	/**
+	 * Draw a snapshot with the {@link #grid}.
+	 *
+	 * @param graphics
+	 *            the target graphics
+	 * @param snapshot
+	 *            the snapshot or {@code null}
+	 */
+	private void draw(Graphics2D graphics, RenderSnapshot snapshot) {
 		// set current camera position
 		this.grid.setGraphics(graphics);
-		this.grid.setCurrentOffset(scene.getCameraOffset());
 		this.grid.setBackground(GameConf.GAME_BACKGROUD_COLOR);
+		if (snapshot != null) {
+			// interpolate between the steps unless only changed regions will
+			// be repainted
+			float alpha = snapshot.isTrackingDirtyRegions() ? 1 : this.model.getInterpolation();
+			this.grid.setCurrentOffset(snapshot.getCameraOffset(alpha));
+			this.drawElements(snapshot, alpha);
+			this.drawDebug(snapshot);
+		}
+		this.grid.flush();
+	}
 
-		this.drawElements(scene);
-		this.drawDebug();
+	/**
+	 * Draw a snapshot unfiltered into the back buffer of the
+	 * {@link #frameFilter}, filter the whole frame and show it.
+	 *
+	 * @param snapshot
+	 *            the snapshot or {@code null}
+	 */
+	private void renderFrameFiltered(RenderSnapshot snapshot) {
+		Graphics2D graphics = this.frameFilter.createGraphics();
+		this.draw(graphics, snapshot);
+		graphics.dispose();
+		this.frameFilter.apply();
 
-		// draw temporary image on actual cavans
+		graphics = (Graphics2D) this.bufferStrategy.getDrawGraphics();
+		// the frame is opaque, so it can simply be copied
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.drawImage(this.frameFilter.getImage(), 0, 0, null);
+		graphics.dispose();
+		this.bufferStrategy.show();
+	}
+
+	/**
+	 * Draw a snapshot of a scene which tracks its changed regions. The
+	 * snapshot will be drawn into the {@link #image}, but only within the
+	 * regions which have changed since the snapshot in the image. Afterwards
+	 * the image will be shown.
+	 *
+	 * @param snapshot
+	 *            the snapshot
+	 */
+	private void renderDirtyRegions(RenderSnapshot snapshot) {
+		GraphicsConfiguration config = this.canvas.getGraphicsConfiguration();
+		int state = this.image == null ? VolatileImage.IMAGE_INCOMPATIBLE : this.image.validate(config);
+		if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+			this.image = config.createCompatibleVolatileImage(GameConf.PIXEL_W, GameConf.PIXEL_H);
+		}
+		List<Frame> regions = null;
+		if (state == VolatileImage.IMAGE_OK && !GameConf.DEBUG && !this.filtered) {
+			// the image may simply be shown again (e.g. after being uncovered)
+			regions = snapshot.getId() == this.imageSnapshotId ? Collections.emptyList() : snapshot.getDirtyRegions(this.imageSnapshotId);
+		}
+		if (regions == null || !regions.isEmpty()) {
+			Graphics2D graphics = this.image.createGraphics();
+			if (regions != null) {
+				graphics.clip(GameView.bounds(regions));
+			}
+			this.draw(graphics, snapshot);
+			graphics.dispose();
+		}
+		this.imageSnapshotId = this.image.contentsLost() ? -1 : snapshot.getId();
+
+		Graphics2D graphics = (Graphics2D) this.bufferStrategy.getDrawGraphics();
+		graphics.drawImage(this.image, 0, 0, null);
 		graphics.dispose();
 		this.bufferStrategy.show();
 	}
 
 	/**
-	 * Draw {@link GuiElement GuiElements} and {@link GameElement GameElements}.
+	 * Get the bounds of regions in whole pixels.
 	 *
-	 * @param scene
-	 *            the current scene
+	 * @param regions
+	 *            the regions (not empty)
+	 * @return the bounds of all regions
 	 */
-	private void drawElements(IScene scene) {
-		scene.applyToGameElements(e -> e.render(this.grid));
-		scene.applyToGuiElements(e -> e.render(this.grid));
+	private static Rectangle bounds(List<Frame> regions) {
+		Rectangle bounds = null;
+		for (Frame region : regions) {
+			int x1 = (int) Math.floor(region.getBorder(Direction.LEFT));
+			int y1 = (int) Math.floor(region.getBorder(Direction.DOWN));
+			int x2 = (int) Math.ceil(region.getBorder(Direction.RIGHT));
+			int y2 = (int) Math.ceil(region.getBorder(Direction.UP));
+			Rectangle rectangle = new Rectangle(x1, y1, x2 - x1, y2 - y1);
+			bounds = bounds == null ? rectangle : bounds.union(rectangle);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Draw the recorded {@link GuiElement GuiElements} and
+	 * {@link GameElement GameElements}. GameElements which are out of sight
+	 * have already been skipped while recording.
+	 *
+	 * @param snapshot
+	 *            the snapshot of the current scene
+	 * @param alpha
+	 *            the progress between the previous and the current step
+	 *            (see {@link Model#getInterpolation()})
+	 */
+	private void drawElements(RenderSnapshot snapshot, float alpha) {
+		for (int i = 0; i < snapshot.getElementCount(); i++) {
+			snapshot.drawElement(i, this.grid, alpha);
+		}
+		snapshot.drawGui(this.grid);
 	}
 
 	/**
 	 * If {@link GameConf#DEBUG} is set this method will be used for drawing
 	 * stats.
+	 *
+	 * @param snapshot
+	 *            the snapshot of the current scene
 	 */
-	private void drawDebug() {
+	private void drawDebug(RenderSnapshot snapshot) {
 		if (!GameConf.DEBUG) {
 			return;
 		}
@@ -200,20 +424,20 @@ class GameView implements View {
 
 		Map<String, Integer> classCounter = new TreeMap<>();
 
-		this.model.getScene().applyToGameElements(e -> {
-			String className = e.getClass().getSimpleName();
+		for (int i = 0; i < snapshot.getElementCount(); i++) {
+			String className = snapshot.getType(i);
 			if (classCounter.containsKey(className)) {
 				classCounter.put(className, classCounter.get(className) + 1);
 			} else {
 				classCounter.put(className, 1);
 			}
-		});
+		}
 
 		StringBuilder resultName = new StringBuilder().append("GameElements\n");
 		StringBuilder resultNum = new StringBuilder();
 		StringBuilder resultDur = new StringBuilder().append("\n");
 
-		resultNum.append(this.model.getScene().getGameElementCount()).append("\n");
+		resultNum.append(snapshot.getElementCount()).append("\n");
 
 		Map<String, Long> durations = this.model.getScene().getGameElementDurations();
 		classCounter.entrySet().forEach((e) -> {
@@ -229,6 +453,40 @@ class GameView implements View {
 		this.grid.drawText(new Vec(GameConf.PIXEL_W - 55, GameConf.PIXEL_H / 4f), resultName.toString(), GameConf.HINT_TEXT, false);
 		this.grid.drawText(new Vec(GameConf.PIXEL_W - 30, GameConf.PIXEL_H / 4f), resultNum.toString(), GameConf.HINT_TEXT, false);
 		this.grid.drawText(new Vec(GameConf.PIXEL_W - 5, GameConf.PIXEL_H / 4f), resultDur.toString(), GameConf.HINT_TEXT, false);
+
+		Map<String, Long> stats = this.model.getScene().getDebugStats();
+		stats.put("Render: drawn", (long) snapshot.getElementCount());
+		stats.put("Render: draw commands", (long) this.grid.getFlushedCommands());
+		stats.put("Render: state changes", (long) this.grid.getStateChanges());
+		stats.put("Render: colors created", this.grid.getCreatedColors());
+		stats.put("Render: sprites created", (long) this.grid.getCreatedSprites());
+		TextLayoutCache texts = this.grid.getTextCache();
+		long lookups = texts.getHits() + texts.getMisses();
+		stats.put("Render: text cache hits (%)", lookups == 0 ? 0 : 100 * texts.getHits() / lookups);
+		stats.put("Render: texts rasterized", texts.getRasterized());
+		stats.put("Render: interpolation (%)", (long) (100 * this.model.getInterpolation()));
+		if (this.frameFilter != null) {
+			stats.put("Render: frame filter (us)", this.frameFilter.getDuration());
+		}
+		this.drawDebugStats(stats);
+	}
+
+	/**
+	 * Draw the statistics (see {@link IScene#getDebugStats()}) in the left
+	 * part of the window.
+	 *
+	 * @param stats
+	 *            the statistics by name
+	 */
+	private void drawDebugStats(Map<String, Long> stats) {
+		StringBuilder resultName = new StringBuilder();
+		StringBuilder resultNum = new StringBuilder();
+		stats.entrySet().forEach(e -> {
+			resultName.append(e.getKey()).append("\n");
+			resultNum.append(e.getValue()).append("\n");
+		});
+		this.grid.drawText(new Vec(230, GameConf.PIXEL_H / 4f), resultName.toString(), GameConf.HINT_TEXT, false);
+		this.grid.drawText(new Vec(300, GameConf.PIXEL_H / 4f), resultNum.toString(), GameConf.HINT_TEXT, false);
 	}
 
 	/**
@@ -237,13 +495,10 @@ class GameView implements View {
 	 * @return the FPS
 	 */
 	private long getFPS() {
-		if (GameTime.isPaused()) {
-			return 1000L * this.fpsQueue.size() / this.lastFpsSum;
-		}
-
-		long thisTime = GameTime.getTime();
+		// the game time advances in logic steps, so use the real time here
+		long thisTime = System.currentTimeMillis();
 		long deltaTime = thisTime - this.lastRenderTime;
-		this.lastRenderTime = GameTime.getTime();
+		this.lastRenderTime = thisTime;
 
 		if (this.fpsQueue.size() > GameView.FPS_COUNTER && this.lastFpsSum != -1) {
 			// Queue filled & fps set --> Speedup
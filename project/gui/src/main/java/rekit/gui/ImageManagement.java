@@ -1,14 +1,24 @@
 package rekit.gui;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.awt.image.ColorConvertOp;
 import java.awt.image.Raster;
 import java.awt.image.WritableRaster;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.imageio.ImageIO;
 
@@ -66,6 +76,36 @@ public final class ImageManagement {
 		return ImageManagement.CACHE.get(src);
 	}
 
+	/**
+	 * Find the paths (relative to "/images/") of all images in the resources
+	 * (including the resources of the mods).
+	 *
+	 * @return the paths of the images
+	 */
+	static List<String> findAll() {
+		Set<String> paths = new LinkedHashSet<>();
+		try {
+			Resource[] images = ImageManagement.LOAD.getResources("classpath*:/images/**/*.png");
+			if (images == null) {
+				return new ArrayList<>();
+			}
+			for (Resource image : images) {
+				URL url = image == null ? null : image.getURL();
+				if (url == null) {
+					continue;
+				}
+				String path = url.toString();
+				int index = path.lastIndexOf("/images/");
+				if (index != -1) {
+					paths.add(path.substring(index + "/images/".length()));
+				}
+			}
+		} catch (IOException e) {
+			GameConf.GAME_LOGGER.error("Images could not be listed: " + e);
+		}
+		return new ArrayList<>(paths);
+	}
+
 	/**
 	 * Max tries of {@link #get(String, int)}
 	 */
@@ -86,14 +126,18 @@ public final class ImageManagement {
 		}
 		try {
 			Resource icon = ImageManagement.LOAD.getResource(path);
-			if (!icon.exists()) {
+			if (icon == null || !icon.exists()) {
 				GameConf.GAME_LOGGER.error("Icon does not exist.");
 				return null;
 			}
 			// Read data to local buffer.
-			ByteArrayInputStream is = new ByteArrayInputStream(IOUtils.toByteArray(icon.getInputStream()));
+			InputStream stream = icon.getInputStream();
+			if (stream == null) {
+				throw new IOException("No stream");
+			}
+			ByteArrayInputStream is = new ByteArrayInputStream(IOUtils.toByteArray(stream));
 			return ImageIO.read(is);
-		} catch (IOException | NullPointerException e) {
+		} catch (IOException e) {
 			GameConf.GAME_LOGGER.debug(e + " (" + path + "), Image does not exist. Try " + nTry);
 			return ImageManagement.get(path, nTry + 1);
 		}
@@ -111,7 +155,18 @@ public final class ImageManagement {
 		if (image == null) {
 			return null;
 		}
-		image = ImageManagement.convertToRGB(image);
+		return ImageManagement.toAbstractImage(image);
+	}
+
+	/**
+	 * Convert {@link BufferedImage} to {@link AbstractImage}.
+	 *
+	 * @param in
+	 *            the input image
+	 * @return the converted image
+	 */
+	static AbstractImage toAbstractImage(BufferedImage in) {
+		BufferedImage image = ImageManagement.convertToRGB(in);
 		int bandwidth = image.getColorModel().hasAlpha() ? 4 : 3;
 		int[] data = new int[bandwidth * image.getWidth() * image.getHeight()];
 		image.getRaster().getPixels(0, 0, image.getWidth(), image.getHeight(), data);
@@ -160,6 +215,53 @@ public final class ImageManagement {
 
 	}
 
+	/**
+	 * Create a copy of an image in a given size which is compatible to a
+	 * device, so it can be drawn without any conversion (and may be
+	 * accelerated).
+	 *
+	 * @param image
+	 *            the image
+	 * @param width
+	 *            the width of the copy in pixels
+	 * @param height
+	 *            the height of the copy in pixels
+	 * @param config
+	 *            the configuration of the device
+	 * @return the compatible image
+	 */
+	static BufferedImage toCompatible(Image image, int width, int height, GraphicsConfiguration config) {
+		int transparency = image instanceof Transparency ? ((Transparency) image).getTransparency() : Transparency.TRANSLUCENT;
+		return ImageManagement.toCompatible(image, width, height, transparency, config);
+	}
+
+	/**
+	 * Create a copy of an image in a given size which is compatible to a
+	 * device and has a given transparency (see {@link Transparency}).
+	 *
+	 * @param image
+	 *            the image
+	 * @param width
+	 *            the width of the copy in pixels
+	 * @param height
+	 *            the height of the copy in pixels
+	 * @param transparency
+	 *            the transparency of the copy
+	 * @param config
+	 *            the configuration of the device
+	 * @return the compatible image
+	 */
+	static BufferedImage toCompatible(Image image, int width, int height, int transparency, GraphicsConfiguration config) {
+		BufferedImage res = config.createCompatibleImage(width, height, transparency);
+		Graphics2D g = res.createGraphics();
+		if (width != image.getWidth(null) || height != image.getHeight(null)) {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+		}
+		g.drawImage(image, 0, 0, width, height, null);
+		g.dispose();
+		return res;
+	}
+
 	/**
 	 * Try to convert image to (A)RGB-Image.
 	 *
@@ -0,0 +1,270 @@
+package rekit.gui;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import rekit.config.GameConf;
+import rekit.core.GameGrid;
+import rekit.logic.filters.Filter;
+
+/**
+ * This class packs images into a few large pages (texture atlas), so that all
+ * images can be drawn from the same (accelerated) images. The images are
+ * indexed by their ids (see {@link GameGrid#registerImage(String)}), so all
+ * lookups are simple array accesses. Opaque and translucent images are packed
+ * into separate pages, so opaque pages can still be accelerated by
+ * {@link AcceleratedImage}.
+ *
+ */
+final class SpriteAtlas {
+	/**
+	 * The maximum size of a page.
+	 */
+	private static final int PAGE_SIZE = 2048;
+	/**
+	 * The space between two images.
+	 */
+	private static final int PADDING = 1;
+
+	/**
+	 * The pages.
+	 */
+	private final AcceleratedImage[] pages;
+	/**
+	 * The page of each image ({@code -1} if not packed).
+	 */
+	private final int[] page;
+	/**
+	 * The x-coordinate of each image in its page.
+	 */
+	private final int[] x;
+	/**
+	 * The y-coordinate of each image in its page.
+	 */
+	private final int[] y;
+	/**
+	 * The width of each image.
+	 */
+	private final int[] width;
+	/**
+	 * The height of each image.
+	 */
+	private final int[] height;
+
+	/**
+	 * Create a new atlas.
+	 *
+	 * @param pages
+	 *            the pages
+	 * @param page
+	 *            the page of each image
+	 * @param x
+	 *            the x-coordinate of each image
+	 * @param y
+	 *            the y-coordinate of each image
+	 * @param width
+	 *            the width of each image
+	 * @param height
+	 *            the height of each image
+	 */
+	private SpriteAtlas(AcceleratedImage[] pages, int[] page, int[] x, int[] y, int[] width, int[] height) {
+		this.pages = pages;
+		this.page = page;
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Load and pack images. The images will be registered (see
+	 * {@link GameGrid#registerImage(String)}) and packed row by row (opaque
+	 * images first, ordered by height) into pages of at most
+	 * {@link #PAGE_SIZE}. Images which cannot be loaded will be skipped.
+	 *
+	 * @param paths
+	 *            the paths of the images (see
+	 *            {@link ImageManagement#get(String)})
+	 * @param config
+	 *            the configuration of the device
+	 * @return the atlas
+	 */
+	static SpriteAtlas create(List<String> paths, GraphicsConfiguration config) {
+		List<Integer> loaded = new ArrayList<>();
+		List<Image> images = new ArrayList<>();
+		for (String path : paths) {
+			Image image = ImageManagement.get(path);
+			if (image != null) {
+				loaded.add(GameGrid.registerImage(path));
+				images.add(image);
+			}
+		}
+		int n = images.size();
+		int[] width = new int[n];
+		int[] height = new int[n];
+		boolean[] opaque = new boolean[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			Image image = images.get(i);
+			width[i] = image.getWidth(null);
+			height[i] = image.getHeight(null);
+			opaque[i] = image instanceof Transparency && ((Transparency) image).getTransparency() == Transparency.OPAQUE;
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing((Integer i) -> !opaque[i]).thenComparing(Comparator.comparingInt((Integer i) -> height[i]).reversed()));
+
+		// Pack row by row
+		int[] page = new int[n];
+		int[] x = new int[n];
+		int[] y = new int[n];
+		List<int[]> pageSizes = new ArrayList<>();
+		List<Boolean> pageOpaque = new ArrayList<>();
+		int currentX = 0;
+		int currentY = 0;
+		int rowHeight = 0;
+		int[] current = null;
+		for (int i : order) {
+			if (current != null && currentX + width[i] > current[0]) {
+				// next row
+				currentX = 0;
+				currentY += rowHeight + SpriteAtlas.PADDING;
+				rowHeight = 0;
+			}
+			if (current == null || currentY + height[i] > SpriteAtlas.PAGE_SIZE || pageOpaque.get(pageOpaque.size() - 1) != opaque[i]) {
+				// next page (large images get their own page, opaque and translucent
+				// images do not share pages)
+				current = new int[] { Math.max(SpriteAtlas.PAGE_SIZE, width[i]), 0 };
+				pageSizes.add(current);
+				pageOpaque.add(opaque[i]);
+				currentX = 0;
+				currentY = 0;
+				rowHeight = 0;
+			}
+			page[i] = pageSizes.size() - 1;
+			x[i] = currentX;
+			y[i] = currentY;
+			currentX += width[i] + SpriteAtlas.PADDING;
+			rowHeight = Math.max(rowHeight, height[i]);
+			current[1] = Math.max(current[1], currentY + height[i]);
+		}
+
+		// Draw the pages
+		BufferedImage[] pageImages = new BufferedImage[pageSizes.size()];
+		Graphics2D[] graphics = new Graphics2D[pageSizes.size()];
+		for (int p = 0; p < pageImages.length; p++) {
+			int transparency = pageOpaque.get(p) ? Transparency.OPAQUE : Transparency.TRANSLUCENT;
+			pageImages[p] = config.createCompatibleImage(pageSizes.get(p)[0], pageSizes.get(p)[1], transparency);
+			graphics[p] = pageImages[p].createGraphics();
+		}
+		// Index by id
+		int ids = GameGrid.getImageCount();
+		int[] idPage = new int[ids];
+		int[] idX = new int[ids];
+		int[] idY = new int[ids];
+		int[] idWidth = new int[ids];
+		int[] idHeight = new int[ids];
+		Arrays.fill(idPage, -1);
+		for (int i = 0; i < n; i++) {
+			graphics[page[i]].drawImage(images.get(i), x[i], y[i], null);
+			int id = loaded.get(i);
+			idPage[id] = page[i];
+			idX[id] = x[i];
+			idY[id] = y[i];
+			idWidth[id] = width[i];
+			idHeight[id] = height[i];
+		}
+		AcceleratedImage[] pages = new AcceleratedImage[pageImages.length];
+		for (int p = 0; p < pages.length; p++) {
+			graphics[p].dispose();
+			pages[p] = new AcceleratedImage(pageImages[p]);
+		}
+		GameConf.GAME_LOGGER.debug("SpriteAtlas: " + n + " images packed into " + pages.length + " page(s)");
+		return new SpriteAtlas(pages, idPage, idX, idY, idWidth, idHeight);
+	}
+
+	/**
+	 * Create a copy of this atlas with filtered pages (see
+	 * {@link Filter#apply(rekit.primitives.image.AbstractImage)}).
+	 *
+	 * @param filter
+	 *            the filter
+	 * @param config
+	 *            the configuration of the device
+	 * @return the filtered atlas
+	 */
+	SpriteAtlas filter(Filter filter, GraphicsConfiguration config) {
+		AcceleratedImage[] filtered = new AcceleratedImage[this.pages.length];
+		for (int p = 0; p < filtered.length; p++) {
+			BufferedImage page = this.pages[p].getImage();
+			Image image = ImageManagement.toImage(filter.apply(ImageManagement.toAbstractImage(page)));
+			// keep opaque pages opaque
+			filtered[p] = new AcceleratedImage(ImageManagement.toCompatible(image, page.getWidth(), page.getHeight(), page.getTransparency(), config));
+		}
+		return new SpriteAtlas(filtered, this.page, this.x, this.y, this.width, this.height);
+	}
+
+	/**
+	 * Indicates whether an image has been packed into this atlas.
+	 *
+	 * @param id
+	 *            the id of the image (see {@link GameGrid#registerImage(String)})
+	 * @return {@code true} if packed, {@code false} otherwise
+	 */
+	boolean contains(int id) {
+		return id < this.page.length && this.page[id] != -1;
+	}
+
+	/**
+	 * Get the width of an image.
+	 *
+	 * @param id
+	 *            the id of the image
+	 * @return the width in pixels
+	 */
+	int getWidth(int id) {
+		return this.width[id];
+	}
+
+	/**
+	 * Get the height of an image.
+	 *
+	 * @param id
+	 *            the id of the image
+	 * @return the height in pixels
+	 */
+	int getHeight(int id) {
+		return this.height[id];
+	}
+
+	/**
+	 * Get the amount of pages.
+	 *
+	 * @return the amount of pages
+	 */
+	int getPageCount() {
+		return this.pages.length;
+	}
+
+	/**
+	 * Draw an image.
+	 *
+	 * @param g
+	 *            the graphics
+	 * @param id
+	 *            the id of the image
+	 * @param dstX
+	 *            the x-coordinate of the upper left corner
+	 * @param dstY
+	 *            the y-coordinate of the upper left corner
+	 */
+	void draw(Graphics2D g, int id, int dstX, int dstY) {
+		this.pages[this.page[id]].draw(g, dstX, dstY, this.x[id], this.y[id], this.width[id], this.height[id]);
+	}
+}
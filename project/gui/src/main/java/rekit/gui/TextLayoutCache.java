@@ -0,0 +1,295 @@
+package rekit.gui;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import rekit.primitives.TextOptions;
+
+/**
+ * This class caches the layout of texts: the {@link Font} of
+ * {@link TextOptions}, the lines of a text and their measured widths. Texts
+ * which have been drawn unchanged (same text, font and color) for
+ * {@link #STATIC_FRAMES} consecutive frames (e.g. menu labels or level
+ * names) will additionally be rasterized, so that drawing them is a single
+ * image copy per line.
+ *
+ */
+final class TextLayoutCache {
+	/**
+	 * The maximum amount of cached texts.
+	 */
+	private static final int MAX_TEXTS = 256;
+	/**
+	 * The amount of consecutive frames after which a text will be rasterized.
+	 */
+	private static final int STATIC_FRAMES = 30;
+
+	/**
+	 * The cached fonts.
+	 */
+	private Font[] fonts = new Font[4];
+	/**
+	 * The amount of cached fonts.
+	 */
+	private int fontCount;
+
+	/**
+	 * The layouts by text (least recently used texts will be dropped).
+	 */
+	private final Map<String, Layout> layouts = new LinkedHashMap<String, Layout>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Layout> eldest) {
+			return this.size() > TextLayoutCache.MAX_TEXTS;
+		}
+	};
+
+	/**
+	 * The current frame.
+	 */
+	private int frame;
+	/**
+	 * The amount of cache hits.
+	 */
+	private long hits;
+	/**
+	 * The amount of cache misses.
+	 */
+	private long misses;
+	/**
+	 * The amount of rasterized texts.
+	 */
+	private long rasterized;
+
+	/**
+	 * Get the font of text options. Fonts will be created only once.
+	 *
+	 * @param options
+	 *            the text options
+	 * @return the font
+	 */
+	Font getFont(TextOptions options) {
+		for (int i = 0; i < this.fontCount; i++) {
+			Font font = this.fonts[i];
+			if (font.getStyle() == options.getFontOptions() && font.getSize() == options.getHeight() && font.getName().equals(options.getFont())) {
+				return font;
+			}
+		}
+		if (this.fontCount == this.fonts.length) {
+			this.fonts = Arrays.copyOf(this.fonts, this.fonts.length * 2);
+		}
+		return this.fonts[this.fontCount++] = new Font(options.getFont(), options.getFontOptions(), options.getHeight());
+	}
+
+	/**
+	 * Start the next frame.
+	 */
+	void nextFrame() {
+		this.frame++;
+	}
+
+	/**
+	 * Get the layout of a text. The current font of the graphics will be used.
+	 *
+	 * @param graphics
+	 *            the graphics
+	 * @param text
+	 *            the text
+	 * @return the layout
+	 */
+	Layout get(Graphics2D graphics, String text) {
+		Font font = graphics.getFont();
+		Layout first = this.layouts.get(text);
+		for (Layout layout = first; layout != null; layout = layout.next) {
+			if (layout.font.equals(font)) {
+				this.hits++;
+				return layout;
+			}
+		}
+		this.misses++;
+		Layout layout = new Layout(font, graphics.getFontMetrics(), text);
+		layout.next = first;
+		this.layouts.put(text, layout);
+		return layout;
+	}
+
+	/**
+	 * Check whether the text has been drawn unchanged for enough frames and
+	 * rasterize it if necessary.
+	 *
+	 * @param graphics
+	 *            the graphics
+	 * @param layout
+	 *            the layout
+	 * @param argb
+	 *            the current color of the text
+	 * @return {@code true} if the rasterized lines can be used,
+	 *         {@code false} otherwise
+	 */
+	boolean isRasterized(Graphics2D graphics, Layout layout, int argb) {
+		if (layout.argb != argb || layout.lastFrame < this.frame - 1) {
+			layout.argb = argb;
+			layout.firstFrame = this.frame;
+			layout.images = null;
+		}
+		layout.lastFrame = this.frame;
+		if (layout.images == null && this.frame - layout.firstFrame >= TextLayoutCache.STATIC_FRAMES && TextLayoutCache.canRasterize(graphics)) {
+			layout.rasterize(graphics);
+			this.rasterized++;
+		}
+		return layout.images != null;
+	}
+
+	/**
+	 * Check whether texts can be rasterized into translucent images without
+	 * changing the result (not possible for subpixel antialiasing).
+	 *
+	 * @param graphics
+	 *            the graphics
+	 * @return {@code true} if texts can be rasterized, {@code false}
+	 *         otherwise
+	 */
+	private static boolean canRasterize(Graphics2D graphics) {
+		Object hint = graphics.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+		return hint == null || hint == RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT || hint == RenderingHints.VALUE_TEXT_ANTIALIAS_OFF
+				|| hint == RenderingHints.VALUE_TEXT_ANTIALIAS_ON;
+	}
+
+	/**
+	 * Get the amount of cache hits.
+	 *
+	 * @return the amount of hits
+	 */
+	long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Get the amount of cache misses.
+	 *
+	 * @return the amount of misses
+	 */
+	long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Get the amount of rasterized texts.
+	 *
+	 * @return the amount of rasterized texts
+	 */
+	long getRasterized() {
+		return this.rasterized;
+	}
+
+	/**
+	 * The layout of a text in a specific font.
+	 *
+	 */
+	static final class Layout {
+		/**
+		 * The font.
+		 */
+		private final Font font;
+		/**
+		 * The lines of the text.
+		 */
+		final String[] lines;
+		/**
+		 * The widths of the lines (including 2px padding).
+		 */
+		final int[] widths;
+		/**
+		 * The height of a line.
+		 */
+		final int height;
+		/**
+		 * The next layout of the same text (but in another font).
+		 */
+		private Layout next;
+
+		/**
+		 * The color of the text.
+		 */
+		private int argb;
+		/**
+		 * The first frame of the text in the current color.
+		 */
+		private int firstFrame;
+		/**
+		 * The last frame the text has been drawn.
+		 */
+		private int lastFrame = Integer.MIN_VALUE;
+		/**
+		 * The rasterized lines or {@code null} if not rasterized.
+		 */
+		BufferedImage[] images;
+		/**
+		 * The x-offsets of the rasterized lines relative to their baseline
+		 * origin.
+		 */
+		int[] imageX;
+		/**
+		 * The y-offsets of the rasterized lines relative to their baseline
+		 * origin.
+		 */
+		int[] imageY;
+
+		/**
+		 * Create a new layout.
+		 *
+		 * @param font
+		 *            the font
+		 * @param metrics
+		 *            the metrics of the font
+		 * @param text
+		 *            the text
+		 */
+		private Layout(Font font, FontMetrics metrics, String text) {
+			this.font = font;
+			this.lines = text.split("\n");
+			this.widths = new int[this.lines.length];
+			for (int i = 0; i < this.lines.length; i++) {
+				this.widths[i] = metrics.stringWidth(this.lines[i]) + 2;
+			}
+			this.height = metrics.getHeight();
+		}
+
+		/**
+		 * Rasterize the lines in the current color.
+		 *
+		 * @param graphics
+		 *            the graphics
+		 */
+		private void rasterize(Graphics2D graphics) {
+			FontRenderContext context = graphics.getFontRenderContext();
+			BufferedImage[] result = new BufferedImage[this.lines.length];
+			this.imageX = new int[this.lines.length];
+			this.imageY = new int[this.lines.length];
+			for (int i = 0; i < this.lines.length; i++) {
+				Rectangle bounds = this.font.createGlyphVector(context, this.lines[i]).getPixelBounds(context, 0, 0);
+				result[i] = graphics.getDeviceConfiguration().createCompatibleImage(Math.max(1, bounds.width), Math.max(1, bounds.height),
+						Transparency.TRANSLUCENT);
+				Graphics2D g = result[i].createGraphics();
+				g.setRenderingHints(graphics.getRenderingHints());
+				g.setFont(this.font);
+				g.setColor(graphics.getColor());
+				g.drawString(this.lines[i], -bounds.x, -bounds.y);
+				g.dispose();
+				this.imageX[i] = bounds.x;
+				this.imageY[i] = bounds.y;
+			}
+			this.images = result;
+		}
+	}
+}
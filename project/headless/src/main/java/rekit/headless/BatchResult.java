@@ -0,0 +1,108 @@
+package rekit.headless;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the results of a {@link BatchSimulator} run.
+ *
+ */
+public final class BatchResult {
+	/**
+	 * The results of the runs (in order of submission).
+	 */
+	private final List<SimulationResult> results;
+	/**
+	 * The real time of the whole batch in nanos.
+	 */
+	private final long wallTime;
+	/**
+	 * The amount of worker threads.
+	 */
+	private final int parallelism;
+
+	/**
+	 * Create a new result.
+	 *
+	 * @param results
+	 *            the results of the runs (in order of submission)
+	 * @param wallTime
+	 *            the real time of the whole batch in nanos
+	 * @param parallelism
+	 *            the amount of worker threads
+	 */
+	BatchResult(List<SimulationResult> results, long wallTime, int parallelism) {
+		this.results = Collections.unmodifiableList(results);
+		this.wallTime = wallTime;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Get the results of the runs.
+	 *
+	 * @return the results (in order of submission)
+	 */
+	public List<SimulationResult> getResults() {
+		return this.results;
+	}
+
+	/**
+	 * Get the real time of the whole batch.
+	 *
+	 * @return the time in nanos
+	 */
+	public long getWallTime() {
+		return this.wallTime;
+	}
+
+	/**
+	 * Get the amount of worker threads.
+	 *
+	 * @return the amount of worker threads
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Get the amount of failed runs.
+	 *
+	 * @return the amount of runs with an error
+	 */
+	public int getErrors() {
+		return (int) this.results.stream().filter(r -> r.getError() != null).count();
+	}
+
+	/**
+	 * Get the amount of simulated logic steps of all runs.
+	 *
+	 * @return the amount of ticks
+	 */
+	public long getTicks() {
+		return this.results.stream().mapToLong(SimulationResult::getTicks).sum();
+	}
+
+	/**
+	 * Get the throughput of the batch.
+	 *
+	 * @return the simulated ticks per second (real time)
+	 */
+	public double getTicksPerSecond() {
+		return this.wallTime == 0 ? 0 : this.getTicks() * 1e9 / this.wallTime;
+	}
+
+	/**
+	 * Get the throughput of the batch per worker thread.
+	 *
+	 * @return the simulated ticks per second (real time) and core
+	 */
+	public double getTicksPerSecondPerCore() {
+		return this.getTicksPerSecond() / this.parallelism;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d level(s), %d error(s), %d ticks in %d ms on %d core(s): %.0f ticks/s, %.0f ticks/s per core", this.results.size(),
+				this.getErrors(), this.getTicks(), this.wallTime / 1000000, this.parallelism, this.getTicksPerSecond(), this.getTicksPerSecondPerCore());
+	}
+}
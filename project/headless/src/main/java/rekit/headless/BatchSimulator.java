@@ -0,0 +1,213 @@
+package rekit.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import rekit.config.GameConf;
+import rekit.logic.scene.Scenes;
+
+/**
+ * This class simulates many levels in parallel. Every run uses its own
+ * {@link HeadlessRunner} (and therefore its own model and scene) and will be
+ * executed by a work-stealing {@link ForkJoinPool}. The randomness of every
+ * run is seeded (see {@link GameConf#PRNG}), so the results are
+ * reproducible.<br>
+ * The configuration and the {@link rekit.persistence.level.LevelManager
+ * LevelManager} have to be initialized before.
+ *
+ */
+public final class BatchSimulator {
+	/**
+	 * The amount of worker threads.
+	 */
+	private final int parallelism;
+	/**
+	 * The submitted jobs.
+	 */
+	private final List<Job> jobs = new ArrayList<>();
+	/**
+	 * Indicates whether the render code of the elements shall be invoked (see
+	 * {@link HeadlessRunner#setRender(boolean)}).
+	 */
+	private boolean render = false;
+
+	/**
+	 * Create a new simulator using all available processors.
+	 */
+	public BatchSimulator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a new simulator.
+	 *
+	 * @param parallelism
+	 *            the amount of worker threads
+	 */
+	public BatchSimulator(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism has to be positive: " + parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Set whether the render code of the elements shall be invoked (see
+	 * {@link HeadlessRunner#setRender(boolean)}).
+	 *
+	 * @param render
+	 *            {@code true} to render, {@code false} otherwise
+	 * @return the simulator
+	 */
+	public BatchSimulator setRender(boolean render) {
+		this.render = render;
+		return this;
+	}
+
+	/**
+	 * Submit an arcade level. The randomness will be seeded with the hash of
+	 * the id.
+	 *
+	 * @param levelId
+	 *            the id of the level
+	 * @param script
+	 *            the inputs
+	 * @return the simulator
+	 */
+	public BatchSimulator submitArcade(String levelId, InputScript script) {
+		this.jobs.add(new Job(levelId, script, levelId.hashCode(), Scenes.ARCADE, levelId));
+		return this;
+	}
+
+	/**
+	 * Submit a level of the day.
+	 *
+	 * @param seed
+	 *            the seed of the level (and its randomness)
+	 * @param script
+	 *            the inputs
+	 * @return the simulator
+	 */
+	public BatchSimulator submitLevelOfTheDay(long seed, InputScript script) {
+		this.jobs.add(new Job("LOTD-" + seed, script, seed, Scenes.LOD, String.valueOf(seed)));
+		return this;
+	}
+
+	/**
+	 * Simulate all submitted levels. The method returns after all simulations
+	 * have finished; the submitted levels will be kept.
+	 *
+	 * @param maxTicks
+	 *            the maximum amount of logic steps per level
+	 * @return the result
+	 */
+	public BatchResult run(long maxTicks) {
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try {
+			long start = System.nanoTime();
+			List<Future<SimulationResult>> futures = new ArrayList<>();
+			for (Job job : this.jobs) {
+				futures.add(pool.submit(() -> job.run(maxTicks, this.render)));
+			}
+			List<SimulationResult> results = new ArrayList<>();
+			for (int i = 0; i < futures.size(); i++) {
+				results.add(BatchSimulator.await(futures.get(i), this.jobs.get(i)));
+			}
+			return new BatchResult(results, System.nanoTime() - start, this.parallelism);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Wait for the result of a job.
+	 *
+	 * @param future
+	 *            the future of the job
+	 * @param job
+	 *            the job
+	 * @return the result (an error result if the job has failed)
+	 */
+	private static SimulationResult await(Future<SimulationResult> future, Job job) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new SimulationResult(job.name, false, false, 0, 0, 0, e.toString());
+		} catch (ExecutionException e) {
+			GameConf.GAME_LOGGER.error("Simulation of " + job.name + " failed: " + e.getCause());
+			return new SimulationResult(job.name, false, false, 0, 0, 0, String.valueOf(e.getCause()));
+		}
+	}
+
+	/**
+	 * This class represents one submitted level.
+	 *
+	 */
+	private static final class Job {
+		/**
+		 * The name of the run.
+		 */
+		private final String name;
+		/**
+		 * The inputs.
+		 */
+		private final InputScript script;
+		/**
+		 * The seed of the randomness.
+		 */
+		private final long seed;
+		/**
+		 * The scene.
+		 */
+		private final Scenes type;
+		/**
+		 * The options of the scene.
+		 */
+		private final String[] options;
+
+		/**
+		 * Create a new job.
+		 *
+		 * @param name
+		 *            the name of the run
+		 * @param script
+		 *            the inputs
+		 * @param seed
+		 *            the seed of the randomness
+		 * @param type
+		 *            the scene
+		 * @param options
+		 *            the options of the scene
+		 */
+		private Job(String name, InputScript script, long seed, Scenes type, String... options) {
+			this.name = name;
+			this.script = script;
+			this.seed = seed;
+			this.type = type;
+			this.options = options;
+		}
+
+		/**
+		 * Simulate the level in the current thread.
+		 *
+		 * @param maxTicks
+		 *            the maximum amount of logic steps
+		 * @param render
+		 *            indicates whether the render code shall be invoked
+		 * @return the result
+		 */
+		private SimulationResult run(long maxTicks, boolean render) {
+			Random previous = GameConf.PRNG.bind(new Random(this.seed));
+			try {
+				return new HeadlessRunner().setRender(render).run(this.name, this.script, maxTicks, this.type, this.options);
+			} finally {
+				GameConf.PRNG.bind(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package rekit.headless;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.fuchss.configuration.Configurable;
+import org.fuchss.configuration.Setter;
+import org.fuchss.configuration.parser.Parser;
+import org.fuchss.configuration.setters.ResourceBundleSetter;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import rekit.config.GameConf;
+import rekit.persistence.ModManager;
+import rekit.persistence.level.LevelManager;
+import rekit.util.ReflectUtils;
+
+/**
+ * Simulates levels without any window (e.g. to validate levels on a build
+ * server).<br>
+ * Usage:
+ * {@code [-script <file>] [-ticks <n>] [-threads <n>] [-render] [-lotd <seed> ...] [levelId ...]}.
+ * If no level is specified, all arcade levels will be simulated (in parallel,
+ * see {@link BatchSimulator}). The exit code is {@code 1} if at least one
+ * simulation failed with an error.
+ *
+ */
+public final class HeadlessMain {
+	/**
+	 * The default maximum amount of ticks per level (10 minutes game time).
+	 */
+	private static final long DEFAULT_MAX_TICKS = 30000;
+
+	/**
+	 * Prevent instantiation.
+	 */
+	private HeadlessMain() {
+	}
+
+	/**
+	 * Launches the simulation.
+	 *
+	 * @param args
+	 *            the arguments (see {@link HeadlessMain})
+	 * @throws IOException
+	 *             if the script cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		System.setProperty("java.awt.headless", "true");
+		Thread.currentThread().setName("Headless");
+		HeadlessMain.setLogLevel(GameConf.DEBUG ? Level.ALL : Level.ERROR);
+		HeadlessMain.applyAllConfigs();
+		LevelManager.init();
+
+		InputScript script = new InputScript();
+		long maxTicks = HeadlessMain.DEFAULT_MAX_TICKS;
+		int threads = Runtime.getRuntime().availableProcessors();
+		boolean render = false;
+		List<String> levels = new ArrayList<>();
+		List<Long> seeds = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "-script":
+				script = InputScript.parse(Files.readAllLines(Paths.get(args[++i]), StandardCharsets.UTF_8));
+				break;
+			case "-ticks":
+				maxTicks = Long.parseLong(args[++i]);
+				break;
+			case "-threads":
+				threads = Integer.parseInt(args[++i]);
+				break;
+			case "-render":
+				render = true;
+				break;
+			case "-lotd":
+				seeds.add(Long.parseLong(args[++i]));
+				break;
+			default:
+				levels.add(args[i]);
+			}
+		}
+		if (levels.isEmpty() && seeds.isEmpty()) {
+			LevelManager.getArcadeLevelGroups().values().forEach(levels::addAll);
+		}
+
+		BatchSimulator simulator = new BatchSimulator(threads).setRender(render);
+		for (String level : levels) {
+			simulator.submitArcade(level, script);
+		}
+		for (long seed : seeds) {
+			simulator.submitLevelOfTheDay(seed, script);
+		}
+		BatchResult result = simulator.run(maxTicks);
+		result.getResults().forEach(System.out::println);
+		System.out.println(result);
+		System.exit(result.getErrors() == 0 ? 0 : 1);
+	}
+
+	/**
+	 * Set log level for loggers.
+	 *
+	 * @param level
+	 *            the level
+	 */
+	private static void setLogLevel(Level level) {
+		GameConf.GAME_LOGGER.setLevel(level);
+		Setter.LOGGER.setLevel(level);
+		Parser.LOGGER.setLevel(level);
+		Logger.getLogger(PathMatchingResourcePatternResolver.class).setLevel(level);
+
+		// This is needed as all loggers add an appender to the rootLogger.
+		Logger.getRootLogger().removeAllAppenders();
+		BasicConfigurator.configure();
+	}
+
+	/**
+	 * Visit all Classes which shall be setted.
+	 */
+	private static void applyAllConfigs() {
+		Setter setter = new ResourceBundleSetter(ModManager.SYSLOADER);
+		ReflectUtils.getClasses(GameConf.SEARCH_PATH, ModManager.SYSLOADER, Configurable.class).forEach(c -> setter.setAttributes(c));
+	}
+}
@@ -0,0 +1,216 @@
+package rekit.headless;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import rekit.config.GameConf;
+import rekit.controller.commands.Command;
+import rekit.controller.commands.CommandSupervisor;
+import rekit.controller.commands.InputMethod;
+import rekit.controller.commands.JumpCommand;
+import rekit.controller.commands.WalkCommand;
+import rekit.core.GameGrid;
+import rekit.core.GameTime;
+import rekit.core.RenderSnapshot;
+import rekit.core.SimulationClock;
+import rekit.headless.InputScript.Event;
+import rekit.headless.InputScript.Input;
+import rekit.logic.GameModel;
+import rekit.logic.ILevelScene;
+import rekit.logic.IScene;
+import rekit.logic.gameelements.GameElementFactory;
+import rekit.logic.gameelements.entities.StateEntity;
+import rekit.logic.gui.menu.MenuItem;
+import rekit.logic.scene.Scenes;
+import rekit.primitives.geometry.Direction;
+
+/**
+ * This class simulates levels without view and controller. The logic steps
+ * will be performed as fast as possible (not paced by
+ * {@link GameConf#LOGIC_DELTA}) and the player will be controlled by an
+ * {@link InputScript} using the same commands as the keyboard.<br>
+ * The configuration and the {@link rekit.persistence.level.LevelManager
+ * LevelManager} have to be initialized before.
+ *
+ */
+public final class HeadlessRunner implements CommandSupervisor {
+	/**
+	 * The game time (in millis) the clock of a finished scene will be advanced
+	 * to release pending timers (e.g. the one showing the end menu).
+	 */
+	private static final long RELEASE_TIME = 60000;
+	/**
+	 * The model (will not be started).
+	 */
+	private final GameModel model;
+	/**
+	 * The commands by input.
+	 */
+	private final Map<Input, Command> commands = new EnumMap<>(Input.class);
+	/**
+	 * The grid used if rendering is enabled.
+	 */
+	private final GameGrid grid = new NullGrid();
+	/**
+	 * Indicates whether the render code of the elements shall be invoked
+	 * after every logic step.
+	 */
+	private boolean render = false;
+
+	/**
+	 * Create a new runner.
+	 */
+	public HeadlessRunner() {
+		this.model = new GameModel();
+		this.model.setRecordingSnapshots(false);
+		GameElementFactory.initializeNow();
+		this.commands.put(Input.LEFT, new WalkCommand(this, Direction.LEFT));
+		this.commands.put(Input.RIGHT, new WalkCommand(this, Direction.RIGHT));
+		this.commands.put(Input.JUMP, new JumpCommand(this));
+	}
+
+	/**
+	 * Set whether the render code of the elements shall be invoked after every
+	 * logic step. The recorded {@link RenderSnapshot} will be drawn to a
+	 * {@link NullGrid}.
+	 *
+	 * @param render
+	 *            {@code true} to render, {@code false} otherwise
+	 * @return the runner
+	 */
+	public HeadlessRunner setRender(boolean render) {
+		this.render = render;
+		this.model.setRecordingSnapshots(render);
+		return this;
+	}
+
+	/**
+	 * Simulate an arcade level.
+	 *
+	 * @param levelId
+	 *            the id of the level
+	 * @param script
+	 *            the inputs
+	 * @param maxTicks
+	 *            the maximum amount of logic steps
+	 * @return the result
+	 */
+	public SimulationResult run(String levelId, InputScript script, long maxTicks) {
+		return this.run(levelId, script, maxTicks, Scenes.ARCADE, levelId);
+	}
+
+	/**
+	 * Simulate a level scene.
+	 *
+	 * @param name
+	 *            the name of the run (used in the result)
+	 * @param script
+	 *            the inputs
+	 * @param maxTicks
+	 *            the maximum amount of logic steps
+	 * @param type
+	 *            the scene (must be a level scene)
+	 * @param options
+	 *            the options of the scene
+	 * @return the result
+	 */
+	public SimulationResult run(String name, InputScript script, long maxTicks, Scenes type, String... options) {
+		long start = System.nanoTime();
+		long tick = 0;
+		ILevelScene scene = null;
+		try {
+			this.model.switchScene(type, options);
+			IScene current = this.model.getScene();
+			if (current == null || !current.isLevelScene()) {
+				return new SimulationResult(name, false, false, 0, 0, System.nanoTime() - start, "no level scene");
+			}
+			scene = (ILevelScene) current;
+			Set<Input> pressed = EnumSet.noneOf(Input.class);
+			while (!scene.hasEnded() && tick < maxTicks) {
+				this.input(scene, script, tick, pressed);
+				scene.logicLoop();
+				RenderSnapshot snapshot = scene.getRenderSnapshot();
+				if (this.render && snapshot != null && snapshot.acquire()) {
+					try {
+						for (int i = 0; i < snapshot.getElementCount(); i++) {
+							snapshot.drawElement(i, this.grid);
+						}
+						snapshot.drawGui(this.grid);
+					} finally {
+						snapshot.release();
+					}
+				}
+				tick++;
+			}
+			boolean ended = scene.hasEnded();
+			return new SimulationResult(name, ended, ended && scene.getLevel().getWon(), scene.getLevel().getScore(), tick, System.nanoTime() - start, null);
+		} catch (RuntimeException e) {
+			GameConf.GAME_LOGGER.error("Simulation of " + name + " failed in tick " + tick + ": " + e.getMessage());
+			int score = scene == null ? 0 : scene.getLevel().getScore();
+			return new SimulationResult(name, false, false, score, tick, System.nanoTime() - start, e.toString());
+		} finally {
+			if (scene != null) {
+				// the scene won't be stepped anymore: don't let its timers wait forever
+				scene.getClock().advance(HeadlessRunner.RELEASE_TIME);
+			}
+		}
+	}
+
+	/**
+	 * Apply the inputs of a tick like the keyboard controller: every pressed
+	 * input will be executed in every tick, a release only once. The clock
+	 * and the scene are bound to the current thread like in
+	 * {@link IScene#logicLoop()}, so that e.g. timers of the player do not
+	 * depend on scenes of other threads.
+	 *
+	 * @param scene
+	 *            the simulated scene
+	 * @param script
+	 *            the script
+	 * @param tick
+	 *            the current tick
+	 * @param pressed
+	 *            the currently pressed inputs
+	 */
+	private void input(IScene scene, InputScript script, long tick, Set<Input> pressed) {
+		SimulationClock previous = GameTime.bindClock(scene.getClock());
+		IScene previousScene = GameElementFactory.bindScene(scene);
+		try {
+			for (Event event : script.getEvents(tick)) {
+				if (event.press) {
+					pressed.add(event.input);
+				} else if (pressed.remove(event.input)) {
+					this.commands.get(event.input).execute(InputMethod.RELEASE);
+				}
+			}
+			for (Input input : pressed) {
+				this.commands.get(input).execute(InputMethod.PRESS);
+			}
+		} finally {
+			GameElementFactory.bindScene(previousScene);
+			GameTime.bindClock(previous);
+		}
+	}
+
+	@Override
+	public StateEntity getEntity(Command command) {
+		return this.model.getPlayer();
+	}
+
+	@Override
+	public MenuItem getMenu(Command command) {
+		return this.model.getMenu();
+	}
+
+	@Override
+	public IScene getScene() {
+		return this.model.getScene();
+	}
+
+	@Override
+	public boolean entityCommandAllowed() {
+		return !this.model.getScene().isPaused();
+	}
+}
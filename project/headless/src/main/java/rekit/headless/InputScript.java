@@ -0,0 +1,165 @@
+package rekit.headless;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class represents a script of player inputs by logic step (tick). An
+ * input stays pressed from the tick it has been pressed until the tick it has
+ * been released (like a held key).<br>
+ * A script can be parsed from lines of the form {@code <tick> +<INPUT>} or
+ * {@code <tick> -<INPUT>} (see {@link Input}); empty lines and lines starting
+ * with {@code #} will be ignored.
+ *
+ */
+public final class InputScript {
+	/**
+	 * The events by tick.
+	 */
+	private final Map<Long, List<Event>> events = new TreeMap<>();
+
+	/**
+	 * Create an empty script.
+	 */
+	public InputScript() {
+		// Empty script
+	}
+
+	/**
+	 * Press an input.
+	 *
+	 * @param tick
+	 *            the tick
+	 * @param input
+	 *            the input
+	 * @return the script
+	 */
+	public InputScript press(long tick, Input input) {
+		return this.add(new Event(input, true), tick);
+	}
+
+	/**
+	 * Release an input.
+	 *
+	 * @param tick
+	 *            the tick
+	 * @param input
+	 *            the input
+	 * @return the script
+	 */
+	public InputScript release(long tick, Input input) {
+		return this.add(new Event(input, false), tick);
+	}
+
+	/**
+	 * Add an event.
+	 *
+	 * @param event
+	 *            the event
+	 * @param tick
+	 *            the tick
+	 * @return the script
+	 */
+	private InputScript add(Event event, long tick) {
+		if (tick < 0) {
+			throw new IllegalArgumentException("Negative tick: " + tick);
+		}
+		this.events.computeIfAbsent(tick, t -> new ArrayList<>()).add(event);
+		return this;
+	}
+
+	/**
+	 * Get the events of a tick.
+	 *
+	 * @param tick
+	 *            the tick
+	 * @return the events (in order of definition)
+	 */
+	List<Event> getEvents(long tick) {
+		List<Event> result = this.events.get(tick);
+		return result == null ? Collections.emptyList() : result;
+	}
+
+	/**
+	 * Parse a script.
+	 *
+	 * @param lines
+	 *            the lines of the script
+	 * @return the script
+	 * @throws IllegalArgumentException
+	 *             if a line is malformed
+	 */
+	public static InputScript parse(List<String> lines) {
+		InputScript script = new InputScript();
+		int no = 0;
+		for (String line : lines) {
+			no++;
+			String trimmed = line.trim();
+			if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+				continue;
+			}
+			String[] parts = trimmed.split("\\s+");
+			if (parts.length != 2 || parts[1].length() < 2 || (parts[1].charAt(0) != '+' && parts[1].charAt(0) != '-')) {
+				throw new IllegalArgumentException("Line " + no + ": expected '<tick> +<INPUT>' or '<tick> -<INPUT>' but found '" + trimmed + "'");
+			}
+			try {
+				long tick = Long.parseLong(parts[0]);
+				Input input = Input.valueOf(parts[1].substring(1).toUpperCase());
+				script.add(new Event(input, parts[1].charAt(0) == '+'), tick);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Line " + no + ": " + e.getMessage(), e);
+			}
+		}
+		return script;
+	}
+
+	/**
+	 * The inputs of the player.
+	 *
+	 */
+	public enum Input {
+		/**
+		 * Walk left.
+		 */
+		LEFT,
+		/**
+		 * Walk right.
+		 */
+		RIGHT,
+		/**
+		 * Jump.
+		 */
+		JUMP;
+	}
+
+	/**
+	 * This class represents a press or release of an {@link Input}.
+	 *
+	 */
+	static final class Event {
+		/**
+		 * The input.
+		 */
+		final Input input;
+		/**
+		 * Indicates whether the input will be pressed or released.
+		 */
+		final boolean press;
+
+		/**
+		 * Create a new event.
+		 *
+		 * @param input
+		 *            the input
+		 * @param press
+		 *            indicates whether the input will be pressed or released
+		 */
+		Event(Input input, boolean press) {
+			this.input = input;
+			this.press = press;
+		}
+	}
+}
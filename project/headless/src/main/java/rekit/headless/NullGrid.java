@@ -0,0 +1,118 @@
+package rekit.headless;
+
+import java.util.List;
+
+import rekit.core.GameGrid;
+import rekit.primitives.TextOptions;
+import rekit.primitives.geometry.Polygon;
+import rekit.primitives.geometry.Vec;
+import rekit.primitives.image.RGBAColor;
+
+/**
+ * This {@link GameGrid} discards all draw calls. It can be used to run the
+ * render code of the elements without any graphics context.
+ *
+ */
+public final class NullGrid extends GameGrid {
+
+	@Override
+	public void setCurrentOffset(float cameraOffsetUnits) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawRectangle(Vec pos, Vec size, RGBAColor color, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawCircle(Vec pos, Vec size, RGBAColor color, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawLine(Vec a, Vec b, int lineWidth, RGBAColor color, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawImage(Vec pos, Vec size, String imagePath, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawImage(Vec pos, Vec size, int imageId, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawPolygon(Polygon polygon, RGBAColor color, boolean fill, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawPolygons(float[] points, int[] sizes, int[] colors, int count, boolean fill, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawText(Vec pos, String text, TextOptions options, boolean ingame) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawRoundRectangle(Vec pos, Vec size, RGBAColor color, float arcWidth, float arcHeight, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawPath(Vec startPos, List<Vec> pts, RGBAColor color, int lineWidth, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawRectangle(float x, float y, float z, float width, float height, int argb, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawCircle(float x, float y, float z, float width, float height, int argb, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawRoundRectangle(float x, float y, float z, float width, float height, int argb, float arcWidth, float arcHeight, boolean ingame,
+			boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawLine(float ax, float ay, float az, float bx, float by, float bz, int lineWidth, int argb, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawImage(float x, float y, float z, float width, float height, String imagePath, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawImage(float x, float y, float z, float width, float height, int imageId, boolean ingame, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawText(float x, float y, float z, String text, TextOptions options, boolean ingame) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawPolygon(float[] points, int offset, int size, float z, int argb, boolean fill, boolean usefilter) {
+		// Nothing to draw
+	}
+
+	@Override
+	public void drawPath(float x, float y, float z, float[] points, int offset, int size, int argb, int lineWidth, boolean usefilter) {
+		// Nothing to draw
+	}
+}
@@ -0,0 +1,134 @@
+package rekit.headless;
+
+/**
+ * This class holds the result of one simulated level.
+ *
+ */
+public final class SimulationResult {
+	/**
+	 * The identifier of the level.
+	 */
+	private final String level;
+	/**
+	 * Indicates whether the level has ended.
+	 */
+	private final boolean ended;
+	/**
+	 * Indicates whether the level has been won.
+	 */
+	private final boolean won;
+	/**
+	 * The score.
+	 */
+	private final int score;
+	/**
+	 * The amount of simulated logic steps.
+	 */
+	private final long ticks;
+	/**
+	 * The real time of the simulation in nanos.
+	 */
+	private final long wallTime;
+	/**
+	 * The error or {@code null} if none.
+	 */
+	private final String error;
+
+	/**
+	 * Create a new result.
+	 *
+	 * @param level
+	 *            the identifier of the level
+	 * @param ended
+	 *            indicates whether the level has ended
+	 * @param won
+	 *            indicates whether the level has been won
+	 * @param score
+	 *            the score
+	 * @param ticks
+	 *            the amount of simulated logic steps
+	 * @param wallTime
+	 *            the real time of the simulation in nanos
+	 * @param error
+	 *            the error or {@code null} if none
+	 */
+	SimulationResult(String level, boolean ended, boolean won, int score, long ticks, long wallTime, String error) {
+		this.level = level;
+		this.ended = ended;
+		this.won = won;
+		this.score = score;
+		this.ticks = ticks;
+		this.wallTime = wallTime;
+		this.error = error;
+	}
+
+	/**
+	 * Get the identifier of the level.
+	 *
+	 * @return the identifier
+	 */
+	public String getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * Indicates whether the level has ended (won or lost) within the maximum
+	 * amount of ticks.
+	 *
+	 * @return {@code true} if ended, {@code false} otherwise
+	 */
+	public boolean hasEnded() {
+		return this.ended;
+	}
+
+	/**
+	 * Indicates whether the level has been won.
+	 *
+	 * @return {@code true} if won, {@code false} otherwise
+	 */
+	public boolean isWon() {
+		return this.won;
+	}
+
+	/**
+	 * Get the score.
+	 *
+	 * @return the score
+	 */
+	public int getScore() {
+		return this.score;
+	}
+
+	/**
+	 * Get the amount of simulated logic steps.
+	 *
+	 * @return the amount of ticks
+	 */
+	public long getTicks() {
+		return this.ticks;
+	}
+
+	/**
+	 * Get the real time of the simulation.
+	 *
+	 * @return the time in nanos
+	 */
+	public long getWallTime() {
+		return this.wallTime;
+	}
+
+	/**
+	 * Get the error which has aborted the simulation.
+	 *
+	 * @return the error or {@code null} if none
+	 */
+	public String getError() {
+		return this.error;
+	}
+
+	@Override
+	public String toString() {
+		String state = this.error != null ? "ERROR (" + this.error + ")" : !this.ended ? "TIMEOUT" : this.won ? "WON" : "LOST";
+		return this.level + ": " + state + ", score " + this.score + ", " + this.ticks + " ticks in " + this.wallTime / 1000000 + " ms";
+	}
+}
@@ -4,6 +4,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import rekit.config.GameConf;
 import rekit.core.GameTime;
+import rekit.core.RenderSnapshot;
+import rekit.core.SimulationClock;
 import rekit.logic.filters.Filter;
 import rekit.logic.gameelements.GameElementFactory;
 import rekit.logic.gameelements.entities.Player;
@@ -39,6 +41,30 @@ public class GameModel implements Model {
 	 * Indicates a filter change.
 	 */
 	private boolean filterChange;
+	/**
+	 * The progress between the last and the next logic step.
+	 */
+	private volatile float interpolation;
+	/**
+	 * Indicates whether the scenes shall record a {@link RenderSnapshot} in
+	 * every logic step.
+	 */
+	private volatile boolean recordingSnapshots = true;
+	/**
+	 * The maximum amount of logic steps which will be performed at once to
+	 * catch up with the real time. If the logic falls further behind, the
+	 * remaining time will be dropped.
+	 */
+	private static final int MAX_STEPS = 5;
+	/**
+	 * The monitor of {@link #renderSignaled}.
+	 */
+	private final Object renderSignal = new Object();
+	/**
+	 * Indicates whether {@link #signalRender()} has been invoked since the
+	 * previous {@link #awaitRender()}.
+	 */
+	private boolean renderSignaled = true;
 
 	/**
 	 * Get a new model.
@@ -60,15 +86,33 @@ public class GameModel implements Model {
 	}
 
 	/**
-	 * This method will be invoked by the logic thread.
+	 * This method will be invoked by the logic thread. The logic runs with a
+	 * fixed time step of {@link GameConf#LOGIC_DELTA}: the real time is
+	 * accumulated and consumed in steps, each advancing the clock of the scene
+	 * by exactly one step (see {@link IScene#logicLoop()}).
 	 */
 	private void playGame() {
+		final long step = GameConf.LOGIC_DELTA * 1000000L;
+		long accumulator = 0;
+		long last = System.nanoTime();
 		// repeat until player is dead
 		while (!this.end) {
-			long before = System.currentTimeMillis();
-			this.scene.logicLoop();
-			long after = System.currentTimeMillis();
-			ThreadUtils.sleep(GameConf.LOGIC_DELTA - (after - before));
+			long now = System.nanoTime();
+			accumulator += now - last;
+			last = now;
+
+			int steps = 0;
+			while (accumulator >= step && steps < GameModel.MAX_STEPS) {
+				this.scene.logicLoop();
+				accumulator -= step;
+				steps++;
+			}
+			if (accumulator >= step) {
+				// too far behind: don't try to catch up any further
+				accumulator %= step;
+			}
+			this.interpolation = (float) accumulator / step;
+			ThreadUtils.sleep((step - accumulator + 999999L) / 1000000L);
 		}
 	}
 
@@ -99,11 +143,45 @@ public class GameModel implements Model {
 			return;
 		}
 		this.removeFilter();
-		nextScene.init();
-		nextScene.start();
+		// bind the scene to this thread as other models may switch in parallel
+		SimulationClock previous = GameTime.bindClock(nextScene.getClock());
+		IScene previousScene = GameElementFactory.bindScene(nextScene);
+		try {
+			nextScene.init();
+			nextScene.start();
+		} finally {
+			GameElementFactory.bindScene(previousScene);
+			GameTime.bindClock(previous);
+		}
 		this.scene = nextScene;
 		this.state = Scenes.getByInstance(this.scene).isMenu() ? GameState.MENU : GameState.INGAME;
-		GameTime.resume();
+	}
+
+	/**
+	 * Set whether the scenes shall record a {@link RenderSnapshot} in every
+	 * logic step (e.g. not necessary if there is no view).
+	 *
+	 * @param recordingSnapshots
+	 *            {@code true} to record, {@code false} otherwise
+	 */
+	public void setRecordingSnapshots(boolean recordingSnapshots) {
+		this.recordingSnapshots = recordingSnapshots;
+	}
+
+	/**
+	 * Indicates whether the scenes shall record a {@link RenderSnapshot} in
+	 * every logic step.
+	 *
+	 * @return {@code true} if snapshots shall be recorded, {@code false}
+	 *         otherwise
+	 */
+	public boolean isRecordingSnapshots() {
+		return this.recordingSnapshots;
+	}
+
+	@Override
+	public float getInterpolation() {
+		return this.interpolation;
 	}
 
 	@Override
@@ -134,6 +212,45 @@ public class GameModel implements Model {
 		return this.state.calcState(this);
 	}
 
+	@Override
+	public void signalRender() {
+		synchronized (this.renderSignal) {
+			this.renderSignaled = true;
+			this.renderSignal.notifyAll();
+		}
+	}
+
+	@Override
+	public void awaitRender() {
+		synchronized (this.renderSignal) {
+			while (!this.renderSignaled) {
+				try {
+					this.renderSignal.wait();
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			this.renderSignaled = false;
+		}
+	}
+
+	@Override
+	public void awaitRender(long timeout) {
+		long deadline = System.nanoTime() + timeout * 1000000L;
+		synchronized (this.renderSignal) {
+			long remaining = timeout;
+			while (!this.renderSignaled && remaining > 0) {
+				try {
+					this.renderSignal.wait(remaining);
+				} catch (InterruptedException e) {
+					return;
+				}
+				remaining = (deadline - System.nanoTime()) / 1000000L;
+			}
+			this.renderSignaled = false;
+		}
+	}
+
 	private final ReentrantLock filterLock = new ReentrantLock();
 
 	@Override
@@ -145,6 +262,7 @@ public class GameModel implements Model {
 		} finally {
 			this.filterLock.unlock();
 		}
+		this.signalRender();
 
 	}
 
@@ -157,6 +275,7 @@ public class GameModel implements Model {
 		} finally {
 			this.filterLock.unlock();
 		}
+		this.signalRender();
 
 	}
 
@@ -1,14 +1,20 @@
 package rekit.logic;
 
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import rekit.core.CameraTarget;
+import rekit.core.RenderSnapshot;
+import rekit.core.SimulationClock;
 import rekit.core.Team;
+import rekit.logic.gameelements.ElementPool;
 import rekit.logic.gameelements.GameElement;
+import rekit.logic.gameelements.particles.ParticleSystem;
 import rekit.logic.gui.GuiElement;
 import rekit.logic.gui.menu.MenuItem;
 import rekit.logic.scene.Scenes;
+import rekit.primitives.geometry.Vec;
 
 /**
  * This is the public interface of all Scenes.
@@ -55,6 +61,24 @@ public interface IScene {
 	 */
 	void removeGuiElement(GuiElement e);
 
+	/**
+	 * Mark a region of the screen as changed. Scenes which repaint changed
+	 * regions only (e.g. menus) will repaint it with the next snapshot (see
+	 * {@link RenderSnapshot#getDirtyRegions(long)}). This method
+	 * may be invoked by any thread (e.g. on input).
+	 *
+	 * @param pos
+	 *            the center of the region (in pixels)
+	 * @param size
+	 *            the size of the region (in pixels)
+	 */
+	void invalidate(Vec pos, Vec size);
+
+	/**
+	 * Mark the whole screen as changed (see {@link #invalidate(Vec, Vec)}).
+	 */
+	void invalidateAll();
+
 	/**
 	 * Set the camera target.
 	 *
@@ -108,6 +132,62 @@ public interface IScene {
 	 */
 	void logicLoop();
 
+	/**
+	 * Add a task which will be invoked after the game elements in every logic
+	 * step of the scene (unless paused) until it returns {@code false}. The
+	 * task runs within {@link #logicLoop()}, so it uses the clock, the scene
+	 * and the source of randomness of the logic thread. Sequences which span
+	 * multiple steps (e.g. animations) shall use tasks instead of threads.
+	 *
+	 * @param task
+	 *            the task
+	 */
+	void addTask(BooleanSupplier task);
+
+	/**
+	 * Execute a job within the logic step of the scene after a specified time
+	 * (measured by the clock of the scene, see {@link #addTask(BooleanSupplier)}).
+	 *
+	 * @param delay
+	 *            the time to wait in millis
+	 * @param job
+	 *            the job
+	 */
+	void execute(long delay, Runnable job);
+
+	/**
+	 * Get the time which has passed in the current logic step (see
+	 * {@link #logicLoop()}). All elements shall use this value instead of
+	 * measuring the time on their own.
+	 *
+	 * @return the time in millis
+	 */
+	long getDeltaTime();
+
+	/**
+	 * Get the clock of the scene. It will be advanced by one step in every
+	 * {@link #logicLoop()} (unless paused).
+	 *
+	 * @return the clock
+	 */
+	SimulationClock getClock();
+
+	/**
+	 * Get the draw calls of the latest logic step. The snapshot can be drawn
+	 * without any lock on the scene.
+	 *
+	 * @return the snapshot or {@code null} if none has been recorded yet
+	 */
+	RenderSnapshot getRenderSnapshot();
+
+	/**
+	 * Get the recycled elements of the scene (see
+	 * {@link GameElement#isPoolable()}).
+	 *
+	 * @return the pool
+	 */
+	ElementPool getElementPool();
+
 	/**
 	 * Initialize the scene. e.g. build Level/GUI so Scene is ready to be drawn
 	 * Must be called on restart.
@@ -135,6 +215,14 @@ public interface IScene {
 	 */
 	Map<String, Long> getGameElementDurations();
 
+	/**
+	 * Get a map of statistics of the scene for debugging (e.g. the amount of
+	 * checked collision pairs).
+	 *
+	 * @return a copy of the statistics by name
+	 */
+	Map<String, Long> getDebugStats();
+
 	/**
 	 * Get the amount of elements in the scene.
 	 *
@@ -191,4 +279,15 @@ public interface IScene {
 	default boolean isLevelScene() {
 		return false;
 	}
+
+	/**
+	 * Get the particle system of the scene (see
+	 * {@link rekit.logic.gameelements.particles.ParticleSpawner#spawn(IScene, Vec)}).
+	 *
+	 * @return the particle system or {@code null} if the scene has none (the
+	 *         particles will be added as {@link GameElement GameElements})
+	 */
+	default ParticleSystem getParticles() {
+		return null;
+	}
 }
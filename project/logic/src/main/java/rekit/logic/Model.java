@@ -55,6 +55,14 @@ public interface Model {
 	 */
 	IScene getScene();
 
+	/**
+	 * Get the progress between the last and the next logic step. This can be
+	 * used by the renderer to interpolate between two steps.
+	 *
+	 * @return the progress in [0, 1)
+	 */
+	float getInterpolation();
+
 	/**
 	 * Get the current state.
 	 *
@@ -89,6 +97,28 @@ public interface Model {
 	 */
 	boolean filterChanged();
 
+	/**
+	 * Signal that the view has to render again (e.g. a new snapshot has been
+	 * published or the canvas has to be repainted). This method may be
+	 * invoked by any thread.
+	 */
+	void signalRender();
+
+	/**
+	 * Block until {@link #signalRender()} has been invoked since the previous
+	 * invocation of this method (returns immediately if it has).
+	 */
+	void awaitRender();
+
+	/**
+	 * Block until {@link #signalRender()} has been invoked since the previous
+	 * invocation of {@link #awaitRender()} or a timeout has elapsed.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait in milliseconds
+	 */
+	void awaitRender(long timeout);
+
 	/**
 	 * This enum defines the different states of the game.
 	 *
@@ -74,6 +74,19 @@ public interface Filter {
 		throw new UnsupportedOperationException("Not supported by " + this.getClass().getSimpleName());
 	}
 
+	/**
+	 * Apply Filter to an int coded ARGB color (see {@link RGBAColor#toARGB()}).
+	 * Filters should override this method to avoid the creation of
+	 * {@link RGBAColor RGBAColors}.
+	 *
+	 * @param argb
+	 *            the original color
+	 * @return the new color
+	 */
+	default int apply(final int argb) {
+		return this.apply(new RGBAColor(argb)).toARGB();
+	}
+
 	/**
 	 * Apply Filter.
 	 *
@@ -18,6 +18,16 @@ import rekit.util.ReflectUtils.LoadMe;
  */
 @LoadMe
 public final class GrayScaleMode implements Filter {
+	/**
+	 * The gray value by the sum of the red, green and blue channel.
+	 */
+	private static final byte[] GRAY = new byte[3 * 255 + 1];
+
+	static {
+		for (int sum = 0; sum < GrayScaleMode.GRAY.length; sum++) {
+			GrayScaleMode.GRAY[sum] = (byte) (sum / 3);
+		}
+	}
 
 	@Override
 	public AbstractImage apply(final AbstractImage image) {
@@ -34,8 +44,8 @@ public final class GrayScaleMode implements Filter {
 	private AbstractImage applySeq(AbstractImage image) {
 		AbstractImage res = new AbstractImage(image.height, image.width, new byte[image.pixels.length]);
 		for (int i = 0; i < image.pixels.length; i += 4) {
-			int gray = ((image.pixels[i] & 0xFF) + (image.pixels[i + 1] & 0xFF) + (image.pixels[i + 2] & 0xFF)) / 3;
-			res.pixels[i] = res.pixels[i + 1] = res.pixels[i + 2] = (byte) gray;
+			byte gray = GrayScaleMode.GRAY[(image.pixels[i] & 0xFF) + (image.pixels[i + 1] & 0xFF) + (image.pixels[i + 2] & 0xFF)];
+			res.pixels[i] = res.pixels[i + 1] = res.pixels[i + 2] = gray;
 			res.pixels[i + 3] = (byte) (image.pixels[i + 3] & 0xFF);
 		}
 		return res;
@@ -92,21 +102,22 @@ public final class GrayScaleMode implements Filter {
 		int start = (task * taskSize);
 		int stop = (task == threads - 1) ? h : ((task + 1) * taskSize);
 		for (int i = start * w * 4; i < (w + stop * w) * 4; i += 4) {
-			int r = orig[i] & 0xFF;
-			int g = orig[i + 1] & 0xFF;
-			int b = orig[i + 2] & 0xFF;
-			r = g = b = (r + g + b) / 3;
-			result[i] = (byte) r;
-			result[i + 1] = (byte) g;
-			result[i + 2] = (byte) b;
+			byte gray = GrayScaleMode.GRAY[(orig[i] & 0xFF) + (orig[i + 1] & 0xFF) + (orig[i + 2] & 0xFF)];
+			result[i] = gray;
+			result[i + 1] = gray;
+			result[i + 2] = gray;
 		}
 	}
 
 	@Override
 	public RGBAColor apply(RGBAColor color) {
-		int gray = color.red + color.green + color.blue;
-		gray /= 3;
-		return new RGBAColor(gray, gray, gray, color.alpha);
+		return new RGBAColor(this.apply(color.toARGB()));
+	}
+
+	@Override
+	public int apply(int argb) {
+		int gray = GrayScaleMode.GRAY[((argb >> 16) & 0xFF) + ((argb >> 8) & 0xFF) + (argb & 0xFF)] & 0xFF;
+		return (argb & 0xFF000000) | gray << 16 | gray << 8 | gray;
 	}
 
 	@Override
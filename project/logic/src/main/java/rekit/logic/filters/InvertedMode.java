@@ -11,10 +11,26 @@ import rekit.util.ReflectUtils.LoadMe;
  */
 @LoadMe
 public class InvertedMode implements Filter {
+	/**
+	 * The inverted alpha channel by alpha channel (opaque colors stay opaque).
+	 * The color channels are inverted by XOR.
+	 */
+	private static final byte[] ALPHA = new byte[256];
+
+	static {
+		for (int alpha = 0; alpha < InvertedMode.ALPHA.length; alpha++) {
+			InvertedMode.ALPHA[alpha] = (byte) (alpha == 255 ? 255 : 255 - alpha);
+		}
+	}
 
 	@Override
 	public RGBAColor apply(RGBAColor color) {
-		return new RGBAColor(255 - color.red, 255 - color.green, 255 - color.blue, color.alpha == 255 ? 255 : 255 - color.alpha);
+		return new RGBAColor(this.apply(color.toARGB()));
+	}
+
+	@Override
+	public int apply(int argb) {
+		return (InvertedMode.ALPHA[argb >>> 24] & 0xFF) << 24 | (~argb & 0xFFFFFF);
 	}
 
 	@Override
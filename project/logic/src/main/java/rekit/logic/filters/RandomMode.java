@@ -1,6 +1,6 @@
 package rekit.logic.filters;
 
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import rekit.config.GameConf;
 import rekit.primitives.image.RGBAColor;
@@ -22,13 +22,18 @@ public final class RandomMode implements Filter {
 	public static final ROContainer<RandomMode> INSTANCE = new ROContainer<>();
 
 	/**
-	 * The mapping for all colors.
+	 * The initial capacity of the mapping (power of two).
 	 */
-	private Integer[] map = new Integer[256 << 16];
+	private static final int CAPACITY = 1024;
+
+	/**
+	 * The mapping for all colors (RGB to random RGB).
+	 */
+	private volatile Mapping map = new Mapping(RandomMode.CAPACITY);
 	/**
 	 * Indicates whether the internal state has been changed.
 	 */
-	private boolean changed = false;
+	private volatile boolean changed = false;
 
 	/**
 	 * Create a new RandomMode filter.
@@ -44,7 +49,9 @@ public final class RandomMode implements Filter {
 	private void periodicallyReset() {
 		while (true) {
 			if (!this.changed) {
-				Arrays.fill(this.map, null);
+				synchronized (this) {
+					this.map = new Mapping(RandomMode.CAPACITY);
+				}
 				this.changed = true;
 			}
 			ThreadUtils.sleep(10000);
@@ -54,21 +61,47 @@ public final class RandomMode implements Filter {
 
 	/**
 	 * Flyweight getter method for getting a random value between 1 and 255 for
-	 * every value between 0 and 255.
+	 * every value between 0 and 255. Reading an existing mapping does not
+	 * lock.
 	 *
-	 * @param color
-	 *            the extrinsic, original color
-	 * @return the intrinsic, random color
+	 * @param argb
+	 *            the extrinsic, original color (ARGB)
+	 * @return the intrinsic, random color (ARGB)
 	 */
-	private synchronized RGBAColor getMapping(RGBAColor color) {
-		Integer mapping = this.map[color.red + (color.green << 8) + (color.blue << 16)];
-		if (mapping == null) {
-			int red = GameConf.PRNG.nextInt(256);
-			int green = GameConf.PRNG.nextInt(256);
-			int blue = GameConf.PRNG.nextInt(256);
-			mapping = this.map[color.red + (color.green << 8) + (color.blue << 16)] = (red << 16) | (green << 8) | blue;
+	private int getMapping(int argb) {
+		int rgb = argb & 0xFFFFFF;
+		int mapping = this.map.get(rgb);
+		if (mapping < 0) {
+			mapping = this.createMapping(rgb);
 		}
-		return new RGBAColor(mapping | (color.alpha << 24));
+		return mapping | (argb & 0xFF000000);
+	}
+
+	/**
+	 * Create the mapping of a color (if not created by another thread in the
+	 * meantime).
+	 *
+	 * @param rgb
+	 *            the original color (RGB)
+	 * @return the random color (RGB)
+	 */
+	private synchronized int createMapping(int rgb) {
+		Mapping current = this.map;
+		int mapping = current.get(rgb);
+		if (mapping >= 0) {
+			return mapping;
+		}
+		int red = GameConf.PRNG.nextInt(256);
+		int green = GameConf.PRNG.nextInt(256);
+		int blue = GameConf.PRNG.nextInt(256);
+		mapping = (red << 16) | (green << 8) | blue;
+		if (!current.put(rgb, mapping)) {
+			// full: publish a larger copy
+			current = current.grow();
+			current.put(rgb, mapping);
+			this.map = current;
+		}
+		return mapping;
 	}
 
 	@Override
@@ -82,7 +115,12 @@ public final class RandomMode implements Filter {
 
 	@Override
 	public RGBAColor apply(RGBAColor color) {
-		return this.getMapping(color);
+		return new RGBAColor(this.getMapping(color.toARGB()));
+	}
+
+	@Override
+	public int apply(int argb) {
+		return this.getMapping(argb);
 	}
 
 	@Override
@@ -95,4 +133,111 @@ public final class RandomMode implements Filter {
 		return false;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * An open addressing hash map from RGB to RGB (linear probing). Each
+	 * entry is one long (key in the upper, value in the lower half), so that
+	 * readers always see complete entries without locking. Only one thread
+	 * may write at a time.
+	 *
+	 */
+	private static final class Mapping {
+		/**
+		 * The marker of used entries (keys are 24 bit).
+		 */
+		private static final int USED = 1 << 24;
+		/**
+		 * The entries ({@code 0} if empty).
+		 */
+		private final AtomicLongArray entries;
+		/**
+		 * The mask of an index.
+		 */
+		private final int mask;
+		/**
+		 * The amount of entries.
+		 */
+		private int size;
+
+		/**
+		 * Create a new mapping.
+		 *
+		 * @param capacity
+		 *            the capacity (power of two)
+		 */
+		Mapping(int capacity) {
+			this.entries = new AtomicLongArray(capacity);
+			this.mask = capacity - 1;
+		}
+
+		/**
+		 * Get the index of the first entry to check for a key.
+		 *
+		 * @param key
+		 *            the key
+		 * @return the index
+		 */
+		private int indexOf(int key) {
+			int h = key * 0x9E3779B9;
+			return (h ^ (h >>> 16)) & this.mask;
+		}
+
+		/**
+		 * Get the value of a key.
+		 *
+		 * @param key
+		 *            the key (RGB)
+		 * @return the value or {@code -1} if not mapped
+		 */
+		int get(int key) {
+			int tag = key | Mapping.USED;
+			for (int i = this.indexOf(key);; i = (i + 1) & this.mask) {
+				long entry = this.entries.get(i);
+				if (entry == 0) {
+					return -1;
+				}
+				if ((int) (entry >>> 32) == tag) {
+					return (int) entry;
+				}
+			}
+		}
+
+		/**
+		 * Add a new key (the map will be kept at most half full).
+		 *
+		 * @param key
+		 *            the key (RGB)
+		 * @param value
+		 *            the value (RGB)
+		 * @return {@code true} if added, {@code false} if full
+		 */
+		boolean put(int key, int value) {
+			if (2 * (this.size + 1) > this.entries.length()) {
+				return false;
+			}
+			int i = this.indexOf(key);
+			while (this.entries.get(i) != 0) {
+				i = (i + 1) & this.mask;
+			}
+			this.entries.set(i, (long) (key | Mapping.USED) << 32 | (value & 0xFFFFFFFFL));
+			this.size++;
+			return true;
+		}
+
+		/**
+		 * Create a copy of double capacity.
+		 *
+		 * @return the copy
+		 */
+		Mapping grow() {
+			Mapping result = new Mapping(2 * this.entries.length());
+			for (int i = 0; i < this.entries.length(); i++) {
+				long entry = this.entries.get(i);
+				if (entry != 0) {
+					result.put((int) (entry >>> 32) & ~Mapping.USED, (int) entry);
+				}
+			}
+			return result;
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package rekit.logic.gameelements;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjLongConsumer;
+
+import rekit.primitives.geometry.Vec;
+
+/**
+ * This class stores the recycled {@link GameElement GameElements} of a scene
+ * by class (see {@link GameElement#isPoolable()}). Elements generated by
+ * {@link GameElementFactory#generate(String, int, int, String...)} will be
+ * recycled after their removal and reset instead of created again (see
+ * {@link GameElement#reset(Vec, String...)}).
+ *
+ */
+public final class ElementPool {
+	/**
+	 * The maximum amount of elements per class.
+	 */
+	private static final int POOL_SIZE = 128;
+	/**
+	 * The pools by class.
+	 */
+	private final Map<Class<?>, Pool> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * Reuse a recycled element of a class.
+	 *
+	 * @param type
+	 *            the class of the element
+	 * @param startPos
+	 *            the position
+	 * @param options
+	 *            optional parameters (see
+	 *            {@link GameElement#create(Vec, String...)})
+	 * @param <T>
+	 *            the type of the element
+	 * @return the reset element or {@code null} if none available
+	 */
+	public <T extends GameElement> T reuse(Class<T> type, Vec startPos, String... options) {
+		GameElement element = this.pools.computeIfAbsent(type, t -> new Pool()).poll();
+		if (element == null) {
+			return null;
+		}
+		element.reset(startPos, options);
+		return type.cast(element);
+	}
+
+	/**
+	 * Recycle an element which has been removed from the scene. Only poolable
+	 * elements generated by
+	 * {@link GameElementFactory#generate(String, int, int, String...)} will be
+	 * recycled.
+	 *
+	 * @param element
+	 *            the removed element
+	 */
+	public void recycle(GameElement element) {
+		if (!element.recyclable) {
+			return;
+		}
+		this.pools.computeIfAbsent(element.getClass(), t -> new Pool()).offer(element);
+	}
+
+	/**
+	 * Report the hits and misses of all classes.
+	 *
+	 * @param consumer
+	 *            the consumer of the statistics (key, value)
+	 */
+	public void reportStatistics(ObjLongConsumer<String> consumer) {
+		for (Map.Entry<Class<?>, Pool> entry : this.pools.entrySet()) {
+			Pool pool = entry.getValue();
+			synchronized (pool) {
+				consumer.accept("Pool: " + entry.getKey().getSimpleName() + " hits", pool.hits);
+				consumer.accept("Pool: " + entry.getKey().getSimpleName() + " misses", pool.misses);
+			}
+		}
+	}
+
+	/**
+	 * The recycled elements of one class.
+	 *
+	 */
+	private static final class Pool {
+		/**
+		 * The recycled elements.
+		 */
+		private final ArrayDeque<GameElement> elements = new ArrayDeque<>();
+		/**
+		 * The amount of reused elements.
+		 */
+		private long hits;
+		/**
+		 * The amount of requests without recycled element.
+		 */
+		private long misses;
+
+		/**
+		 * Take a recycled element.
+		 *
+		 * @return the element or {@code null} if empty
+		 */
+		synchronized GameElement poll() {
+			GameElement element = this.elements.poll();
+			if (element == null) {
+				this.misses++;
+			} else {
+				this.hits++;
+			}
+			return element;
+		}
+
+		/**
+		 * Put a recycled element into the pool (if not full).
+		 *
+		 * @param element
+		 *            the element
+		 */
+		synchronized void offer(GameElement element) {
+			if (this.elements.size() < ElementPool.POOL_SIZE) {
+				this.elements.push(element);
+			}
+		}
+	}
+}
@@ -51,27 +51,66 @@ public abstract class GameElement implements Collidable {
 
 	/**
 	 * The {@link GameElement GameElements} size that can be imagined as a box
-	 * of this {@link Vec Vecs} dimensions around the {@link Vec} <i>pos</i>.
+	 * of this {@link Vec Vecs} dimensions around the {@link Vec} <i>pos</i>
+	 * (components, see {@link #getSize()}).
+	 */
+	private float sizeX, sizeY, sizeZ;
+	/**
+	 * Indicates whether a size has been set.
+	 */
+	private boolean hasSize;
+	/**
+	 * The size as {@link Vec} ({@code null} if not created since the last
+	 * change).
 	 */
 	private Vec size;
 
 	/**
 	 * The {@link GameElement GameElements} velocity that can be used to alter
-	 * its position in the <i>logicLoop</i>.
+	 * its position in the <i>logicLoop</i> (components, see {@link #getVel()}).
+	 */
+	private float velX, velY, velZ;
+	/**
+	 * Indicates whether a velocity has been set.
+	 */
+	private boolean hasVel;
+	/**
+	 * The velocity as {@link Vec} ({@code null} if not created since the last
+	 * change).
 	 */
 	private Vec vel;
 
 	/**
 	 * <p>
-	 * The {@link GameElement GameElements} absolute position in the level.
+	 * The {@link GameElement GameElements} absolute position in the level
+	 * (components, see {@link #getPos()}).
 	 * </p>
 	 * <p>
 	 * <b>Note:</b> the position points to the center of the
 	 * {@link GameElement}.
 	 * </p>
 	 */
+	private float posX, posY, posZ;
+	/**
+	 * Indicates whether a position has been set.
+	 */
+	private boolean hasPos;
+	/**
+	 * The position as {@link Vec} ({@code null} if not created since the last
+	 * change).
+	 */
 	private Vec pos;
 
+	/**
+	 * The store which holds the components of position, velocity and size
+	 * while attached ({@code null} if the fields of this element are used).
+	 */
+	private TransformStore transforms;
+	/**
+	 * The handle in {@link #transforms} ({@code -1} if not attached).
+	 */
+	private int transformHandle = -1;
+
 	/**
 	 * The {@link Team} the {@link GameElement} is in that mainly specifies
 	 * behavior upon collision.
@@ -84,6 +123,25 @@ public abstract class GameElement implements Collidable {
 	 */
 	private ILevelScene scene;
 
+	/**
+	 * The index of the z-bucket of the {@link IScene} this
+	 * {@link GameElement} is stored in ({@code -1} if not stored).
+	 */
+	private int storeBucket = -1;
+
+	/**
+	 * The slot of this {@link GameElement} in its z-bucket ({@code -1} if not
+	 * stored).
+	 */
+	private int storeSlot = -1;
+
+	/**
+	 * Indicates whether this {@link GameElement} has been generated by the
+	 * {@link GameElementFactory} and will be recycled after its removal (see
+	 * {@link #isPoolable()}).
+	 */
+	boolean recyclable;
+
 	/**
 	 * Prototype constructor. Use the constructor <i>GameElement(Vec startPos,
 	 * Vec vel, Vec size, Team team)</i> for regular use and extending.
@@ -113,8 +171,8 @@ public abstract class GameElement implements Collidable {
 	 */
 	protected GameElement(Vec startPos, Vec vel, Vec size, Team team) {
 		this.team = team;
-		this.vel = vel;
-		this.size = size;
+		this.setVel(vel);
+		this.writeSize(size);
 		this.setPos(startPos);
 	}
 
@@ -138,12 +196,14 @@ public abstract class GameElement implements Collidable {
 	 * Check whether the element shall be deleted. If so, mark for delete.
 	 */
 	private void checkForDelete() {
-		Vec realPos = this.getPos().translate2D(this.scene.getCameraOffset());
-		if (realPos.y > GameConf.GRID_H + GameConf.GRID_TOLERANCE_BELOW) {
+		if (this.getY() > GameConf.GRID_H + GameConf.GRID_TOLERANCE_BELOW) {
 			this.destroy();
 			return;
 		}
-		float relX = realPos.x + this.getSize().x;
+		// parallax elements are moved depending on their z-position
+		float z = this.getPosZ();
+		float realX = z != 0 ? this.getX() + this.scene.getCameraOffset() / z : this.getX();
+		float relX = realX + this.getSize().x;
 		float offset = this.getScene().getCameraOffset();
 		if (offset > relX + GameConf.GRID_W && !this.getScene().isOffsetWildCard()) {
 			this.destroy();
@@ -217,6 +277,77 @@ public abstract class GameElement implements Collidable {
 		throw new UnsupportedOperationException("Create not supported for " + this.getClass().getSimpleName());
 	}
 
+	/**
+	 * Indicates whether {@link GameElement GameElements} of this class can be
+	 * recycled. Elements which have been generated by the
+	 * {@link GameElementFactory} will be put into a pool of their class after
+	 * their removal from the {@link IScene} and reused by
+	 * {@link #reset(Vec, String...)} instead of creating a new element.
+	 * <b>Note:</b> only return {@code true} if the element is not referenced
+	 * by other elements and {@link #reset(Vec, String...)} is implemented by
+	 * the class itself.
+	 *
+	 * @return {@code true} if poolable, {@code false} otherwise
+	 */
+	public boolean isPoolable() {
+		return false;
+	}
+
+	/**
+	 * Reuse a recycled {@link GameElement} of a pool instead of creating a new
+	 * one by this prototype (see {@link #create(Vec, String...)}). Prototypes
+	 * which create elements of other classes have to take them from the pools
+	 * of these classes.
+	 *
+	 * @param pool
+	 *            the pool of the scene
+	 * @param startPos
+	 *            the initial position of the {@link GameElement}.
+	 * @param options
+	 *            optional parameters (see {@link #create(Vec, String...)}).
+	 * @return the reset {@link GameElement} or {@code null} if none
+	 *         available
+	 */
+	public GameElement reuse(ElementPool pool, Vec startPos, String... options) {
+		return this.isPoolable() ? pool.reuse(this.getClass(), startPos, options) : null;
+	}
+
+	/**
+	 * <p>
+	 * Reset a recycled {@link GameElement} (see {@link #isPoolable()}), so
+	 * that it behaves exactly like a new one of
+	 * {@link #create(Vec, String...)} (including the use of
+	 * {@link GameConf#PRNG}).
+	 * </p>
+	 *
+	 * @param startPos
+	 *            the new position of the {@link GameElement}.
+	 * @param options
+	 *            optional parameters (see {@link #create(Vec, String...)}).
+	 */
+	public void reset(Vec startPos, String... options) {
+		throw new UnsupportedOperationException("Reset not supported for " + this.getClass().getSimpleName());
+	}
+
+	/**
+	 * Reset the state of a recycled {@link GameElement} which is common to all
+	 * elements (see {@link #reset(Vec, String...)}).
+	 *
+	 * @param startPos
+	 *            the position
+	 * @param vel
+	 *            the velocity
+	 * @param size
+	 *            the size
+	 */
+	protected final void resetElement(Vec startPos, Vec vel, Vec size) {
+		this.deleteMe = false;
+		this.visible = true;
+		this.setVel(vel);
+		this.writeSize(size);
+		this.setPos(startPos);
+	}
+
 	/**
 	 * Returns if the {@link GameElement} is currently supposed to be rendered
 	 * or not.
@@ -228,6 +359,59 @@ public abstract class GameElement implements Collidable {
 		return this.visible;
 	}
 
+	/**
+	 * Attach this element to a {@link TransformStore}. The current position,
+	 * velocity and size will be moved to the store and all accessors will
+	 * delegate to it until {@link #detach()} (or an attach to another store).
+	 *
+	 * @param store
+	 *            the store
+	 */
+	public final void attachTo(TransformStore store) {
+		if (this.transforms == store) {
+			return;
+		}
+		this.detach();
+		int handle = store.allocate(this);
+		store.posX[handle] = this.posX;
+		store.posY[handle] = this.posY;
+		store.posZ[handle] = this.posZ;
+		store.previousX[handle] = this.posX;
+		store.previousY[handle] = this.posY;
+		store.velX[handle] = this.velX;
+		store.velY[handle] = this.velY;
+		store.velZ[handle] = this.velZ;
+		store.sizeX[handle] = this.sizeX;
+		store.sizeY[handle] = this.sizeY;
+		store.sizeZ[handle] = this.sizeZ;
+		this.transforms = store;
+		this.transformHandle = handle;
+	}
+
+	/**
+	 * Detach this element from its {@link TransformStore} (if attached). The
+	 * components will be copied back to the element.
+	 */
+	public final void detach() {
+		TransformStore store = this.transforms;
+		if (store == null) {
+			return;
+		}
+		int handle = this.transformHandle;
+		this.posX = store.posX[handle];
+		this.posY = store.posY[handle];
+		this.posZ = store.posZ[handle];
+		this.velX = store.velX[handle];
+		this.velY = store.velY[handle];
+		this.velZ = store.velZ[handle];
+		this.sizeX = store.sizeX[handle];
+		this.sizeY = store.sizeY[handle];
+		this.sizeZ = store.sizeZ[handle];
+		this.transforms = null;
+		this.transformHandle = -1;
+		store.release(handle);
+	}
+
 	/**
 	 * <p>
 	 * Getter for the {@link GameElement GameElements} absolute position.
@@ -240,9 +424,62 @@ public abstract class GameElement implements Collidable {
 	 * @return the current position of the {@link GameElement}.
 	 */
 	public final Vec getPos() {
+		if (this.pos == null && this.hasPos) {
+			this.pos = new Vec(this.getX(), this.getY(), this.getPosZ());
+		}
 		return this.pos;
 	}
 
+	/**
+	 * Get the x-component of the position (see {@link #getPos()}) without
+	 * creating a {@link Vec}.
+	 *
+	 * @return the x-component of the position
+	 */
+	public final float getX() {
+		return this.transforms == null ? this.posX : this.transforms.posX[this.transformHandle];
+	}
+
+	/**
+	 * Get the y-component of the position (see {@link #getPos()}) without
+	 * creating a {@link Vec}.
+	 *
+	 * @return the y-component of the position
+	 */
+	public final float getY() {
+		return this.transforms == null ? this.posY : this.transforms.posY[this.transformHandle];
+	}
+
+	/**
+	 * Get the x-component of the position at the beginning of the current
+	 * logic step (see {@link TransformStore#beginStep()}).
+	 *
+	 * @return the previous x-component of the position
+	 */
+	public final float getPreviousX() {
+		return this.transforms == null ? this.posX : this.transforms.previousX[this.transformHandle];
+	}
+
+	/**
+	 * Get the y-component of the position at the beginning of the current
+	 * logic step (see {@link TransformStore#beginStep()}).
+	 *
+	 * @return the previous y-component of the position
+	 */
+	public final float getPreviousY() {
+		return this.transforms == null ? this.posY : this.transforms.previousY[this.transformHandle];
+	}
+
+	/**
+	 * Get the z-component of the position (see {@link #getPos()}) without
+	 * creating a {@link Vec}.
+	 *
+	 * @return the z-component of the position
+	 */
+	private float getPosZ() {
+		return this.transforms == null ? this.posZ : this.transforms.posZ[this.transformHandle];
+	}
+
 	/**
 	 * <p>
 	 * Setter for the {@link GameElement GameElements} absolute position.
@@ -257,6 +494,75 @@ public abstract class GameElement implements Collidable {
 	 */
 	public final void setPos(Vec value) {
 		this.pos = value;
+		this.hasPos = value != null;
+		if (value != null) {
+			this.writePos(value.x, value.y, value.z);
+		}
+	}
+
+	/**
+	 * Set x- and y-component of the position (see {@link #setPos(Vec)})
+	 * without creating a {@link Vec}. The z-component will be kept.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 */
+	public final void setPos(float x, float y) {
+		this.writePos(x, y, this.getPosZ());
+		this.hasPos = true;
+		this.pos = null;
+	}
+
+	/**
+	 * Write the components of the position.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 * @param z
+	 *            the z-component
+	 */
+	private void writePos(float x, float y, float z) {
+		TransformStore store = this.transforms;
+		if (store == null) {
+			this.posX = x;
+			this.posY = y;
+			this.posZ = z;
+		} else {
+			store.posX[this.transformHandle] = x;
+			store.posY[this.transformHandle] = y;
+			store.posZ[this.transformHandle] = z;
+		}
+	}
+
+	/**
+	 * Move this element by its velocity (see {@link #getVel()}). While
+	 * attached to a {@link TransformStore}, the element will be moved together
+	 * with all other moving elements of the store in
+	 * {@link TransformStore#integrate(float)} (after the logic of all
+	 * elements), otherwise it will be moved immediately.
+	 *
+	 * @param seconds
+	 *            the time step in seconds (only used if not attached)
+	 */
+	protected final void moveByVelocity(float seconds) {
+		TransformStore store = this.transforms;
+		if (store != null) {
+			store.move(this.transformHandle);
+			return;
+		}
+		this.setPos(this.posX + this.velX * seconds, this.posY + this.velY * seconds);
+	}
+
+	/**
+	 * Drop the cached position after the components have been changed by the
+	 * {@link TransformStore}.
+	 */
+	final void positionChanged() {
+		this.pos = null;
 	}
 
 	/**
@@ -267,9 +573,34 @@ public abstract class GameElement implements Collidable {
 	 * @return the current velocity of the {@link GameElement}.
 	 */
 	public final Vec getVel() {
+		if (this.vel == null && this.hasVel) {
+			TransformStore store = this.transforms;
+			this.vel = store == null ? new Vec(this.velX, this.velY, this.velZ)
+					: new Vec(store.velX[this.transformHandle], store.velY[this.transformHandle], store.velZ[this.transformHandle]);
+		}
 		return this.vel;
 	}
 
+	/**
+	 * Get the x-component of the velocity (see {@link #getVel()}) without
+	 * creating a {@link Vec}.
+	 *
+	 * @return the x-component of the velocity
+	 */
+	public final float getVelX() {
+		return this.transforms == null ? this.velX : this.transforms.velX[this.transformHandle];
+	}
+
+	/**
+	 * Get the y-component of the velocity (see {@link #getVel()}) without
+	 * creating a {@link Vec}.
+	 *
+	 * @return the y-component of the velocity
+	 */
+	public final float getVelY() {
+		return this.transforms == null ? this.velY : this.transforms.velY[this.transformHandle];
+	}
+
 	/**
 	 * <p>
 	 * Setter for the {@link GameElement GameElements} velocity.
@@ -280,6 +611,49 @@ public abstract class GameElement implements Collidable {
 	 */
 	public final void setVel(Vec newVel) {
 		this.vel = newVel;
+		this.hasVel = newVel != null;
+		if (newVel != null) {
+			this.writeVel(newVel.x, newVel.y, newVel.z);
+		}
+	}
+
+	/**
+	 * Set x- and y-component of the velocity (see {@link #setVel(Vec)})
+	 * without creating a {@link Vec}. The z-component will be kept.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 */
+	public final void setVel(float x, float y) {
+		TransformStore store = this.transforms;
+		this.writeVel(x, y, store == null ? this.velZ : store.velZ[this.transformHandle]);
+		this.hasVel = true;
+		this.vel = null;
+	}
+
+	/**
+	 * Write the components of the velocity.
+	 *
+	 * @param x
+	 *            the x-component
+	 * @param y
+	 *            the y-component
+	 * @param z
+	 *            the z-component
+	 */
+	private void writeVel(float x, float y, float z) {
+		TransformStore store = this.transforms;
+		if (store == null) {
+			this.velX = x;
+			this.velY = y;
+			this.velZ = z;
+		} else {
+			store.velX[this.transformHandle] = x;
+			store.velY[this.transformHandle] = y;
+			store.velZ[this.transformHandle] = z;
+		}
 	}
 
 	/**
@@ -290,9 +664,32 @@ public abstract class GameElement implements Collidable {
 	 * @return the current size of the {@link GameElement}.
 	 */
 	public final Vec getSize() {
+		if (this.size == null && this.hasSize) {
+			TransformStore store = this.transforms;
+			this.size = store == null ? new Vec(this.sizeX, this.sizeY, this.sizeZ)
+					: new Vec(store.sizeX[this.transformHandle], store.sizeY[this.transformHandle], store.sizeZ[this.transformHandle]);
+		}
 		return this.size;
 	}
 
+	/**
+	 * Get the width (see {@link #getSize()}).
+	 *
+	 * @return the x-component of the size
+	 */
+	public final float getWidth() {
+		return this.transforms == null ? this.sizeX : this.transforms.sizeX[this.transformHandle];
+	}
+
+	/**
+	 * Get the height (see {@link #getSize()}).
+	 *
+	 * @return the y-component of the size
+	 */
+	public final float getHeight() {
+		return this.transforms == null ? this.sizeY : this.transforms.sizeY[this.transformHandle];
+	}
+
 	/**
 	 * Set the size of the GameElement.
 	 *
@@ -300,7 +697,31 @@ public abstract class GameElement implements Collidable {
 	 *            the size
 	 */
 	public void setSize(Vec size) {
-		this.size = size == null ? null : size.abs();
+		this.writeSize(size == null ? null : size.abs());
+	}
+
+	/**
+	 * Write the size.
+	 *
+	 * @param value
+	 *            the size or {@code null}
+	 */
+	private void writeSize(Vec value) {
+		this.size = value;
+		this.hasSize = value != null;
+		if (value == null) {
+			return;
+		}
+		TransformStore store = this.transforms;
+		if (store == null) {
+			this.sizeX = value.x;
+			this.sizeY = value.y;
+			this.sizeZ = value.z;
+		} else {
+			store.sizeX[this.transformHandle] = value.x;
+			store.sizeY[this.transformHandle] = value.y;
+			store.sizeZ[this.transformHandle] = value.z;
+		}
 	}
 
 	@Override
@@ -316,9 +737,11 @@ public abstract class GameElement implements Collidable {
 	 * @return the {@link GameElement GameElements} collision box
 	 */
 	public Frame getFrame() {
-		Vec v1 = this.getPos().add(this.getSize().scalar(-0.5f));
-		Vec v2 = this.getPos().add(this.getSize().scalar(0.5f));
-		return new Frame(v1, v2);
+		float x = this.getX();
+		float y = this.getY();
+		float halfWidth = this.getWidth() * 0.5f;
+		float halfHeight = this.getHeight() * 0.5f;
+		return new Frame(x - halfWidth, y - halfHeight, x + halfWidth, y + halfHeight);
 	}
 
 	/**
@@ -340,6 +763,38 @@ public abstract class GameElement implements Collidable {
 		return this.scene;
 	}
 
+	/**
+	 * Set the position of this {@link GameElement} in the element store of its
+	 * {@link IScene}. This shall only be invoked by the scene.
+	 *
+	 * @param bucket
+	 *            the index of the z-bucket ({@code -1} if not stored)
+	 * @param slot
+	 *            the slot in the z-bucket ({@code -1} if not stored)
+	 */
+	public final void setStoreIndex(int bucket, int slot) {
+		this.storeBucket = bucket;
+		this.storeSlot = slot;
+	}
+
+	/**
+	 * Get the index of the z-bucket this {@link GameElement} is stored in.
+	 *
+	 * @return the index of the bucket or {@code -1} if not stored
+	 */
+	public final int getStoreBucket() {
+		return this.storeBucket;
+	}
+
+	/**
+	 * Get the slot of this {@link GameElement} in its z-bucket.
+	 *
+	 * @return the slot or {@code -1} if not stored
+	 */
+	public final int getStoreSlot() {
+		return this.storeSlot;
+	}
+
 	/**
 	 * Getter for the {@link GameElement GameElements} {@link Team} that mainly
 	 * specifies behavior upon collision.
@@ -392,6 +847,16 @@ public abstract class GameElement implements Collidable {
 		this.deleteMe = true;
 	}
 
+	/**
+	 * Will be invoked after this {@link GameElement} has been removed from its
+	 * {@link IScene} (before it may be recycled). This happens exactly once
+	 * per removal, no matter whether the element has been destroyed (see
+	 * {@link #destroy()}) or removed directly.
+	 */
+	public void onRemove() {
+		// Do nothing
+	}
+
 	/**
 	 * Getter for the flag that specifies if the {@link GameElement} is waiting
 	 * for deletion.
@@ -418,14 +883,69 @@ public abstract class GameElement implements Collidable {
 		if (this == e2 || !this.getFrame().intersects(e2.getFrame())) {
 			return;
 		}
+		Direction dir = GameElement.getCollisionDirection(this.getX(), this.getY(), this.getWidth(), this.getHeight(), e2.getX(), e2.getY(),
+				e2.getWidth(), e2.getHeight());
+		if (dir != null) {
+			this.reactToCollision(e2, dir);
+		}
+	}
 
-		float w = 0.5F * (this.size.x + e2.size.x);
-		float h = 0.5F * (this.size.y + e2.size.y);
-		Vec dxy = this.pos.sub(e2.pos);
-		float dx = dxy.x;
+	/**
+	 * Check whether the collision box of this element ({@link #getFrame()})
+	 * intersects an area without creating a {@link Frame} (see
+	 * {@link Frame#intersects(Frame)}). Elements which override
+	 * {@link #getFrame()} have to override this method as well.
+	 *
+	 * @param x1
+	 *            the left border of the area
+	 * @param y1
+	 *            the upper border of the area
+	 * @param x2
+	 *            the right border of the area
+	 * @param y2
+	 *            the lower border of the area
+	 * @return {@code true} if the collision box intersects the area,
+	 *         {@code false} otherwise
+	 */
+	public boolean intersects(float x1, float y1, float x2, float y2) {
+		float x = this.getX();
+		float y = this.getY();
+		float halfWidth = this.getWidth() * 0.5f;
+		float halfHeight = this.getHeight() * 0.5f;
+		return x - halfWidth < x2 && y - halfHeight < y2 && x + halfWidth > x1 && y + halfHeight > y1;
+	}
+
+	/**
+	 * Calculate the direction in which an element (1) collides with another
+	 * element (2) whose collision boxes intersect (see
+	 * {@link #checkCollision(GameElement)}).
+	 *
+	 * @param x1
+	 *            the x-component of the position of element 1
+	 * @param y1
+	 *            the y-component of the position of element 1
+	 * @param w1
+	 *            the width of element 1
+	 * @param h1
+	 *            the height of element 1
+	 * @param x2
+	 *            the x-component of the position of element 2
+	 * @param y2
+	 *            the y-component of the position of element 2
+	 * @param w2
+	 *            the width of element 2
+	 * @param h2
+	 *            the height of element 2
+	 * @return the direction for element 1 or {@code null} if the elements only
+	 *         touch
+	 */
+	public static Direction getCollisionDirection(float x1, float y1, float w1, float h1, float x2, float y2, float w2, float h2) {
+		float w = 0.5F * (w1 + w2);
+		float h = 0.5F * (h1 + h2);
+		float dx = x1 - x2;
 		float adx = dx < 0 ? -dx : dx;
 
-		float dy = dxy.y;
+		float dy = y1 - y2;
 		float ady = dy < 0 ? -dy : dy;
 
 		if (adx < w && ady < h && Math.abs(adx - w) > GameElement.EPS && Math.abs(ady - h) > GameElement.EPS) {
@@ -433,20 +953,11 @@ public abstract class GameElement implements Collidable {
 			float hx = h * dx;
 
 			if (wy > hx) {
-				if (wy > -hx) {
-					this.reactToCollision(e2, Direction.UP);
-				} else {
-					this.reactToCollision(e2, Direction.RIGHT);
-				}
-			} else {
-				if (wy > -hx) {
-					this.reactToCollision(e2, Direction.LEFT);
-				} else {
-					this.reactToCollision(e2, Direction.DOWN);
-				}
+				return wy > -hx ? Direction.UP : Direction.RIGHT;
 			}
+			return wy > -hx ? Direction.LEFT : Direction.DOWN;
 		}
-
+		return null;
 	}
 
 	/**
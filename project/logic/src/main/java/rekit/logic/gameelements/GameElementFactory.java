@@ -32,22 +32,32 @@ public final class GameElementFactory {
 
 	// Create connection to scene
 	/**
-	 * The current scene.
+	 * The scenes bound to threads.
 	 */
-	private static IScene scene;
+	private static final ThreadLocal<IScene> BOUND = new ThreadLocal<>();
 	/**
 	 * Indicates whether the factory has been loaded.
 	 */
 	private static boolean loaded = false;
 
 	/**
-	 * Set the current scene.
+	 * Bind a scene to the current thread. All elements generated by this
+	 * thread will be added to the bound scene. This allows multiple scenes to
+	 * run in parallel. The scenes bind themselves during their logic steps
+	 * (see {@link IScene#logicLoop()}).
 	 *
 	 * @param scene
-	 *            the current scene.
+	 *            the scene or {@code null} to unbind
+	 * @return the previously bound scene or {@code null} if none
 	 */
-	public static synchronized void setScene(IScene scene) {
-		GameElementFactory.scene = scene;
+	public static IScene bindScene(IScene scene) {
+		IScene previous = GameElementFactory.BOUND.get();
+		if (scene == null) {
+			GameElementFactory.BOUND.remove();
+		} else {
+			GameElementFactory.BOUND.set(scene);
+		}
+		return previous;
 	}
 
 	/**
@@ -96,11 +106,37 @@ public final class GameElementFactory {
 	 *            the optional modifiers
 	 */
 	public static void generate(String id, int x, int y, String... modifiers) {
+		IScene scene = GameElementFactory.getCurrentScene();
+		if (scene == null) {
+			return;
+		}
 		GameElement prototype = GameElementFactory.getPrototype(id);
-		GameElementFactory.generate(prototype.create(new Vec(x, y), modifiers));
+		Vec pos = new Vec(x, y);
+		GameElement element = prototype.reuse(scene.getElementPool(), pos, modifiers);
+		if (element == null) {
+			element = prototype.create(pos, modifiers);
+		}
+		if (element != null && element.isPoolable()) {
+			element.recyclable = true;
+		}
+		GameElementFactory.generate(element);
 
 	}
 
+	/**
+	 * Get the scene new elements will be added to.
+	 *
+	 * @return the scene bound to the current thread or {@code null} if none
+	 *         bound
+	 */
+	private static IScene getCurrentScene() {
+		IScene bound = GameElementFactory.BOUND.get();
+		if (bound == null) {
+			GameConf.GAME_LOGGER.error("Error in GameElementFactory: No scene bound to thread " + Thread.currentThread().getName());
+		}
+		return bound;
+	}
+
 	/**
 	 * Generate a new GameElement.
 	 *
@@ -108,9 +144,13 @@ public final class GameElementFactory {
 	 *            the element
 	 */
 	public static void generate(GameElement element) {
-		if (element != null) {
+		if (element == null) {
+			return;
+		}
+		IScene scene = GameElementFactory.getCurrentScene();
+		if (scene != null) {
 			// Add GameElement to model
-			GameElementFactory.scene.addGameElement(element);
+			scene.addGameElement(element);
 		}
 
 	}
@@ -122,6 +162,15 @@ public final class GameElementFactory {
 		ThreadUtils.runDaemon("GameElementFactory", GameElementFactory::load);
 	}
 
+	/**
+	 * Initialize GameElementFactory in the current thread. This method returns
+	 * after all elements have been loaded (also if loading has already been
+	 * started by {@link #initialize()}).
+	 */
+	public static void initializeNow() {
+		GameElementFactory.load();
+	}
+
 	/**
 	 * Load the factory.
 	 */
@@ -0,0 +1,227 @@
+package rekit.logic.gameelements;
+
+import java.util.Arrays;
+
+/**
+ * This class stores position, velocity and size of the {@link GameElement
+ * GameElements} of a scene in contiguous float arrays (struct of arrays). An
+ * element gets a handle (index into the arrays) by
+ * {@link GameElement#attachTo(TransformStore)}; while attached, all accessors
+ * of the element delegate to the store. Released handles will be reused.<br>
+ * Elements which move uniformly by their velocity (see
+ * {@link GameElement#moveByVelocity(float)}) will be moved together by
+ * {@link #integrate(float)} in one loop over the arrays.<br>
+ * The positions at the beginning of the current logic step are kept (see
+ * {@link #beginStep()}), so the view can interpolate between two steps.
+ *
+ */
+public final class TransformStore {
+	/**
+	 * The initial capacity.
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+
+	/**
+	 * The x-components of the positions.
+	 */
+	float[] posX;
+	/**
+	 * The y-components of the positions.
+	 */
+	float[] posY;
+	/**
+	 * The z-components of the positions.
+	 */
+	float[] posZ;
+	/**
+	 * The x-components of the positions at the beginning of the step.
+	 */
+	float[] previousX;
+	/**
+	 * The y-components of the positions at the beginning of the step.
+	 */
+	float[] previousY;
+	/**
+	 * The x-components of the velocities.
+	 */
+	float[] velX;
+	/**
+	 * The y-components of the velocities.
+	 */
+	float[] velY;
+	/**
+	 * The z-components of the velocities.
+	 */
+	float[] velZ;
+	/**
+	 * The x-components of the sizes.
+	 */
+	float[] sizeX;
+	/**
+	 * The y-components of the sizes.
+	 */
+	float[] sizeY;
+	/**
+	 * The z-components of the sizes.
+	 */
+	float[] sizeZ;
+
+	/**
+	 * The element of each handle ({@code null} if released).
+	 */
+	private GameElement[] owners;
+
+	/**
+	 * The handles which shall be moved by the next {@link #integrate(float)}.
+	 */
+	private int[] moving = new int[TransformStore.INITIAL_CAPACITY];
+	/**
+	 * The amount of handles in {@link #moving}.
+	 */
+	private int movingCount;
+
+	/**
+	 * The released handles.
+	 */
+	private int[] free = new int[TransformStore.INITIAL_CAPACITY];
+	/**
+	 * The amount of released handles.
+	 */
+	private int freeCount;
+	/**
+	 * The amount of handles which have ever been used.
+	 */
+	private int used;
+
+	/**
+	 * Create a new store.
+	 */
+	public TransformStore() {
+		this.resize(TransformStore.INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Allocate a handle.
+	 *
+	 * @param owner
+	 *            the element which uses the handle
+	 * @return the handle
+	 */
+	int allocate(GameElement owner) {
+		int handle;
+		if (this.freeCount > 0) {
+			handle = this.free[--this.freeCount];
+		} else {
+			if (this.used == this.posX.length) {
+				this.resize(this.posX.length * 2);
+			}
+			handle = this.used++;
+		}
+		this.owners[handle] = owner;
+		return handle;
+	}
+
+	/**
+	 * Release a handle.
+	 *
+	 * @param handle
+	 *            the handle
+	 */
+	void release(int handle) {
+		this.owners[handle] = null;
+		if (this.freeCount == this.free.length) {
+			this.free = Arrays.copyOf(this.free, this.free.length * 2);
+		}
+		this.free[this.freeCount++] = handle;
+	}
+
+	/**
+	 * Move an element by its velocity in the next {@link #integrate(float)}.
+	 *
+	 * @param handle
+	 *            the handle of the element
+	 */
+	void move(int handle) {
+		if (this.movingCount == this.moving.length) {
+			this.moving = Arrays.copyOf(this.moving, this.moving.length * 2);
+		}
+		this.moving[this.movingCount++] = handle;
+	}
+
+	/**
+	 * Begin a new logic step: the current positions become the previous
+	 * positions of all elements.
+	 */
+	public void beginStep() {
+		System.arraycopy(this.posX, 0, this.previousX, 0, this.used);
+		System.arraycopy(this.posY, 0, this.previousY, 0, this.used);
+	}
+
+	/**
+	 * Move all elements which have been scheduled by
+	 * {@link GameElement#moveByVelocity(float)} since the last integration by
+	 * their velocity.
+	 *
+	 * @param seconds
+	 *            the time step in seconds
+	 */
+	public void integrate(float seconds) {
+		int[] handles = this.moving;
+		int count = this.movingCount;
+		float[] px = this.posX;
+		float[] py = this.posY;
+		float[] vx = this.velX;
+		float[] vy = this.velY;
+		for (int i = 0; i < count; i++) {
+			int handle = handles[i];
+			px[handle] += vx[handle] * seconds;
+			py[handle] += vy[handle] * seconds;
+		}
+		for (int i = 0; i < count; i++) {
+			GameElement owner = this.owners[handles[i]];
+			if (owner != null) {
+				owner.positionChanged();
+			}
+		}
+		this.movingCount = 0;
+	}
+
+	/**
+	 * Get the amount of allocated handles.
+	 *
+	 * @return the amount of attached elements
+	 */
+	public int size() {
+		return this.used - this.freeCount;
+	}
+
+	/**
+	 * Get the capacity of the arrays.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.posX.length;
+	}
+
+	/**
+	 * Resize all arrays.
+	 *
+	 * @param capacity
+	 *            the new capacity
+	 */
+	private void resize(int capacity) {
+		this.posX = this.posX == null ? new float[capacity] : Arrays.copyOf(this.posX, capacity);
+		this.posY = this.posY == null ? new float[capacity] : Arrays.copyOf(this.posY, capacity);
+		this.posZ = this.posZ == null ? new float[capacity] : Arrays.copyOf(this.posZ, capacity);
+		this.previousX = this.previousX == null ? new float[capacity] : Arrays.copyOf(this.previousX, capacity);
+		this.previousY = this.previousY == null ? new float[capacity] : Arrays.copyOf(this.previousY, capacity);
+		this.velX = this.velX == null ? new float[capacity] : Arrays.copyOf(this.velX, capacity);
+		this.velY = this.velY == null ? new float[capacity] : Arrays.copyOf(this.velY, capacity);
+		this.velZ = this.velZ == null ? new float[capacity] : Arrays.copyOf(this.velZ, capacity);
+		this.sizeX = this.sizeX == null ? new float[capacity] : Arrays.copyOf(this.sizeX, capacity);
+		this.sizeY = this.sizeY == null ? new float[capacity] : Arrays.copyOf(this.sizeY, capacity);
+		this.sizeZ = this.sizeZ == null ? new float[capacity] : Arrays.copyOf(this.sizeZ, capacity);
+		this.owners = this.owners == null ? new GameElement[capacity] : Arrays.copyOf(this.owners, capacity);
+	}
+}
@@ -1,13 +1,13 @@
 package rekit.logic.gameelements.entities;
 
 import rekit.config.GameConf;
-import rekit.core.GameTime;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.type.Enemy;
 import rekit.logic.gameelements.type.Pickup;
 import rekit.primitives.geometry.Direction;
 import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.MutableVec;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.time.Timer;
 
@@ -32,14 +32,18 @@ public abstract class Entity extends GameElement {
 	 * ({@code null} --&gt; not invincible)
 	 */
 	protected Timer invincibility = null;
-	/**
-	 * Last time of invoking {@link #logicLoop()}.
-	 */
-	private long lastTime = GameTime.getTime();
 	/**
 	 * The latest deltaTime in {@link #logicLoop()}.
 	 */
 	protected long deltaTime;
+	/**
+	 * The scratch position of {@link #collidedWithSolid(Frame, Direction)}.
+	 */
+	private final MutableVec solidPos = new MutableVec();
+	/**
+	 * The scratch velocity of {@link #collidedWithSolid(Frame, Direction)}.
+	 */
+	private final MutableVec solidVel = new MutableVec();
 
 	/**
 	 * Minimal Constructor by {@link Team} used for prototype constructors. The
@@ -71,6 +75,24 @@ public abstract class Entity extends GameElement {
 		super(startPos, vel, size, team);
 	}
 
+	/**
+	 * Reset the state of a recycled {@link Entity} (see
+	 * {@link #reset(Vec, String...)}).
+	 *
+	 * @param startPos
+	 *            the position
+	 * @param vel
+	 *            the velocity
+	 * @param size
+	 *            the size
+	 */
+	protected final void resetEntity(Vec startPos, Vec vel, Vec size) {
+		this.resetElement(startPos, vel, size);
+		this.lives = 1;
+		this.invincibility = null;
+		this.deltaTime = 0;
+	}
+
 	@Override
 	public void addDamage(int damage) {
 		// no damage taken while invincibility time is not up
@@ -105,8 +127,7 @@ public abstract class Entity extends GameElement {
 	@Override
 	public final void logicLoop() {
 		super.logicLoop();
-		this.deltaTime = GameTime.getTime() - this.lastTime;
-		this.lastTime += this.deltaTime;
+		this.deltaTime = this.getScene().getDeltaTime();
 		this.innerLogicLoop();
 	}
 
@@ -119,21 +140,23 @@ public abstract class Entity extends GameElement {
 			this.invincibility.logicLoop();
 		}
 
-		// calculate new position
+		// calculate new position (on components to avoid garbage)
 		// s1 = s0 + v*t because physics, thats why!
-		this.setPos(this.getPos().add(this.getVel().scalar(this.deltaTime / 1000F)));
+		float velX = this.getVelX();
+		float velY = this.getVelY();
+		float t = this.deltaTime / 1000F;
+		this.setPos(this.getX() + velX * t, this.getY() + velY * t);
 
-		Vec newVel = this.getVel();
 		// apply gravity
-		newVel = newVel.addY(GameConf.G);
+		velY += GameConf.G;
 		// apply slowing down walk
-		newVel = newVel.addX(-Math.signum(newVel.x) * Player.STOP_ACCEL);
+		velX += -Math.signum(velX) * Player.STOP_ACCEL;
 		// we don't want weird floating point velocities
-		if (Math.abs(newVel.x) < 0.05) {
-			newVel = newVel.setX(0);
+		if (Math.abs(velX) < 0.05) {
+			velX = 0;
 		}
 		// save new velocity
-		this.setVel(newVel);
+		this.setVel(velX, velY);
 	}
 
 	/**
@@ -144,27 +167,29 @@ public abstract class Entity extends GameElement {
 	@Optional
 	public void collidedWithSolid(Frame collision, Direction dir) {
 		int signum = dir == Direction.LEFT || dir == Direction.UP ? -1 : 1;
+		MutableVec pos = this.solidPos.set(this.getX(), this.getY());
+		MutableVec vel = this.solidVel.set(this.getVelX(), this.getVelY());
 
 		switch (dir) {
 		case LEFT:
 		case RIGHT:
 			// move entities right side to collisions left side / vice versa
-			float newX = collision.getBorder(dir) + signum * this.getSize().x / 1.9f;
-			this.setPos(this.getPos().setX(newX));
+			pos.setX(collision.getBorder(dir) + signum * this.getWidth() / 1.9f);
 			// stop velocity in x dimension
-			this.setVel(this.getVel().setX(0));
+			vel.setX(0);
 			break;
 		case UP:
 		case DOWN:
 			// move entities lower side to collisions top side / vice versa
-			float newY = collision.getBorder(Direction.getOpposite(dir)) + signum * this.getSize().y / 1.9f;
-			this.setPos(this.getPos().setY(newY));
+			pos.setY(collision.getBorder(Direction.getOpposite(dir)) + signum * this.getHeight() / 1.9f);
 			// stop velocity in y dimension
-			this.setVel(this.getVel().setY(0));
+			vel.setY(0);
 			break;
 		default:
 			throw new Error();
 		}
+		this.setPos(pos.x, pos.y);
+		this.setVel(vel.x, vel.y);
 	}
 
 	@Override
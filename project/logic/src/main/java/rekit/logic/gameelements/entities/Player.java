@@ -28,6 +28,16 @@ import rekit.primitives.time.Timer;
  */
 @SetterInfo(res = "conf/player")
 public final class Player extends StateEntity implements CameraTarget, Configurable {
+	/**
+	 * The image of a player facing right.
+	 */
+	@NoSet
+	private static final int IMAGE_RIGHT = GameGrid.registerImage("mrRekt_glasses_right.png");
+	/**
+	 * The image of a player facing left.
+	 */
+	@NoSet
+	private static final int IMAGE_LEFT = GameGrid.registerImage("mrRekt_glasses_left.png");
 	/**
 	 * The default camera offset for a player.
 	 */
@@ -138,6 +148,7 @@ public final class Player extends StateEntity implements CameraTarget, Configura
 		this.damageParticles.colorG = new ParticleSpawnerOption(138, 158, -10, 10);
 		this.damageParticles.colorB = new ParticleSpawnerOption(6, 26, -10, 10);
 		this.damageParticles.colorA = new ParticleSpawnerOption(255, 255, -255, -255);
+		this.damageParticles.name = "Player damage";
 
 		this.scoreParticleSpawner = new TextParticleSpawner();
 	}
@@ -158,10 +169,10 @@ public final class Player extends StateEntity implements CameraTarget, Configura
 		}
 
 		f.drawRoundRectangle(this.getPos(), this.getSize(), new RGBAColor(232, 148, 16, 255), 0.45F, 0.45F);
-		String src = this.currentDirection == Direction.RIGHT //
-				? "mrRekt_glasses_right.png" // facing right
-				: "mrRekt_glasses_left.png"; // facing left
-		f.drawImage(this.getPos().addY(-0.025f * this.getVel().y), this.getSize(), src);
+		int image = this.currentDirection == Direction.RIGHT //
+				? Player.IMAGE_RIGHT // facing right
+				: Player.IMAGE_LEFT; // facing left
+		f.drawImage(this.getPos().addY(-0.025f * this.getVel().y), this.getSize(), image);
 
 	}
 
@@ -169,7 +180,7 @@ public final class Player extends StateEntity implements CameraTarget, Configura
 	public void collidedWithSolid(Frame collision, Direction dir) {
 		super.collidedWithSolid(collision, dir);
 		if (dir == Direction.UP) {
-			this.setVel(this.getVel().setY(Player.FLOOR_BOOST));
+			this.setVel(this.getVelX(), Player.FLOOR_BOOST);
 		}
 	}
 
@@ -203,7 +214,7 @@ public final class Player extends StateEntity implements CameraTarget, Configura
 	@Override
 	public float getCameraOffset() {
 		// get maximum player x and adjust level offset
-		float offsetNow = this.getPos().x - Player.CAMERA_OFFSET;
+		float offsetNow = this.getX() - Player.CAMERA_OFFSET;
 		if (offsetNow > this.currentCameraOffset || (this.getScene() != null && this.getScene().isOffsetWildCard())) {
 			this.currentCameraOffset = offsetNow;
 		}
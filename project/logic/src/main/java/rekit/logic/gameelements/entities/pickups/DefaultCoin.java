@@ -57,4 +57,15 @@ public class DefaultCoin extends Coin {
 	public DefaultCoin create(Vec startPos, String... options) {
 		return new DefaultCoin(startPos);
 	}
+
+	@Override
+	public boolean isPoolable() {
+		// subclasses have to opt in by themselves
+		return this.getClass() == DefaultCoin.class;
+	}
+
+	@Override
+	public void reset(Vec startPos, String... options) {
+		this.resetCoin(startPos);
+	}
 }
@@ -12,6 +12,11 @@ import rekit.util.ReflectUtils.LoadMe;
  */
 @LoadMe
 public final class Life extends Pickup {
+	/**
+	 * The image of a life.
+	 */
+	private static final int IMAGE = GameGrid.registerImage("mrRekt_glasses_left.png");
+
 	/**
 	 * Prototype Constructor.
 	 */
@@ -37,7 +42,7 @@ public final class Life extends Pickup {
 
 	@Override
 	public void internalRender(GameGrid f) {
-		f.drawImage(this.getPos(), this.getSize(), "mrRekt_glasses_left.png");
+		f.drawImage(this.getPos(), this.getSize(), Life.IMAGE);
 	}
 
 	@Override
@@ -7,7 +7,6 @@ import org.fuchss.configuration.annotations.SetterInfo;
 import net.jafama.FastMath;
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.particles.ParticleSpawner;
@@ -120,11 +119,6 @@ public final class EndTrigger extends InanimateTrigger implements Configurable {
 		 */
 		private Vec currentSize;
 
-		/**
-		 * The last time of invoking {@link #logicLoop()}.
-		 */
-		private long lastTime = GameTime.getTime();
-
 		/**
 		 * Create a portal-ring.
 		 *
@@ -151,8 +145,7 @@ public final class EndTrigger extends InanimateTrigger implements Configurable {
 
 		@Override
 		public void logicLoop() {
-			long deltaTime = GameTime.getTime() - this.lastTime;
-			this.lastTime += deltaTime;
+			long deltaTime = EndTrigger.this.getScene().getDeltaTime();
 
 			this.x += deltaTime / 1000F;
 
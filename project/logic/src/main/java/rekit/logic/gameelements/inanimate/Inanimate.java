@@ -3,6 +3,7 @@ package rekit.logic.gameelements.inanimate;
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
 import rekit.core.Team;
+import rekit.logic.gameelements.ElementPool;
 import rekit.logic.gameelements.GameElement;
 import rekit.primitives.geometry.Direction;
 import rekit.primitives.geometry.Frame;
@@ -84,6 +85,16 @@ public class Inanimate extends GameElement {
 		}
 	}
 
+	@Override
+	public Inanimate reuse(ElementPool pool, Vec startPos, String... options) {
+		// same decision as create
+		if (startPos.y + 1 >= GameConf.GRID_H) {
+			return pool.reuse(InanimateFloor.class, startPos, options);
+		} else {
+			return pool.reuse(InanimateBox.class, startPos, options);
+		}
+	}
+
 	/**
 	 * Get the inanimate-prototype.
 	 *
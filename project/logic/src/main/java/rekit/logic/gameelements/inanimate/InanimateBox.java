@@ -1,5 +1,7 @@
 package rekit.logic.gameelements.inanimate;
 
+import java.util.function.BiConsumer;
+
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
 import rekit.primitives.geometry.Vec;
@@ -25,17 +27,109 @@ public class InanimateBox extends Inanimate {
 		super(pos, size, color);
 	}
 
+	/**
+	 * The drawing of the current color and size.
+	 */
+	private BoxSprite sprite;
+
+	@Override
+	public boolean isPoolable() {
+		// subclasses (e.g. doors) have to opt in by themselves
+		return this.getClass() == InanimateBox.class;
+	}
+
+	@Override
+	public void reset(Vec startPos, String... options) {
+		this.resetElement(startPos, new Vec(), new Vec(1, 1));
+		this.color = InanimateBox.randomColor();
+	}
+
 	@Override
 	public void internalRender(GameGrid f) {
-		f.drawRectangle(this.getPos(), this.getSize(), this.color);
+		Vec size = this.getSize();
+		if (this.sprite == null || this.sprite.color != this.color || this.sprite.size.x != size.x || this.sprite.size.y != size.y) {
+			this.sprite = new BoxSprite(this.color, size);
+		}
+		if (this.color.alpha == 255) {
+			f.drawCached(this.getPos(), size, this.sprite, this.sprite);
+		} else {
+			// translucent boxes are faded, so caching would not pay off
+			this.sprite.accept(f, this.getPos());
+		}
+	}
 
-		RGBAColor darkColor = new RGBAColor(this.color.red - 30, this.color.green - 30, this.color.blue - 30, this.color.alpha);
-		float sizeDiff = -0.2f;
-		
-		f.drawRectangle(this.getPos(), this.getSize(), darkColor);
-		f.drawRectangle(this.getPos(), this.getSize().add(new Vec(sizeDiff)), this.color);
+	/**
+	 * The drawing of an {@link InanimateBox} by color and size. It draws
+	 * relative to the position it gets and is used as its own key for
+	 * {@link GameGrid#drawCached(Vec, Vec, Object, BiConsumer)}, so boxes of
+	 * equal color and size share their drawing. As it may be replayed by the
+	 * render thread, it never changes after its creation (a box with a new
+	 * color or size gets a new drawing).
+	 *
+	 */
+	private static final class BoxSprite implements BiConsumer<GameGrid, Vec> {
+		/**
+		 * The color.
+		 */
+		private final RGBAColor color;
+		/**
+		 * The darker color.
+		 */
+		private final RGBAColor darkColor;
+		/**
+		 * The size.
+		 */
+		private final Vec size;
+		/**
+		 * The size of the inner (lighter) rectangle.
+		 */
+		private final Vec innerSize;
+		/**
+		 * The size of the center (darker) rectangle.
+		 */
+		private final Vec centerSize;
+
+		/**
+		 * Create the drawing of a box.
+		 *
+		 * @param color
+		 *            the color
+		 * @param size
+		 *            the size
+		 */
+		BoxSprite(RGBAColor color, Vec size) {
+			this.color = color;
+			this.darkColor = new RGBAColor(color.red - 30, color.green - 30, color.blue - 30, color.alpha);
+			this.size = size;
+			float sizeDiff = -0.2f;
+			this.innerSize = size.add(new Vec(sizeDiff));
+			this.centerSize = size.scalar(0.5f);
+		}
+
+		@Override
+		public void accept(GameGrid f, Vec pos) {
+			f.drawRectangle(pos, this.size, this.color);
+			f.drawRectangle(pos, this.size, this.darkColor);
+			f.drawRectangle(pos, this.innerSize, this.color);
+			f.drawRectangle(pos, this.centerSize, this.darkColor);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * this.color.hashCode() + Float.hashCode(this.size.x)) + Float.hashCode(this.size.y);
+		}
 
-		f.drawRectangle(this.getPos(), this.getSize().scalar(0.5f), darkColor);
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || this.getClass() != obj.getClass()) {
+				return false;
+			}
+			BoxSprite other = (BoxSprite) obj;
+			return this.color.equals(other.color) && this.size.x == other.size.x && this.size.y == other.size.y;
+		}
 	}
 
 	/**
@@ -46,8 +140,17 @@ public class InanimateBox extends Inanimate {
 	 * @return the new Inanimate
 	 */
 	public static Inanimate staticCreate(Vec pos) {
+		return new InanimateBox(pos, new Vec(1, 1), InanimateBox.randomColor());
+	}
+
+	/**
+	 * Get a random gray.
+	 *
+	 * @return the color
+	 */
+	private static RGBAColor randomColor() {
 		int randCol = (int) (GameConf.PRNG.nextDouble() * 60 + 50);
-		return new InanimateBox(pos, new Vec(1, 1), new RGBAColor(randCol, randCol, randCol, 255));
+		return new RGBAColor(randCol, randCol, randCol, 255);
 	}
 
 }
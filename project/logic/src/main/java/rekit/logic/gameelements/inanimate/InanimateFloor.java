@@ -1,5 +1,7 @@
 package rekit.logic.gameelements.inanimate;
 
+import java.util.function.BiConsumer;
+
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
 import rekit.logic.gameelements.GameElement;
@@ -44,35 +46,34 @@ public class InanimateFloor extends Inanimate {
 	private static Vec[] layerVecs;
 
 	/**
-	 * Holds all GrassStraws that will be rendered on the upper half of the
-	 * {@link InanimateFloor}.
+	 * The drawing of the {@link InanimateFloor} (layers and GrassStraws). As
+	 * it never changes, it will be drawn by
+	 * {@link GameGrid#drawCached(Vec, Vec, Object, BiConsumer)}. It will be
+	 * replaced by a new drawing if the floor is recycled.
 	 */
-	private GrassStraw[] straws;
+	private FloorSprite sprite;
 
 	/**
 	 * Cached version of the {@link ParticleSpawner} that will be used to show
-	 * both {@link Particle Particles} when an {@link Entity} walks on the
-	 * surface very fast and when an {@link Entity} lands on it very fast.
-	 */
-	private static ParticleSpawner dustParticles;
-
-	/**
-	 * Holds the angle for the {@link ParticleSpawner} that is used when an
-	 * {@link Entity} walks fast to the right on the {@link InanimateFloor}.
+	 * {@link Particle Particles} when an {@link Entity} walks fast to the right
+	 * on the {@link InanimateFloor}. The spawners are never changed after
+	 * their creation as they are shared by all scenes.
 	 */
-	private static final ParticleSpawnerOption DUST_PARTICLE_ANGLE_LEFT;
+	private static final ParticleSpawner DUST_PARTICLES_LEFT;
 
 	/**
-	 * Holds the angle for the {@link ParticleSpawner} that is used when an
-	 * {@link Entity} walks fast to the left on the {@link InanimateFloor}.
+	 * Cached version of the {@link ParticleSpawner} that will be used to show
+	 * {@link Particle Particles} when an {@link Entity} walks fast to the left
+	 * on the {@link InanimateFloor}.
 	 */
-	private static final ParticleSpawnerOption DUST_PARTICLE_ANGLE_RIGHT;
+	private static final ParticleSpawner DUST_PARTICLES_RIGHT;
 
 	/**
-	 * Holds the angle for the {@link ParticleSpawner} that is used when an
-	 * {@link Entity} lands on the {@link InanimateFloor}.
+	 * Cached version of the {@link ParticleSpawner} that will be used to show
+	 * {@link Particle Particles} when an {@link Entity} lands on the
+	 * {@link InanimateFloor} very fast.
 	 */
-	private static final ParticleSpawnerOption DUST_PARTICLE_ANGLE_TOP;
+	private static final ParticleSpawner DUST_PARTICLES_TOP;
 	// TODO: Config file.
 	static {
 		// define color range for blocks layers
@@ -98,21 +99,35 @@ public class InanimateFloor extends Inanimate {
 		}
 
 		// prepare particles
-		InanimateFloor.dustParticles = new ParticleSpawner();
-		InanimateFloor.dustParticles.colorR = new ParticleSpawnerOption(InanimateFloor.layerCols[0].red);
-		InanimateFloor.dustParticles.colorG = new ParticleSpawnerOption(InanimateFloor.layerCols[0].green);
-		InanimateFloor.dustParticles.colorB = new ParticleSpawnerOption(InanimateFloor.layerCols[0].blue);
-		InanimateFloor.dustParticles.colorA = new ParticleSpawnerOption(255);
-		DUST_PARTICLE_ANGLE_LEFT = new ParticleSpawnerOption((float) ((7 / 4f) * Math.PI), (float) ((5 / 4f) * Math.PI),
-				-(float) ((1 / 4f) * Math.PI), 0);
-		DUST_PARTICLE_ANGLE_RIGHT = new ParticleSpawnerOption((float) ((1 / 4f) * Math.PI),
-				(float) ((3 / 4f) * Math.PI), 0, (float) ((1 / 4f) * Math.PI));
-		DUST_PARTICLE_ANGLE_TOP = new ParticleSpawnerOption((float) (-(1 / 2f) * Math.PI), (float) ((1 / 2f) * Math.PI),
-				0, 0);
-		InanimateFloor.dustParticles.amountMin = 8;
-		InanimateFloor.dustParticles.amountMax = 15;
-
-		InanimateFloor.dustParticles.speed = new ParticleSpawnerOption(2, 3, -1, 1);
+		DUST_PARTICLES_LEFT = InanimateFloor.createDustParticles(new ParticleSpawnerOption((float) ((7 / 4f) * Math.PI), (float) ((5 / 4f) * Math.PI),
+				-(float) ((1 / 4f) * Math.PI), 0));
+		DUST_PARTICLES_RIGHT = InanimateFloor.createDustParticles(new ParticleSpawnerOption((float) ((1 / 4f) * Math.PI),
+				(float) ((3 / 4f) * Math.PI), 0, (float) ((1 / 4f) * Math.PI)));
+		DUST_PARTICLES_TOP = InanimateFloor.createDustParticles(new ParticleSpawnerOption((float) (-(1 / 2f) * Math.PI), (float) ((1 / 2f) * Math.PI),
+				0, 0));
+	}
+
+	/**
+	 * Create the {@link ParticleSpawner} for dust.
+	 *
+	 * @param angle
+	 *            the angle of the particles
+	 * @return the spawner
+	 */
+	private static ParticleSpawner createDustParticles(ParticleSpawnerOption angle) {
+		ParticleSpawner dustParticles = new ParticleSpawner();
+		dustParticles.colorR = new ParticleSpawnerOption(InanimateFloor.layerCols[0].red);
+		dustParticles.colorG = new ParticleSpawnerOption(InanimateFloor.layerCols[0].green);
+		dustParticles.colorB = new ParticleSpawnerOption(InanimateFloor.layerCols[0].blue);
+		dustParticles.colorA = new ParticleSpawnerOption(255);
+		dustParticles.angle = angle;
+		dustParticles.amountMin = 8;
+		dustParticles.amountMax = 15;
+		dustParticles.name = "Floor dust";
+		dustParticles.priority = ParticleSpawner.PRIORITY_LOW;
+
+		dustParticles.speed = new ParticleSpawnerOption(2, 3, -1, 1);
+		return dustParticles;
 	}
 
 	/**
@@ -132,11 +147,35 @@ public class InanimateFloor extends Inanimate {
 	 */
 	protected InanimateFloor(Vec pos, Vec size) {
 		super(pos, size, InanimateFloor.layerCols[0]);
+		this.sprite = InanimateFloor.createSprite(size);
+	}
 
-		this.straws = new GrassStraw[InanimateFloor.STRAW_NUM];
+	/**
+	 * Create a new drawing with random {@link GrassStraw GrassStraws}.
+	 *
+	 * @param size
+	 *            the size of the {@link InanimateFloor}.
+	 * @return the drawing
+	 */
+	private static FloorSprite createSprite(Vec size) {
+		GrassStraw[] straws = new GrassStraw[InanimateFloor.STRAW_NUM];
 		for (int i = 0; i < InanimateFloor.STRAW_NUM; i++) {
-			this.straws[i] = new GrassStraw(pos);
+			straws[i] = new GrassStraw();
 		}
+		return new FloorSprite(size, straws);
+	}
+
+	@Override
+	public boolean isPoolable() {
+		return this.getClass() == InanimateFloor.class;
+	}
+
+	@Override
+	public void reset(Vec startPos, String... options) {
+		this.resetElement(startPos, new Vec(), new Vec(1, 1));
+		this.color = InanimateFloor.layerCols[0];
+		// never change the drawing as it may still be used by a snapshot
+		this.sprite = InanimateFloor.createSprite(this.getSize());
 	}
 
 	/**
@@ -145,8 +184,9 @@ public class InanimateFloor extends Inanimate {
 	 * is supposed to look like a GrassStraw.
 	 * </p>
 	 * <p>
-	 * It must be supplied with the parent position but alters the position as
-	 * well as its size and color to create a random effect.
+	 * It is positioned relative to the parent position and alters the position
+	 * as well as its size and color to create a random effect. It never
+	 * changes after its creation.
 	 * </p>
 	 * <p>
 	 * In order to show the {@link GrassStraw} one must call
@@ -157,78 +197,142 @@ public class InanimateFloor extends Inanimate {
 	 */
 	private static class GrassStraw {
 		/**
-		 * The (absolute) position of the {@link GrassStraw}.
+		 * The width of a {@link GrassStraw}.
 		 */
-		private Vec pos;
+		private static final float WIDTH = 0.06f;
 
 		/**
-		 * The color of the {@link GrassStraw}.
+		 * The x-component of the position of the {@link GrassStraw} relative
+		 * to the parenting {@link InanimateFloor}.
 		 */
-		private RGBAColor col;
+		private final float offsetX;
 
 		/**
-		 * The size of the {@link GrassStraw}.
+		 * The y-component of the position of the {@link GrassStraw} relative
+		 * to the parenting {@link InanimateFloor}.
 		 */
-		private Vec size;
+		private final float offsetY;
 
 		/**
-		 * Standard constructor that must be supplied with the position of the
-		 * parenting {@link InanimateFloor} and performs all random calculations
+		 * The height of the {@link GrassStraw}.
+		 */
+		private final float height;
+
+		/**
+		 * The color of the {@link GrassStraw}.
+		 */
+		private final RGBAColor col;
+
+		/**
+		 * Standard constructor that performs all random calculations
 		 * (positioning, size, color).
+		 */
+		GrassStraw() {
+			this.offsetX = GameConf.PRNG.nextFloat() * 0.9f - 0.45f;
+			this.offsetY = -0.3f - GameConf.PRNG.nextFloat() * 0.4f;
+			this.height = 0.3f + GameConf.PRNG.nextFloat() * 0.4f;
+			this.col = InanimateFloor.layerCols[GameConf.PRNG.nextInt(InanimateFloor.layerCols.length)];
+		}
+
+		/**
+		 * Render method to display the {@link GrassStraw}.
 		 *
+		 * @param f
+		 *            the {@link GameGrid} to render upon.
 		 * @param parentPos
 		 *            the position of the parenting {@link InanimateFloor}.
 		 */
-		GrassStraw(Vec parentPos) {
-			this.pos = parentPos
-					.add(new Vec(GameConf.PRNG.nextFloat() * 0.9f - 0.45f, -0.3f - GameConf.PRNG.nextFloat() * 0.4f));
-			this.size = new Vec(0.06f, 0.3f + GameConf.PRNG.nextFloat() * 0.4f);
-			this.col = InanimateFloor.layerCols[GameConf.PRNG.nextInt(InanimateFloor.layerCols.length)];
+		public void internalRender(GameGrid f, Vec parentPos) {
+			Vec pos = new Vec(parentPos.x + this.offsetX, parentPos.y + this.offsetY, parentPos.z);
+			f.drawRectangle(pos, new Vec(GrassStraw.WIDTH, this.height), this.col);
 		}
+	}
 
+	/**
+	 * The drawing of an {@link InanimateFloor}: the layers it is composed of
+	 * and its {@link GrassStraw GrassStraws}. It draws relative to the center
+	 * of its area (see {@link #center}). As the drawing is replayed by the
+	 * render thread, it never changes after its creation and will be used as
+	 * key for {@link GameGrid#drawCached(Vec, Vec, Object, BiConsumer)}.
+	 *
+	 */
+	private static final class FloorSprite implements BiConsumer<GameGrid, Vec> {
 		/**
-		 * Render method to display the {@link GrassStraw}.
+		 * The size of a layer.
+		 */
+		private final Vec layerSize;
+		/**
+		 * The GrassStraws.
+		 */
+		private final GrassStraw[] straws;
+		/**
+		 * The size of the area the floor is drawn in (the GrassStraws exceed
+		 * the top of the floor).
+		 */
+		private final Vec area;
+		/**
+		 * The center of the area relative to the position of the floor.
+		 */
+		private final Vec center;
+		/**
+		 * Create the drawing of a floor.
+		 *
+		 * @param size
+		 *            the size of the {@link InanimateFloor}
+		 * @param straws
+		 *            the GrassStraws
+		 */
+		FloorSprite(Vec size, GrassStraw[] straws) {
+			this.layerSize = size.setY(1 / (float) InanimateFloor.LAYERS);
+			this.straws = straws;
+			// GrassStraws reach up to 1.05 units above the center
+			float top = Math.max(size.y / 2, 1.05f);
+			this.area = new Vec(size.x + 0.1f, top + size.y / 2 + 0.1f);
+			this.center = new Vec(0, (size.y / 2 - top) / 2);
+		}
+
+		/**
+		 * Draw the floor.
 		 *
 		 * @param f
-		 *            the {@link GameGrid} to render upon.
+		 *            the {@link GameGrid} to render upon.
+		 * @param areaCenter
+		 *            the center of the area (see {@link #center})
 		 */
-		public void internalRender(GameGrid f) {
-			f.drawRectangle(this.pos, this.size, this.col);
+		@Override
+		public void accept(GameGrid f, Vec areaCenter) {
+			Vec pos = areaCenter.sub(this.center);
+			// Draw rectangles that this Floor is composed of
+			for (int i = 0; i < InanimateFloor.LAYERS; i++) {
+				f.drawRectangle(pos.add(InanimateFloor.layerVecs[i]), this.layerSize, InanimateFloor.layerCols[i]);
+			}
+			// Draw GrassStraws
+			for (GrassStraw straw : this.straws) {
+				straw.internalRender(f, pos);
+			}
 		}
 	}
 
 	@Override
 	public void internalRender(GameGrid f) {
-		// Draw rectangles that this Floor is composed of
-		for (int i = 0; i < InanimateFloor.LAYERS; i++) {
-			f.drawRectangle(this.getPos().add(InanimateFloor.layerVecs[i]),
-					this.getSize().setY(1 / (float) InanimateFloor.LAYERS), InanimateFloor.layerCols[i]);
-		}
-		// Draw GrassStraws
-		for (GrassStraw straw : this.straws) {
-			straw.internalRender(f);
-		}
+		f.drawCached(this.getPos().add(this.sprite.center), this.sprite.area, this.sprite, this.sprite);
 	}
 
 	@Override
 	public void reactToCollision(GameElement element, Direction dir) {
 
 		if (Math.abs(element.getVel().y) > 6) {
-			InanimateFloor.dustParticles.angle = InanimateFloor.DUST_PARTICLE_ANGLE_TOP;
-			InanimateFloor.dustParticles.spawn(this.getScene(), this.getPos().addY(-this.getSize().y / 2));
+			InanimateFloor.DUST_PARTICLES_TOP.spawn(this.getScene(), this.getPos().addY(-this.getSize().y / 2));
 		} else if (Math.abs(element.getVel().x) > 5) {
 			// if strong velocity in x direction
+			Vec pos = this.getPos().addY(-this.getSize().y / 2).setX(element.getPos().x);
 
 			// if moving right
 			if (element.getVel().x > 0) {
-				InanimateFloor.dustParticles.angle = InanimateFloor.DUST_PARTICLE_ANGLE_LEFT;
+				InanimateFloor.DUST_PARTICLES_LEFT.spawn(this.getScene(), pos);
 			} else {
-				InanimateFloor.dustParticles.angle = InanimateFloor.DUST_PARTICLE_ANGLE_RIGHT;
+				InanimateFloor.DUST_PARTICLES_RIGHT.spawn(this.getScene(), pos);
 			}
-
-			Vec pos = this.getPos().addY(-this.getSize().y / 2).setX(element.getPos().x);
-
-			InanimateFloor.dustParticles.spawn(this.getScene(), pos);
 		}
 
 		super.reactToCollision(element, dir);
@@ -39,4 +39,11 @@ public abstract class DamageParticle extends Particle {
 		Vec v2 = this.getPos().add(this.getSize().scalar(0.2f));
 		return new Frame(v1, v2);
 	}
+
+	@Override
+	public boolean intersects(float x1, float y1, float x2, float y2) {
+		Vec pos = this.getPos();
+		Vec size = this.getSize();
+		return pos.x - 0.2f * size.x < x2 && pos.y - 0.2f * size.y < y2 && pos.x + 0.2f * size.x > x1 && pos.y + 0.2f * size.y > y1;
+	}
 }
@@ -1,7 +1,6 @@
 package rekit.logic.gameelements.particles;
 
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.primitives.geometry.Direction;
@@ -72,13 +71,15 @@ public class Particle extends GameElement {
 	 */
 	protected RGBAColor currentCol = new RGBAColor(0, 0, 0, 0);
 	/**
-	 * The current movement vector.
+	 * Indicates whether the velocity has been set (it only changes over time
+	 * if speed or angle are dynamic).
 	 */
-	private Vec movementVec = null;
+	private boolean hasMovement;
 	/**
-	 * The last time of invoking {@link #logicLoop()}.
+	 * The particle system which counts this particle to its budget (or
+	 * {@code null}).
 	 */
-	private long lastTime = GameTime.getTime();
+	private ParticleSystem budget;
 
 	/**
 	 * Create a particle.
@@ -120,6 +121,7 @@ public class Particle extends GameElement {
 			Progress colorG, Progress colorB, Progress colorA) {
 		// clone polygon so we can work with it
 		this.polygon = this.initialPolygon = polygon.clone();
+		this.polygon.moveTo(pos);
 
 		// set shape options
 		this.scale = scale;
@@ -139,12 +141,12 @@ public class Particle extends GameElement {
 
 		// set position
 		this.setPos(pos.clone().add(new Vec(-0.1f, -0.1f)));
+		this.hasMovement = false;
 	}
 
 	@Override
 	public void logicLoop() {
-		long deltaTime = GameTime.getTime() - this.lastTime;
-		this.lastTime += deltaTime;
+		long deltaTime = this.getScene().getDeltaTime();
 		// tell timer passed time
 		this.timer.logicLoop();
 		// this.timer.removeTime(deltaTime);
@@ -174,20 +176,16 @@ public class Particle extends GameElement {
 				this.polygon = this.polygon.scale(scale);
 			}
 
-			// only recalculate movement vector if speed and angle are dynamic
-			if (this.movementVec == null || !this.speed.isStatic() || !this.angle.isStatic()) {
-				// get Einheitsvector in 0degrees
-				this.movementVec = Direction.UP.getVector();
-
-				// set Amount in units/time
-				this.movementVec = this.movementVec.scalar(speed * deltaTime / 1000F);
-
-				// set Angle
-				this.movementVec = this.movementVec.rotate(angle);
+			// only recalculate velocity if speed and angle are dynamic
+			if (!this.hasMovement || !this.speed.isStatic() || !this.angle.isStatic()) {
+				// get Einheitsvector in 0degrees, set amount in units/s and
+				// set angle
+				this.setVel(Direction.UP.getVector().scalar(speed).rotate(angle));
+				this.hasMovement = true;
 			}
 
-			// apply distance-vector to position
-			this.setPos(this.getPos().add(this.movementVec));
+			// apply velocity to position (batched by the scene)
+			this.moveByVelocity(deltaTime / 1000F);
 		}
 	}
 
@@ -198,6 +196,26 @@ public class Particle extends GameElement {
 		f.drawPolygon(this.polygon, this.currentCol, true);
 	}
 
+	@Override
+	public void onRemove() {
+		// leave the budget however the particle has been removed
+		if (this.budget != null) {
+			this.budget.untrack();
+			this.budget = null;
+		}
+	}
+
+	/**
+	 * Count this particle to the budget of a particle system until it has
+	 * been removed.
+	 *
+	 * @param budget
+	 *            the particle system
+	 */
+	final void setBudget(ParticleSystem budget) {
+		this.budget = budget;
+	}
+
 	/**
 	 * Caps a color to make sure it is never smaller than 0 or greater than 255.
 	 *
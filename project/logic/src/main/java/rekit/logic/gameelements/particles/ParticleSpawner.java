@@ -18,6 +18,22 @@ import rekit.primitives.geometry.Vec;
  */
 @SetterInfo(res = "", set = false)
 public class ParticleSpawner implements Configurable {
+	/**
+	 * The priority of effects which will be shed first if the particle budget
+	 * of the scene is exhausted (see {@link GameConf#PARTICLE_BUDGET}), e.g.
+	 * dust or texts.
+	 */
+	public static final int PRIORITY_LOW = 0;
+	/**
+	 * The default priority.
+	 */
+	public static final int PRIORITY_NORMAL = 1;
+	/**
+	 * The priority of effects which will never be shed, e.g. particles which
+	 * cause damage.
+	 */
+	public static final int PRIORITY_HIGH = 2;
+
 	/**
 	 * The particle prototype.
 	 */
@@ -25,7 +41,8 @@ public class ParticleSpawner implements Configurable {
 	protected Particle particlePrototype;
 
 	/**
-	 * The current polygon.
+	 * The polygon of the particles (it will be moved to the position of each
+	 * particle by the particle itself, so it is never changed by spawning).
 	 */
 	@NoSet
 	public Polygon polygon;
@@ -79,6 +96,15 @@ public class ParticleSpawner implements Configurable {
 	 * The maximum lifetime.
 	 */
 	public float timeMax;
+	/**
+	 * The priority of the particles (see {@link #PRIORITY_LOW},
+	 * {@link #PRIORITY_NORMAL} and {@link #PRIORITY_HIGH}).
+	 */
+	public int priority;
+	/**
+	 * The name of the particles (for debugging).
+	 */
+	public String name;
 
 	/**
 	 * Create a new ParticleSpawner by prototype.
@@ -121,10 +147,23 @@ public class ParticleSpawner implements Configurable {
 		// animation takes between 0.3s and 0.5s
 		this.timeMin = 0.4f;
 		this.timeMax = 0.6f;
+
+		this.priority = ParticleSpawner.PRIORITY_NORMAL;
 	}
 
 	/**
-	 * Spawn particles in a {@link IScene} at a position.
+	 * Get the name of the particles (for debugging).
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return this.name != null ? this.name : this.particlePrototype.getClass().getSimpleName();
+	}
+
+	/**
+	 * Spawn particles in a {@link IScene} at a position. If the particle
+	 * budget of the scene is exhausted, less particles with a shorter lifetime
+	 * will be spawned (depending on the {@link #priority}).
 	 *
 	 * @param scene
 	 *            the scene
@@ -133,16 +172,34 @@ public class ParticleSpawner implements Configurable {
 	 */
 	public void spawn(IScene scene, Vec pos) {
 		int randomAmount = (int) (this.amountMin + GameConf.PRNG.nextDouble() * (this.amountMax - this.amountMin));
+		ParticleSystem system = scene.getParticles();
+		float share = 1;
+		if (system != null) {
+			share = system.getShare(this.priority);
+			randomAmount = system.admit(this, randomAmount, share);
+		}
+		// simple particles are part of the particle system of the scene
+		boolean simple = system != null && this.particlePrototype.getClass() == Particle.class;
 
 		for (int i = 0; i < randomAmount; i++) {
 			long randomTime = (long) (1000 * (this.timeMin + GameConf.PRNG.nextDouble() * (this.timeMax - this.timeMin)));
+			if (share < 1) {
+				// shorten the lifetime down to the half
+				randomTime = (long) (randomTime * (0.5f + 0.5f * share));
+			}
 
-			this.polygon.moveTo(pos);
+			if (simple) {
+				system.spawn(this.polygon, pos, randomTime, this.size, this.speed, this.rotation, this.angle, this.colorR, this.colorG, this.colorB, this.colorA);
+				continue;
+			}
 
 			Particle p = this.particlePrototype.create();
 			p.setProperties(this.polygon, pos, randomTime, this.size.randomize(), this.speed.randomize(), this.rotation.randomize(), this.angle.randomize(),
 					this.colorR.randomize(), this.colorG.randomize(), this.colorB.randomize(), this.colorA.randomize());
 
+			if (system != null) {
+				system.track(p);
+			}
 			scene.addGameElement(p);
 		}
 
@@ -98,18 +98,31 @@ public class ParticleSpawnerOption {
 	 * @return the randomized ProgressDependency
 	 */
 	public Progress randomize() {
-		// calculate random start value between startMin and startMax
-		// (only if startMin != startMax)
-		float start = this.startMin == this.startMax ? this.startMin : (float) (this.startMin + GameConf.PRNG.nextDouble() * (this.startMax - this.startMin));
-
-		// calculate random delta value between deltaMin and deltaMax
-		// (only if deltaMin != deltaMax)
-		float delta = Math.abs(this.deltaMin - this.deltaMax) < 1E-8 ? this.deltaMin
-				: (float) (this.deltaMin + GameConf.PRNG.nextDouble() * (this.deltaMax - this.deltaMin));
-
+		float start = this.randomStart();
+		float delta = this.randomDelta();
 		// we don't wanna optimize case delta=0 => start+delta = delta,
 		// ProgressDependency does that
 		return new Progress(start, start + delta);
 	}
 
+	/**
+	 * Get a random start value between startMin and startMax.
+	 *
+	 * @return the start value
+	 */
+	float randomStart() {
+		// (only random if startMin != startMax)
+		return this.startMin == this.startMax ? this.startMin : (float) (this.startMin + GameConf.PRNG.nextDouble() * (this.startMax - this.startMin));
+	}
+
+	/**
+	 * Get a random delta value between deltaMin and deltaMax.
+	 *
+	 * @return the delta value
+	 */
+	float randomDelta() {
+		// (only random if deltaMin != deltaMax)
+		return Math.abs(this.deltaMin - this.deltaMax) < 1E-8 ? this.deltaMin : (float) (this.deltaMin + GameConf.PRNG.nextDouble() * (this.deltaMax - this.deltaMin));
+	}
+
 }
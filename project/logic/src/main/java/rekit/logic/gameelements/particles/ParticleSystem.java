@@ -0,0 +1,534 @@
+package rekit.logic.gameelements.particles;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+import net.jafama.FastMath;
+import rekit.config.GameConf;
+import rekit.core.GameGrid;
+import rekit.core.GameTime;
+import rekit.core.SimulationClock;
+import rekit.core.Team;
+import rekit.logic.gameelements.GameElement;
+import rekit.primitives.geometry.Direction;
+import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.Polygon;
+import rekit.primitives.geometry.Vec;
+
+/**
+ * This element contains all simple {@link Particle Particles} of a scene (see
+ * {@link ParticleSpawner#spawn(rekit.logic.IScene, Vec)}). Instead of one
+ * {@link GameElement} per particle, the properties of the particles are stored
+ * in preallocated primitive arrays (one entry per particle). All particles
+ * will be updated in one loop and drawn in one batch (see
+ * {@link GameGrid#drawPolygons(float[], int[], int[], int, boolean, boolean)}).
+ * Dead particles will be replaced by the last particle, so updating the
+ * particles allocates no memory (the arrays only grow if more particles are
+ * alive than ever before).
+ * <p>
+ * The system also manages the particle budget of the scene (see
+ * {@link GameConf#PARTICLE_BUDGET}), which includes particles that are
+ * {@link GameElement GameElements} (see {@link #track(Particle)}).
+ * </p>
+ * <p>
+ * The element itself always covers the visible part of the level and will
+ * never be removed.
+ * </p>
+ *
+ */
+public final class ParticleSystem extends GameElement {
+	/**
+	 * The initial capacity (amount of particles).
+	 */
+	private static final int INITIAL_CAPACITY = 256;
+	/**
+	 * The distance (in units) from the visible area in which particles will
+	 * still be drawn.
+	 */
+	private static final float MARGIN = 1;
+
+	/**
+	 * The clock of the scene.
+	 */
+	private final SimulationClock clock;
+	/**
+	 * The maximum amount of alive particles (or {@code 0} for no limit).
+	 */
+	private final int budget;
+	/**
+	 * The amount of alive particles which are {@link GameElement
+	 * GameElements}.
+	 */
+	private int tracked;
+	/**
+	 * The statistics by name of the spawners.
+	 */
+	private final Map<String, Statistic> statistics = new LinkedHashMap<>();
+	/**
+	 * The amount of alive particles.
+	 */
+	private int count;
+	/**
+	 * The x-coordinate of each particle.
+	 */
+	private float[] x;
+	/**
+	 * The y-coordinate of each particle.
+	 */
+	private float[] y;
+	/**
+	 * The time of birth of each particle.
+	 */
+	private long[] birth;
+	/**
+	 * The lifetime of each particle (in millis).
+	 */
+	private long[] lifeTime;
+	/**
+	 * The current progress (0 to 1) of each particle.
+	 */
+	private float[] progress;
+	/**
+	 * The speed of each particle (start and delta).
+	 */
+	private float[] speed;
+	/**
+	 * The angle of each particle (start and delta).
+	 */
+	private float[] angle;
+	/**
+	 * The rotation of each particle (start and delta).
+	 */
+	private float[] rotation;
+	/**
+	 * The scale of each particle (start and delta).
+	 */
+	private float[] scale;
+	/**
+	 * The color of each particle (start of red, green, blue and alpha and
+	 * delta of red, green, blue and alpha).
+	 */
+	private float[] color;
+	/**
+	 * The current color of each particle (ARGB).
+	 */
+	private int[] argb;
+	/**
+	 * The shape of each particle (index of {@link #shapes}).
+	 */
+	private int[] shape;
+
+	/**
+	 * The polygons of the known shapes (compared by identity).
+	 */
+	private Polygon[] polygons = new Polygon[4];
+	/**
+	 * The points of the known shapes relative to their start point ({x1, y1,
+	 * x2, y2, ...}).
+	 */
+	private float[][] shapes = new float[4][];
+	/**
+	 * The amount of known shapes.
+	 */
+	private int shapeCount;
+
+	/**
+	 * The points of all drawn particles.
+	 */
+	private float[] points = new float[ParticleSystem.INITIAL_CAPACITY * 10];
+	/**
+	 * The amount of points of all drawn particles.
+	 */
+	private int[] sizes = new int[ParticleSystem.INITIAL_CAPACITY];
+	/**
+	 * The colors of all drawn particles.
+	 */
+	private int[] colors = new int[ParticleSystem.INITIAL_CAPACITY];
+
+	/**
+	 * Create a new (empty) particle system.
+	 */
+	public ParticleSystem() {
+		super(new Vec(GameConf.GRID_W / 2f, GameConf.GRID_H / 2f), new Vec(), new Vec(GameConf.GRID_W, GameConf.GRID_H), Team.EFFECT);
+		this.clock = GameTime.getClock();
+		this.budget = GameConf.PARTICLE_BUDGET;
+		this.allocate(ParticleSystem.INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Allocate (or grow) the arrays of the particles.
+	 *
+	 * @param capacity
+	 *            the new capacity
+	 */
+	private void allocate(int capacity) {
+		if (this.x == null) {
+			this.x = new float[capacity];
+			this.y = new float[capacity];
+			this.birth = new long[capacity];
+			this.lifeTime = new long[capacity];
+			this.progress = new float[capacity];
+			this.speed = new float[2 * capacity];
+			this.angle = new float[2 * capacity];
+			this.rotation = new float[2 * capacity];
+			this.scale = new float[2 * capacity];
+			this.color = new float[8 * capacity];
+			this.argb = new int[capacity];
+			this.shape = new int[capacity];
+			return;
+		}
+		this.x = Arrays.copyOf(this.x, capacity);
+		this.y = Arrays.copyOf(this.y, capacity);
+		this.birth = Arrays.copyOf(this.birth, capacity);
+		this.lifeTime = Arrays.copyOf(this.lifeTime, capacity);
+		this.progress = Arrays.copyOf(this.progress, capacity);
+		this.speed = Arrays.copyOf(this.speed, 2 * capacity);
+		this.angle = Arrays.copyOf(this.angle, 2 * capacity);
+		this.rotation = Arrays.copyOf(this.rotation, 2 * capacity);
+		this.scale = Arrays.copyOf(this.scale, 2 * capacity);
+		this.color = Arrays.copyOf(this.color, 8 * capacity);
+		this.argb = Arrays.copyOf(this.argb, capacity);
+		this.shape = Arrays.copyOf(this.shape, capacity);
+	}
+
+	/**
+	 * Get the amount of alive particles (including tracked particles).
+	 *
+	 * @return the amount of particles
+	 */
+	public int getParticleCount() {
+		return this.count + this.tracked;
+	}
+
+	/**
+	 * Get the share of particles a spawner of a priority may spawn. Effects of
+	 * low priority will be thinned if more than the half of the budget is
+	 * used, effects of normal priority if more than 80 percent are used.
+	 * Effects of high priority will never be thinned.
+	 *
+	 * @param priority
+	 *            the priority (see {@link ParticleSpawner#priority})
+	 * @return the share (0 to 1)
+	 */
+	float getShare(int priority) {
+		if (this.budget <= 0 || priority >= ParticleSpawner.PRIORITY_HIGH) {
+			return 1;
+		}
+		float free = 1 - (float) this.getParticleCount() / this.budget;
+		float range = priority <= ParticleSpawner.PRIORITY_LOW ? 0.5f : 0.2f;
+		return Math.max(0, Math.min(1, free / range));
+	}
+
+	/**
+	 * Determine how many particles a spawner may spawn (the budget will only
+	 * be exceeded by effects of high priority).
+	 *
+	 * @param spawner
+	 *            the spawner
+	 * @param amount
+	 *            the amount of particles the spawner wants to spawn
+	 * @param share
+	 *            the share of the particles (see {@link #getShare(int)})
+	 * @return the amount of particles the spawner may spawn
+	 */
+	int admit(ParticleSpawner spawner, int amount, float share) {
+		String name = spawner.getName();
+		Statistic statistic = this.statistics.get(name);
+		if (statistic == null) {
+			statistic = new Statistic();
+			this.statistics.put(name, statistic);
+		}
+		int admitted = amount;
+		if (share < 1) {
+			// keep the remainder, so that single particles (e.g. texts) will
+			// be thinned too
+			float exact = amount * share + statistic.remainder;
+			admitted = (int) exact;
+			statistic.remainder = exact - admitted;
+		}
+		if (this.budget > 0 && spawner.priority < ParticleSpawner.PRIORITY_HIGH) {
+			admitted = Math.min(admitted, Math.max(0, this.budget - this.getParticleCount()));
+		}
+		statistic.spawned += admitted;
+		statistic.dropped += amount - admitted;
+		return admitted;
+	}
+
+	/**
+	 * Count a particle, which is a {@link GameElement}, to the budget until it
+	 * removes itself.
+	 *
+	 * @param particle
+	 *            the particle
+	 */
+	void track(Particle particle) {
+		this.tracked++;
+		particle.setBudget(this);
+	}
+
+	/**
+	 * Remove a tracked particle from the budget (see {@link #track(Particle)}).
+	 */
+	void untrack() {
+		this.tracked--;
+	}
+
+	/**
+	 * Report the amount of alive particles and the amounts of spawned and
+	 * dropped particles of each spawner (see {@link ParticleSpawner#getName()})
+	 * since the creation of the system.
+	 *
+	 * @param statistics
+	 *            the consumer of the statistics (name and value)
+	 */
+	public void reportStatistics(ObjLongConsumer<String> statistics) {
+		statistics.accept("Particles: alive", this.getParticleCount());
+		for (Map.Entry<String, Statistic> entry : this.statistics.entrySet()) {
+			statistics.accept("Particles: " + entry.getKey() + " spawned", entry.getValue().spawned);
+			statistics.accept("Particles: " + entry.getKey() + " dropped", entry.getValue().dropped);
+		}
+	}
+
+	/**
+	 * Spawn a particle. The options will be randomized in the same order as
+	 * for a {@link Particle}, so the same particles will be spawned.
+	 *
+	 * @param polygon
+	 *            the shape of the particle
+	 * @param pos
+	 *            the initial position of the particle
+	 * @param lifeTime
+	 *            the time in millis for how the particle will be rendered
+	 * @param scale
+	 *            the option for the size
+	 * @param speed
+	 *            the option for the movement speed
+	 * @param rotation
+	 *            the option for the rotation
+	 * @param angle
+	 *            the option for the movement angle
+	 * @param colorR
+	 *            the option for the red color channel
+	 * @param colorG
+	 *            the option for the green color channel
+	 * @param colorB
+	 *            the option for the blue color channel
+	 * @param colorA
+	 *            the option for the alpha color channel
+	 */
+	void spawn(Polygon polygon, Vec pos, long lifeTime, ParticleSpawnerOption scale, ParticleSpawnerOption speed, ParticleSpawnerOption rotation,
+			ParticleSpawnerOption angle, ParticleSpawnerOption colorR, ParticleSpawnerOption colorG, ParticleSpawnerOption colorB,
+			ParticleSpawnerOption colorA) {
+		if (this.count == this.x.length) {
+			this.allocate(2 * this.x.length);
+		}
+		int i = this.count++;
+		this.x[i] = pos.x - 0.1f;
+		this.y[i] = pos.y - 0.1f;
+		this.birth[i] = this.clock.getTime();
+		this.lifeTime[i] = lifeTime;
+		this.progress[i] = 0;
+		this.shape[i] = this.getShape(polygon);
+		// transparent until the first update (like a new particle)
+		this.argb[i] = 0;
+		ParticleSystem.randomize(scale, this.scale, 2 * i, 2 * i + 1);
+		ParticleSystem.randomize(speed, this.speed, 2 * i, 2 * i + 1);
+		ParticleSystem.randomize(rotation, this.rotation, 2 * i, 2 * i + 1);
+		ParticleSystem.randomize(angle, this.angle, 2 * i, 2 * i + 1);
+		ParticleSystem.randomize(colorR, this.color, 8 * i, 8 * i + 4);
+		ParticleSystem.randomize(colorG, this.color, 8 * i + 1, 8 * i + 5);
+		ParticleSystem.randomize(colorB, this.color, 8 * i + 2, 8 * i + 6);
+		ParticleSystem.randomize(colorA, this.color, 8 * i + 3, 8 * i + 7);
+	}
+
+	/**
+	 * Randomize an option and store start and delta.
+	 *
+	 * @param option
+	 *            the option
+	 * @param values
+	 *            the array of the values
+	 * @param start
+	 *            the index of the start value
+	 * @param delta
+	 *            the index of the delta value
+	 */
+	private static void randomize(ParticleSpawnerOption option, float[] values, int start, int delta) {
+		values[start] = option.randomStart();
+		// same rounding as Progress(start, start + delta)
+		values[delta] = (values[start] + option.randomDelta()) - values[start];
+	}
+
+	/**
+	 * Get the index of a shape (the shape will be added if unknown).
+	 *
+	 * @param polygon
+	 *            the polygon
+	 * @return the index of the shape
+	 */
+	private int getShape(Polygon polygon) {
+		for (int s = 0; s < this.shapeCount; s++) {
+			if (this.polygons[s] == polygon) {
+				return s;
+			}
+		}
+		if (this.shapeCount == this.polygons.length) {
+			this.polygons = Arrays.copyOf(this.polygons, 2 * this.polygons.length);
+			this.shapes = Arrays.copyOf(this.shapes, 2 * this.shapes.length);
+		}
+		float[] relative = polygon.getAbsoluteArray();
+		for (int pt = relative.length - 2; pt >= 0; pt -= 2) {
+			relative[pt] -= relative[0];
+			relative[pt + 1] -= relative[1];
+		}
+		this.polygons[this.shapeCount] = polygon;
+		this.shapes[this.shapeCount] = relative;
+		return this.shapeCount++;
+	}
+
+	@Override
+	public void logicLoop() {
+		// always cover the visible area (and never remove the system)
+		this.setPos(this.getScene().getCameraOffset() + GameConf.GRID_W / 2f, GameConf.GRID_H / 2f);
+
+		long now = this.clock.getTime();
+		float seconds = this.getScene().getDeltaTime() / 1000F;
+		int i = 0;
+		while (i < this.count) {
+			long timeLeft = this.lifeTime[i] - (now - this.birth[i]);
+			if (timeLeft <= 0) {
+				this.remove(i);
+				continue;
+			}
+			float progress = 1 - ((1F * timeLeft) / this.lifeTime[i]);
+			this.progress[i] = progress;
+
+			int c = 8 * i;
+			this.argb[i] = ParticleSystem.capColor(this.color[c + 3] + this.color[c + 7] * progress) << 24
+					| ParticleSystem.capColor(this.color[c] + this.color[c + 4] * progress) << 16
+					| ParticleSystem.capColor(this.color[c + 1] + this.color[c + 5] * progress) << 8
+					| ParticleSystem.capColor(this.color[c + 2] + this.color[c + 6] * progress);
+
+			// move in direction of the angle (Direction.UP rotated by angle)
+			float distance = (this.speed[2 * i] + this.speed[2 * i + 1] * progress) * seconds;
+			float angle = this.angle[2 * i] + this.angle[2 * i + 1] * progress;
+			this.x[i] += (float) (distance * FastMath.sinQuick(angle));
+			this.y[i] += (float) (-distance * FastMath.cosQuick(angle));
+			i++;
+		}
+	}
+
+	/**
+	 * Remove a particle by replacing it with the last particle.
+	 *
+	 * @param i
+	 *            the index of the particle
+	 */
+	private void remove(int i) {
+		int last = --this.count;
+		if (i == last) {
+			return;
+		}
+		this.x[i] = this.x[last];
+		this.y[i] = this.y[last];
+		this.birth[i] = this.birth[last];
+		this.lifeTime[i] = this.lifeTime[last];
+		this.progress[i] = this.progress[last];
+		this.argb[i] = this.argb[last];
+		this.shape[i] = this.shape[last];
+		System.arraycopy(this.speed, 2 * last, this.speed, 2 * i, 2);
+		System.arraycopy(this.angle, 2 * last, this.angle, 2 * i, 2);
+		System.arraycopy(this.rotation, 2 * last, this.rotation, 2 * i, 2);
+		System.arraycopy(this.scale, 2 * last, this.scale, 2 * i, 2);
+		System.arraycopy(this.color, 8 * last, this.color, 8 * i, 8);
+	}
+
+	@Override
+	public void internalRender(GameGrid f) {
+		float left = this.getScene().getCameraOffset() - ParticleSystem.MARGIN;
+		float right = left + GameConf.GRID_W + 2 * ParticleSystem.MARGIN;
+		int drawn = 0;
+		int offset = 0;
+		for (int i = 0; i < this.count; i++) {
+			if (this.x[i] < left || this.x[i] > right || this.argb[i] >>> 24 == 0) {
+				continue;
+			}
+			float[] relative = this.shapes[this.shape[i]];
+			if (drawn == this.sizes.length) {
+				this.sizes = Arrays.copyOf(this.sizes, 2 * drawn);
+				this.colors = Arrays.copyOf(this.colors, 2 * drawn);
+			}
+			if (offset + relative.length > this.points.length) {
+				this.points = Arrays.copyOf(this.points, 2 * (offset + relative.length));
+			}
+			float progress = this.progress[i];
+			float rotation = this.rotation[2 * i] + this.rotation[2 * i + 1] * progress;
+			float scale = this.scale[2 * i] + this.scale[2 * i + 1] * progress;
+			double cos = rotation == 0 ? 1 : FastMath.cosQuick(rotation);
+			double sin = rotation == 0 ? 0 : FastMath.sinQuick(rotation);
+			for (int pt = 0; pt < relative.length; pt += 2) {
+				float relX = (float) (relative[pt] * cos - relative[pt + 1] * sin);
+				float relY = (float) (relative[pt] * sin + relative[pt + 1] * cos);
+				this.points[offset + pt] = this.x[i] + relX * scale;
+				this.points[offset + pt + 1] = this.y[i] + relY * scale;
+			}
+			this.sizes[drawn] = relative.length / 2;
+			this.colors[drawn] = this.argb[i];
+			offset += relative.length;
+			drawn++;
+		}
+		if (drawn != 0) {
+			f.drawPolygons(this.points, this.sizes, this.colors, drawn, true, true);
+		}
+	}
+
+	/**
+	 * Caps a color to make sure it is never smaller than 0 or greater than 255
+	 * (see {@link Particle#capColor(float)}).
+	 *
+	 * @param col
+	 *            the color value to cap
+	 * @return the capped color
+	 */
+	private static int capColor(float col) {
+		int intCol = (int) col;
+		return intCol > 255 ? 255 : (intCol < 0 ? 0 : intCol);
+	}
+
+	@Override
+	public void addDamage(int damage) {
+		// Do nothing
+	}
+
+	@Override
+	public int getLives() {
+		// Do nothing
+		return 0;
+	}
+
+	@Override
+	public void collidedWithSolid(Frame collision, Direction dir) {
+		// Do nothing
+	}
+
+	/**
+	 * The statistic of the spawners of one name.
+	 *
+	 */
+	private static final class Statistic {
+		/**
+		 * The amount of spawned particles.
+		 */
+		private long spawned;
+		/**
+		 * The amount of dropped particles.
+		 */
+		private long dropped;
+		/**
+		 * The remainder of thinned amounts.
+		 */
+		private float remainder;
+	}
+}
@@ -22,6 +22,7 @@ public final class TextParticleSpawner extends ParticleSpawner {
 		this.speed = new ParticleSpawnerOption(1, 0.5f);
 		this.timeMin = this.timeMax = 1;
 		this.particlePrototype = new TextParticle();
+		this.priority = ParticleSpawner.PRIORITY_LOW;
 	}
 
 	/**
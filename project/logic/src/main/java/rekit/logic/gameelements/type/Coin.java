@@ -59,6 +59,19 @@ public abstract class Coin extends Pickup {
 		super(startPos, new Vec(), new Vec(0.7f, 0.7f));
 	}
 
+	/**
+	 * Reset a recycled coin to a position (see
+	 * {@link #reset(Vec, String...)}).
+	 *
+	 * @param startPos
+	 *            the start position
+	 */
+	protected final void resetCoin(Vec startPos) {
+		this.resetEntity(startPos, new Vec(), new Vec(0.7f, 0.7f));
+		this.x = 0;
+		this.sin = 0;
+	}
+
 	@Override
 	public void perform(GameElement collector) {
 		this.getScene().getPlayer().addPoints(this.getValue());
@@ -100,7 +100,19 @@ public abstract class GuiElement {
 	 *            the new visibility
 	 */
 	public void setVisible(boolean visible) {
-		this.visible = visible;
+		if (this.visible != visible) {
+			this.visible = visible;
+			this.scene.invalidateAll();
+		}
+	}
+
+	/**
+	 * Mark the area of this element as changed, so that it will be repainted
+	 * (see {@link IScene#invalidate(Vec, Vec)}). Elements which draw beyond
+	 * their area have to invalidate the affected region by themselves.
+	 */
+	protected final void invalidate() {
+		this.scene.invalidate(this.pos, this.size);
 	}
 
 	/**
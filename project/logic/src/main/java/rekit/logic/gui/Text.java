@@ -51,6 +51,10 @@ public final class Text extends GuiElement {
 	 * @return {@code this}
 	 */
 	public Text setText(String text) {
+		if (!this.text.equals(text)) {
+			// the extent of the text is unknown here
+			this.scene.invalidateAll();
+		}
 		this.text = text;
 		return this;
 	}
@@ -60,6 +60,7 @@ public final class BoolSetting extends MenuItem {
 		try {
 			this.setting.setBoolean(null, !this.curVal);
 			this.curVal = !this.curVal;
+			this.invalidate();
 		} catch (IllegalArgumentException | IllegalAccessException e) {
 			e.printStackTrace();
 		}
@@ -12,6 +12,14 @@ import rekit.primitives.time.Timer;
  *
  */
 public class MainMenuGrid extends MenuGrid {
+	/**
+	 * The size of the logo (in units).
+	 */
+	private static final Vec LOGO_SIZE = new Vec(8, 5);
+	/**
+	 * The position of the logo (in units).
+	 */
+	private final Vec logoPos = new Vec(GameConf.GRID_W / 2f, 2.2f);
 	/**
 	 * The timer to switch between the different logo images.
 	 */
@@ -45,6 +53,12 @@ public class MainMenuGrid extends MenuGrid {
 		if (this.frameTimer.timeUp()) {
 			this.frameTimer.reset();
 			this.currentFrame = (this.currentFrame + 1) % 3;
+			if (this.selected) {
+				// the logo is drawn in game units (add one unit for the
+				// offset correction of the grid)
+				this.scene.invalidate(this.logoPos.scalar(GameConf.PX_PER_UNIT),
+						MainMenuGrid.LOGO_SIZE.add(new Vec(1)).scalar(GameConf.PX_PER_UNIT));
+			}
 		}
 	}
 
@@ -52,7 +66,7 @@ public class MainMenuGrid extends MenuGrid {
 	protected void internalRender(GameGrid f) {
 		super.internalRender(f);
 		if (this.selected) {
-			f.drawImage(new Vec(GameConf.GRID_W / 2f, 2.2f), new Vec(8, 5), "logo_" + this.currentFrame + ".png");
+			f.drawImage(this.logoPos, MainMenuGrid.LOGO_SIZE, "logo_" + this.currentFrame + ".png");
 		}
 	}
 
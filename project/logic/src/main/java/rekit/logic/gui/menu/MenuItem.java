@@ -73,7 +73,10 @@ public abstract class MenuItem extends GuiElement {
 	 *            the hover
 	 */
 	public void setHover(boolean value) {
-		this.hover = value;
+		if (this.hover != value) {
+			this.hover = value;
+			this.invalidate();
+		}
 	}
 
 	/**
@@ -81,6 +84,7 @@ public abstract class MenuItem extends GuiElement {
 	 */
 	public void select() {
 		this.selected = true;
+		this.invalidate();
 	}
 
 	/**
@@ -88,6 +92,7 @@ public abstract class MenuItem extends GuiElement {
 	 */
 	public void unselect() {
 		this.selected = false;
+		this.invalidate();
 		if (this.parent != null) {
 			this.parent.focus();
 		}
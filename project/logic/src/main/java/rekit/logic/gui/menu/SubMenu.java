@@ -73,6 +73,7 @@ public abstract class SubMenu extends MenuItem {
 		i.setParent(this);
 		this.menuItems.add(i);
 		this.calcItemPos();
+		this.scene.invalidateAll();
 	}
 
 	/**
@@ -86,6 +87,7 @@ public abstract class SubMenu extends MenuItem {
 		this.menuItems.remove(i);
 		this.index = 0;
 		this.calcItemPos();
+		this.scene.invalidateAll();
 	}
 
 	/**
@@ -200,6 +202,7 @@ public abstract class SubMenu extends MenuItem {
 			// select a MenuItem && unselect me
 			this.selected = false;
 			this.inMenu = true;
+			this.scene.invalidateAll();
 			currentItem.select();
 		} else if (this.inMenu) {
 			// pass select
@@ -207,6 +210,7 @@ public abstract class SubMenu extends MenuItem {
 		} else {
 			// select me
 			this.selected = true;
+			this.scene.invalidateAll();
 			currentItem.setHover(true);
 		}
 	}
@@ -219,6 +223,7 @@ public abstract class SubMenu extends MenuItem {
 			}
 			this.selected = false;
 			this.inMenu = false;
+			this.scene.invalidateAll();
 			this.parent.focus();
 		} else if (this.inMenu) {
 			// pass unselect
@@ -230,6 +235,8 @@ public abstract class SubMenu extends MenuItem {
 	protected void focus() {
 		this.selected = true;
 		this.inMenu = false;
+		// the items of this menu replace the shown item
+		this.scene.invalidateAll();
 	}
 
 	@Override
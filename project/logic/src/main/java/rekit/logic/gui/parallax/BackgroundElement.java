@@ -1,5 +1,8 @@
 package rekit.logic.gui.parallax;
 
+import java.util.function.BiConsumer;
+
+import rekit.core.GameGrid;
 import rekit.core.Team;
 import rekit.logic.gameelements.GameElement;
 import rekit.primitives.geometry.Direction;
@@ -40,6 +43,21 @@ public abstract class BackgroundElement extends GameElement {
 		return (int) (this.backgroundZ - this.parent.fieldXtoLayerX(100));
 	}
 
+	@Override
+	public void internalRender(GameGrid f) {
+		this.createDrawing().accept(f, new Vec(0, 0, this.parent.perspectiveZ));
+	}
+
+	/**
+	 * Create the drawing of the element (e.g. for a {@link ParallaxStrip}).
+	 * As the drawing may be replayed by the render thread, it has to capture
+	 * everything it draws instead of referring to the (mutable) element.
+	 *
+	 * @return the drawing which renders the element moved by an offset (its
+	 *         z-component is the perspective to use)
+	 */
+	public abstract BiConsumer<GameGrid, Vec> createDrawing();
+
 	@Override
 	public void addDamage(int damage) {
 		// Do nothing
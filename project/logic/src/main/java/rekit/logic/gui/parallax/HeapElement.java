@@ -1,6 +1,5 @@
 package rekit.logic.gui.parallax;
 
-import rekit.core.GameGrid;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
 
@@ -99,8 +98,5 @@ public abstract class HeapElement extends BackgroundElement {
 		this.col = col;
 	}
 
-	@Override
-	public abstract void internalRender(GameGrid f);
-
 	public abstract HeapElement create(HeapLayer parent, Vec pos, Vec size, RGBAColor col);
 }
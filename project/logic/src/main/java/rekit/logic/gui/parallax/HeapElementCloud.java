@@ -1,5 +1,7 @@
 package rekit.logic.gui.parallax;
 
+import java.util.function.BiConsumer;
+
 import rekit.core.GameGrid;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
@@ -15,8 +17,11 @@ public class HeapElementCloud extends HeapElement {
 	}
 
 	@Override
-	public void internalRender(GameGrid f) {
-		f.drawCircle(this.getPos(), this.getSize(), this.col);
+	public BiConsumer<GameGrid, Vec> createDrawing() {
+		Vec pos = this.getPos();
+		Vec size = this.getSize();
+		RGBAColor color = this.col;
+		return (f, offset) -> f.drawCircle(offset.add(pos), size, color);
 	}
 
 	@Override
@@ -1,7 +1,10 @@
 package rekit.logic.gui.parallax;
 
+import java.util.function.BiConsumer;
+
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
+import rekit.primitives.geometry.Frame;
 import rekit.primitives.geometry.Polygon;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
@@ -119,9 +122,22 @@ public class HeapElementMountain extends HeapElement {
 	}
 
 	@Override
-	public void internalRender(GameGrid f) {
-		this.polygon.moveTo(this.getPos());
-		f.drawPolygon(this.polygon, this.col, true);
+	public BiConsumer<GameGrid, Vec> createDrawing() {
+		Vec pos = this.getPos();
+		Polygon shape = this.polygon.clone();
+		RGBAColor color = this.col;
+		return (f, offset) -> {
+			Polygon moved = shape.clone();
+			moved.moveTo(offset.add(pos));
+			f.drawPolygon(moved, color, true);
+		};
+	}
+
+	@Override
+	public Frame getFrame() {
+		// the mountain is drawn left of and above its position
+		Vec pos = this.getPos();
+		return new Frame(pos.x - this.getSize().x, pos.y - this.getSize().y, pos.x, pos.y);
 	}
 
 	@Override
@@ -3,16 +3,29 @@ package rekit.logic.gui.parallax;
 import java.util.LinkedList;
 import java.util.List;
 
+import rekit.config.GameConf;
+import rekit.core.GameGrid;
+import rekit.core.Team;
 import rekit.logic.IScene;
+import rekit.logic.gameelements.GameElement;
+import rekit.primitives.geometry.Direction;
+import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.Vec;
 
 public class ParallaxContainer {
 
 	private List<ParallaxLayer> layers;
 	private IScene scene;
+	/**
+	 * The only element of the parallax in the scene, which renders all layers.
+	 */
+	private final ParallaxElement element;
 
 	public ParallaxContainer(IScene scene) {
 		this.layers = new LinkedList<>();
 		this.scene = scene;
+		this.element = new ParallaxElement();
+		this.scene.addGameElement(this.element);
 	}
 
 	public void addLayer(ParallaxLayer layer) {
@@ -23,6 +36,51 @@ public class ParallaxContainer {
 	public void logicLoop(float currentOffset) {
 		for (ParallaxLayer layer : this.layers) {
 			layer.logicLoop(currentOffset);
+			layer.updateStrips();
+		}
+		this.element.setPos(new Vec(currentOffset + GameConf.GRID_W / 2f, GameConf.GRID_H / 2f));
+	}
+
+	/**
+	 * This element renders all layers (back to front in order of
+	 * {@link ParallaxContainer#addLayer(ParallaxLayer)}). It always covers
+	 * the visible part of the level.
+	 *
+	 */
+	private final class ParallaxElement extends GameElement {
+		/**
+		 * Create the element.
+		 */
+		ParallaxElement() {
+			super(new Vec(GameConf.GRID_W / 2f, GameConf.GRID_H / 2f), new Vec(), new Vec(GameConf.GRID_W, GameConf.GRID_H), Team.BACKGROUND);
+		}
+
+		@Override
+		public Integer getZHint() {
+			return (int) Team.BACKGROUND.zRange.min;
+		}
+
+		@Override
+		public void internalRender(GameGrid f) {
+			for (ParallaxLayer layer : ParallaxContainer.this.layers) {
+				layer.render(f);
+			}
+		}
+
+		@Override
+		public void addDamage(int damage) {
+			// Do nothing
+		}
+
+		@Override
+		public int getLives() {
+			// Do nothing
+			return 0;
+		}
+
+		@Override
+		public void collidedWithSolid(Frame collision, Direction dir) {
+			// Do nothing
 		}
 	}
 }
@@ -1,7 +1,12 @@
 package rekit.logic.gui.parallax;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
+import rekit.logic.ILevelScene;
 import rekit.logic.IScene;
 
 public abstract class ParallaxLayer {
@@ -16,6 +21,12 @@ public abstract class ParallaxLayer {
 
 	protected float x;
 
+	/**
+	 * The strips of this layer (ordered by their start), see
+	 * {@link ParallaxStrip}.
+	 */
+	private final Deque<ParallaxStrip> strips = new ArrayDeque<>();
+
 	public ParallaxLayer(float perspectiveZ) {
 		this.perspectiveZ = perspectiveZ;
 	}
@@ -28,7 +39,64 @@ public abstract class ParallaxLayer {
 	}
 
 	public void render(GameGrid f) {
+		for (ParallaxStrip strip : this.strips) {
+			strip.render(f);
+		}
+	}
+
+	/**
+	 * Add a generated element to the strip of its position. Elements have to
+	 * be added from left to right (as they are drawn in this order).
+	 *
+	 * @param element
+	 *            the element
+	 */
+	protected void addElement(BackgroundElement element) {
+		float elementX = element.getPos().x;
+		if (this.strips.isEmpty()) {
+			float start = (float) Math.floor(elementX / ParallaxStrip.WIDTH) * ParallaxStrip.WIDTH;
+			this.strips.add(new ParallaxStrip(start, this.perspectiveZ));
+		}
+		while (this.strips.getLast().getEnd() <= elementX) {
+			this.strips.add(new ParallaxStrip(this.strips.getLast().getEnd(), this.perspectiveZ));
+		}
+		// find the strip of the element (complete strips must not change)
+		ParallaxStrip target = null;
+		Iterator<ParallaxStrip> it = this.strips.descendingIterator();
+		while (it.hasNext()) {
+			ParallaxStrip strip = it.next();
+			if (strip.isComplete()) {
+				break;
+			}
+			target = strip;
+			if (strip.getStart() <= elementX) {
+				break;
+			}
+		}
+		if (target == null) {
+			target = new ParallaxStrip(this.strips.getLast().getEnd(), this.perspectiveZ);
+			this.strips.add(target);
+		}
+		target.add(element);
+	}
 
+	/**
+	 * Complete all strips which will not get more elements and drop all
+	 * strips which have left the screen. This will be invoked after
+	 * {@link #logicLoop(float)}.
+	 */
+	void updateStrips() {
+		for (ParallaxStrip strip : this.strips) {
+			// new elements will be generated behind currentlyGeneratedUntil
+			if (!strip.isComplete() && strip.getEnd() <= this.currentlyGeneratedUntil) {
+				strip.complete();
+			}
+		}
+		boolean wildcard = this.scene instanceof ILevelScene && ((ILevelScene) this.scene).isOffsetWildCard();
+		while (!wildcard && !this.strips.isEmpty() && this.strips.getFirst().isComplete()
+				&& this.x > this.strips.getFirst().getRight() + this.fieldXtoLayerX(this.x) + GameConf.GRID_W) {
+			this.strips.removeFirst();
+		}
 	}
 
 	protected float fieldXtoLayerX(float fieldX) {
@@ -0,0 +1,204 @@
+package rekit.logic.gui.parallax;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import rekit.core.GameGrid;
+import rekit.primitives.geometry.Direction;
+import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.Vec;
+
+/**
+ * This class represents a vertical strip of a {@link ParallaxLayer}, which
+ * contains all {@link BackgroundElement BackgroundElements} whose position is
+ * within {@link #WIDTH} units from the start of the strip. A strip will be
+ * drawn as one cached drawing (see
+ * {@link GameGrid#drawCached(Vec, Vec, Object, BiConsumer)}), which only
+ * changes while elements are generated into the strip.
+ *
+ */
+final class ParallaxStrip {
+	/**
+	 * The width of a strip (in layer units).
+	 */
+	static final float WIDTH = 4;
+	/**
+	 * The padding around the elements (e.g. for outlines).
+	 */
+	private static final float PADDING = 0.1f;
+
+	/**
+	 * The start of the strip (in layer units).
+	 */
+	private final float start;
+	/**
+	 * The perspective of the layer.
+	 */
+	private final float perspectiveZ;
+	/**
+	 * The current drawing of the strip or {@code null} if empty.
+	 */
+	private Drawing drawing;
+	/**
+	 * Indicates whether the strip is complete.
+	 */
+	private boolean complete;
+
+	/**
+	 * Create a new strip.
+	 *
+	 * @param start
+	 *            the start of the strip (in layer units)
+	 * @param perspectiveZ
+	 *            the perspective of the layer
+	 */
+	ParallaxStrip(float start, float perspectiveZ) {
+		this.start = start;
+		this.perspectiveZ = perspectiveZ;
+	}
+
+	/**
+	 * Get the start of the strip.
+	 *
+	 * @return the start (in layer units)
+	 */
+	float getStart() {
+		return this.start;
+	}
+
+	/**
+	 * Get the end of the strip.
+	 *
+	 * @return the end (in layer units)
+	 */
+	float getEnd() {
+		return this.start + ParallaxStrip.WIDTH;
+	}
+
+	/**
+	 * Get the right border of the drawing of the strip.
+	 *
+	 * @return the right border (in layer units)
+	 */
+	float getRight() {
+		return this.drawing == null ? this.getEnd() : this.drawing.center.x + this.drawing.area.x / 2;
+	}
+
+	/**
+	 * Check whether the strip is complete.
+	 *
+	 * @return {@code true} if complete, {@code false} otherwise
+	 */
+	boolean isComplete() {
+		return this.complete;
+	}
+
+	/**
+	 * Mark the strip as complete (no more elements will be added).
+	 */
+	void complete() {
+		this.complete = true;
+	}
+
+	/**
+	 * Add an element to an incomplete strip.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void add(BackgroundElement element) {
+		this.drawing = new Drawing(this.drawing, element, this.perspectiveZ);
+	}
+
+	/**
+	 * Render the strip.
+	 *
+	 * @param f
+	 *            the {@link GameGrid} to render upon
+	 */
+	void render(GameGrid f) {
+		Drawing current = this.drawing;
+		if (current != null) {
+			f.drawCached(current.center, current.area, current, current);
+		}
+	}
+
+	/**
+	 * The (immutable) drawing of the elements of a strip. Every change of the
+	 * strip creates a new drawing, so it can be cached by its identity and
+	 * drawn after the strip has been changed. It only holds the drawings of
+	 * the elements (see {@link BackgroundElement#createDrawing()}), never the
+	 * elements themselves.
+	 *
+	 */
+	private static final class Drawing implements BiConsumer<GameGrid, Vec> {
+		/**
+		 * The drawings of the elements.
+		 */
+		private final List<BiConsumer<GameGrid, Vec>> parts;
+		/**
+		 * The bounds of all elements ({left, top, right, bottom}).
+		 */
+		private final float[] bounds;
+		/**
+		 * The center of all elements.
+		 */
+		private final Vec center;
+		/**
+		 * The size of the area of all elements.
+		 */
+		private final Vec area;
+
+		/**
+		 * Create a new drawing.
+		 *
+		 * @param previous
+		 *            the previous drawing of the strip or {@code null} if
+		 *            none
+		 * @param element
+		 *            the element which has been added to the strip
+		 * @param perspectiveZ
+		 *            the perspective of the layer
+		 */
+		Drawing(Drawing previous, BackgroundElement element, float perspectiveZ) {
+			this.parts = new ArrayList<>();
+			this.bounds = new float[] { Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY };
+			if (previous != null) {
+				this.parts.addAll(previous.parts);
+				System.arraycopy(previous.bounds, 0, this.bounds, 0, this.bounds.length);
+			}
+			this.parts.add(element.createDrawing());
+			Frame frame = element.getFrame();
+			this.bounds[0] = Math.min(this.bounds[0], frame.getBorder(Direction.LEFT));
+			this.bounds[2] = Math.max(this.bounds[2], frame.getBorder(Direction.RIGHT));
+			// the "upper" border of a frame is the one with the highest y
+			this.bounds[1] = Math.min(this.bounds[1], frame.getBorder(Direction.DOWN));
+			this.bounds[3] = Math.max(this.bounds[3], frame.getBorder(Direction.UP));
+			// align the area to whole units (exact in pixels for every
+			// scale), so that adjacent strips fit seamlessly
+			float left = (float) Math.floor(this.bounds[0] - ParallaxStrip.PADDING);
+			float right = (float) Math.ceil(this.bounds[2] + ParallaxStrip.PADDING);
+			float top = (float) Math.floor(this.bounds[1] - ParallaxStrip.PADDING);
+			float bottom = (float) Math.ceil(this.bounds[3] + ParallaxStrip.PADDING);
+			this.center = new Vec((left + right) / 2, (top + bottom) / 2, perspectiveZ);
+			this.area = new Vec(right - left, bottom - top);
+		}
+
+		/**
+		 * Draw all elements.
+		 *
+		 * @param f
+		 *            the {@link GameGrid} to render upon
+		 * @param areaCenter
+		 *            the center of the area (see {@link #center})
+		 */
+		@Override
+		public void accept(GameGrid f, Vec areaCenter) {
+			Vec offset = areaCenter.sub(this.center);
+			for (BiConsumer<GameGrid, Vec> part : this.parts) {
+				part.accept(f, offset);
+			}
+		}
+	}
+}
@@ -2,6 +2,7 @@ package rekit.logic.gui.parallax;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
@@ -16,8 +17,6 @@ public class TriangulationLayer extends ParallaxLayer {
 	private float minY = GameConf.GRID_H - 3.2f;
 	private float maxY = GameConf.GRID_H;
 
-	private int triangleId;
-
 	public TriangulationLayer(float distanceFromFront) {
 		super(distanceFromFront);
 
@@ -56,10 +55,9 @@ public class TriangulationLayer extends ParallaxLayer {
 			LinkedList<Triangle> triangles = new LinkedList<>();
 			this.recursiveTriangulation(triangles, 2, iterationTriangle);
 
-			// add all triangles to model
+			// add all triangles to the strips (in order)
 			for (Triangle t : triangles) {
-				t.backgroundZ -= this.triangleId--;
-				this.scene.addGameElement(t);
+				this.addElement(t);
 			}
 
 			this.currentlyGeneratedUntil = smallestX;
@@ -156,10 +154,17 @@ public class TriangulationLayer extends ParallaxLayer {
 		}
 
 		@Override
-		public void internalRender(GameGrid f) {
-			this.polygon.moveTo(this.corners[0]);
-			f.drawPolygon(this.polygon, this.col, true);
-			f.drawPolygon(this.polygon, this.darkCol, false);
+		public BiConsumer<GameGrid, Vec> createDrawing() {
+			Vec corner = this.corners[0];
+			Polygon shape = this.polygon.clone();
+			RGBAColor color = this.col;
+			RGBAColor darkColor = this.darkCol;
+			return (f, offset) -> {
+				Polygon moved = shape.clone();
+				moved.moveTo(offset.add(corner));
+				f.drawPolygon(moved, color, true);
+				f.drawPolygon(moved, darkColor, false);
+			};
 		}
 	}
 
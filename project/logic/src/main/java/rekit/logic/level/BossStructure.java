@@ -22,7 +22,6 @@ import rekit.primitives.geometry.Vec;
 import rekit.primitives.time.Progress;
 import rekit.primitives.time.Timer;
 import rekit.util.CalcUtil;
-import rekit.util.ThreadUtils;
 
 /**
  *
@@ -124,29 +123,42 @@ public final class BossStructure extends Structure implements Configurable {
 		this.boss.setBossStructure(this);
 		this.boss.setTarget(scene.getPlayer());
 
-		// Create thread for asynchronous stuff
-		ThreadUtils.runDaemon("BossRoom-Start", () -> this.startIntern(scene));
+		// walk in the logic steps of the scene
+		scene.addTask(() -> this.walkIn(scene));
 
 	}
 
 	/**
-	 * Start Boss Battle. Show intro text, set camera target.
+	 * Keep the player walking right to the camera position and start the boss
+	 * battle afterwards (will be invoked in every logic step, see
+	 * {@link IScene#addTask(java.util.function.BooleanSupplier)}).
 	 *
 	 * @param scene
 	 *            the scene
+	 * @return {@code true} if the player is still walking, {@code false} if
+	 *         the battle has been started
 	 */
-	private void startIntern(ILevelScene scene) {
+	private boolean walkIn(ILevelScene scene) {
 		if (this.door == null || this.triggerPos == null) {
-			return;
+			return false;
 		}
-
 		Player player = scene.getPlayer();
-		// keep walking right to the right camera position
-		while (player.getPos().x < this.cameraTarget) {
+		if (player.getPos().x < this.cameraTarget) {
 			player.setVel(player.getVel().setX(1.8f));
-			Timer.sleep(GameConf.LOGIC_DELTA);
+			return true;
 		}
+		this.startIntern(scene);
+		return false;
+	}
 
+	/**
+	 * Start Boss Battle. Show intro text, set camera target.
+	 *
+	 * @param scene
+	 *            the scene
+	 */
+	private void startIntern(ILevelScene scene) {
+		Player player = scene.getPlayer();
 		RangeCameraTarget tgt = new RangeCameraTarget(//
 				this.cameraTarget - Player.CAMERA_OFFSET, //
 				this.cameraTarget - Player.CAMERA_OFFSET + (this.getWidth() - 22), //
@@ -167,7 +179,7 @@ public final class BossStructure extends Structure implements Configurable {
 		TextOptions op = new TextOptions(new Vec(-0.5f, -0.5f), 30, GameConf.GAME_TEXT_COLOR, GameConf.GAME_TEXT_FONT, 1);
 		Text bossText = new Text(scene, op).setText(this.boss.getName());
 		bossText.setPos(CalcUtil.units2pixel(new Vec(GameConf.GRID_W / 2f, GameConf.GRID_H / 2f)));
-		scene.addGuiElement(new TimeDecorator(scene, bossText, new Timer(3000)));
+		scene.addGuiElement(new TimeDecorator(scene, bossText, new Timer(3000, scene.getClock())));
 		scene.setCanPause(true);
 	}
 
@@ -182,13 +194,14 @@ public final class BossStructure extends Structure implements Configurable {
 			return;
 		}
 		this.ended = true;
-		// Create thread for asynchronous stuff
-		ThreadUtils.runDaemon("BossRoom-End", () -> this.endAnimation(scene));
+		// animate in the logic steps of the scene
+		this.endAnimation(scene);
 	}
 
 	/**
-	 * This method will invoked in a separate thread to perform the end
-	 * animation of the Boss.
+	 * Start the end animation of the Boss. The animation will be performed in
+	 * the logic steps of the scene (see
+	 * {@link IScene#addTask(java.util.function.BooleanSupplier)}).
 	 *
 	 * @param scene
 	 *            the scene
@@ -198,7 +211,7 @@ public final class BossStructure extends Structure implements Configurable {
 			return;
 		}
 		final Player player = scene.getPlayer();
-		final Timer timer = new Timer(7000);
+		final Timer timer = new Timer(7000, scene.getClock());
 
 		// Needed for animating camera movement
 		Progress cameraMover = new Progress(//
@@ -213,21 +226,36 @@ public final class BossStructure extends Structure implements Configurable {
 				);
 		// save Players current velocity
 		Vec[] save = { player.getVel(), player.getPos(), this.boss.getPos() };
-		// while timer has time left...
-		while (!timer.timeUp()) {
+		scene.addTask(() -> {
+			// while timer has time left...
+			if (timer.timeUp()) {
+				this.finishAnimation(scene, player, save[0]);
+				return false;
+			}
 			// freeze player and pos
 			player.setVel(new Vec());
 			player.setPos(save[1]);
 			this.boss.setVel(new Vec());
 			this.boss.setPos(save[2]);
-			// wait for time to be up
-			Timer.sleep(GameConf.LOGIC_DELTA);
 			this.phase(scene, timer, doorMover, cameraMover);
 			timer.logicLoop();
-		}
+			return true;
+		});
+	}
 
+	/**
+	 * Finish the end animation and let the player continue.
+	 *
+	 * @param scene
+	 *            the scene
+	 * @param player
+	 *            the player
+	 * @param vel
+	 *            the velocity of the player before the animation
+	 */
+	private void finishAnimation(ILevelScene scene, Player player, Vec vel) {
 		// re-apply velocity to Player
-		player.setVel(save[0]);
+		player.setVel(vel);
 		// give player full health
 		if (player.getLives() < Player.LIVES) {
 			player.setLives(Player.LIVES);
@@ -0,0 +1,352 @@
+package rekit.logic.scene;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import rekit.core.Team;
+import rekit.logic.gameelements.GameElement;
+
+/**
+ * This class realizes the broadphase of the collision detection of a
+ * {@link LevelScene}. It is a spatial hash over the unit grid (the same grid
+ * the level structures are built on): every {@link GameElement} is registered
+ * in all cells its bounding box covers, so only elements sharing a cell have
+ * to be checked by {@link GameElement#checkCollision(GameElement)}.<br>
+ * The grid is updated incrementally: an element will only be moved to other
+ * cells by {@link #refresh()} if the range of covered cells has changed since
+ * the last refresh.<br>
+ * Elements are kept per {@link Team}; pairs of teams which cannot interact
+ * (see {@link Team#canCollide(Team)}) will never be visited.
+ *
+ */
+final class CollisionGrid {
+	/**
+	 * The amount of buckets of the hash (must be a power of two).
+	 */
+	private static final int BUCKETS = 1 << 10;
+	/**
+	 * Mask to map hash values to buckets.
+	 */
+	private static final int MASK = CollisionGrid.BUCKETS - 1;
+	/**
+	 * All teams (cached, as {@link Team#values()} creates a new array).
+	 */
+	private static final Team[] TEAMS = Team.values();
+
+	/**
+	 * The buckets of the spatial hash.
+	 */
+	private final List<List<Entry>> buckets;
+	/**
+	 * The entries by element.
+	 */
+	private final Map<GameElement, Entry> entries = new IdentityHashMap<>();
+	/**
+	 * All entries by ordinal of their team (for iteration).
+	 */
+	private final List<List<Entry>> byTeam;
+	/**
+	 * Indicates whether a team (by ordinal) can collide with any team of the
+	 * same or a higher ordinal (else it never has to be queried).
+	 */
+	private final boolean[] queried;
+	/**
+	 * The counter for queries (used to find every pair only once).
+	 */
+	private int query;
+	/**
+	 * The counter for registrations (used to order the entries).
+	 */
+	private int nextId;
+	/**
+	 * The amount of pairs which have been passed to the narrow phase in the
+	 * last call of {@link #forEachPair(BiConsumer)}.
+	 */
+	private long candidatePairs;
+
+	/**
+	 * Create a new (empty) grid.
+	 */
+	CollisionGrid() {
+		this.buckets = new ArrayList<>(CollisionGrid.BUCKETS);
+		for (int i = 0; i < CollisionGrid.BUCKETS; i++) {
+			this.buckets.add(new ArrayList<>());
+		}
+		Team[] teams = CollisionGrid.TEAMS;
+		this.byTeam = new ArrayList<>(teams.length);
+		this.queried = new boolean[teams.length];
+		for (Team team : teams) {
+			this.byTeam.add(new ArrayList<>());
+			for (int other = team.ordinal(); other < teams.length; other++) {
+				this.queried[team.ordinal()] |= team.canCollide(teams[other]);
+			}
+		}
+	}
+
+	/**
+	 * Register an element.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void add(GameElement element) {
+		if (this.entries.containsKey(element)) {
+			return;
+		}
+		Entry entry = new Entry(element, this.nextId++);
+		this.entries.put(element, entry);
+		List<Entry> list = this.byTeam.get(entry.team);
+		entry.index = list.size();
+		list.add(entry);
+		entry.calcCells();
+		entry.commitCells();
+		this.link(entry);
+	}
+
+	/**
+	 * Move all elements whose covered cells have changed (e.g. because they
+	 * have been moved) to their new cells.
+	 */
+	void refresh() {
+		for (List<Entry> list : this.byTeam) {
+			for (int i = 0; i < list.size(); i++) {
+				Entry entry = list.get(i);
+				if (entry.calcCells()) {
+					this.unlink(entry);
+					entry.commitCells();
+					this.link(entry);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove an element from the grid.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void remove(GameElement element) {
+		Entry entry = this.entries.remove(element);
+		if (entry == null) {
+			return;
+		}
+		this.unlink(entry);
+		// swap with last
+		List<Entry> list = this.byTeam.get(entry.team);
+		Entry last = list.remove(list.size() - 1);
+		if (last != entry) {
+			last.index = entry.index;
+			list.set(entry.index, last);
+		}
+	}
+
+	/**
+	 * Remove all elements.
+	 */
+	void clear() {
+		this.entries.clear();
+		this.byTeam.forEach(List::clear);
+		this.buckets.forEach(List::clear);
+		this.candidatePairs = 0;
+	}
+
+	/**
+	 * Invoke action for every pair of elements that share at least one cell
+	 * and whose teams can collide (see {@link Team#canCollide(Team)}). Every
+	 * (unordered) pair will be passed exactly once.
+	 *
+	 * @param action
+	 *            the action
+	 */
+	void forEachPair(BiConsumer<GameElement, GameElement> action) {
+		long pairs = 0;
+		Team[] teams = CollisionGrid.TEAMS;
+		for (int team = 0; team < teams.length; team++) {
+			if (!this.queried[team]) {
+				continue;
+			}
+			Team self = teams[team];
+			List<Entry> list = this.byTeam.get(team);
+			for (int i = 0; i < list.size(); i++) {
+				Entry entry = list.get(i);
+				int current = ++this.query;
+				for (int x = entry.minX; x <= entry.maxX; x++) {
+					for (int y = entry.minY; y <= entry.maxY; y++) {
+						for (Entry other : this.buckets.get(CollisionGrid.hash(x, y))) {
+							// pairs with lower teams have been visited by the queries of these teams
+							if (other.team < team || other.team == team && other.id <= entry.id || other.query == current) {
+								continue;
+							}
+							other.query = current;
+							if (!self.canCollide(teams[other.team])) {
+								continue;
+							}
+							pairs++;
+							action.accept(entry.element, other.element);
+						}
+					}
+				}
+			}
+		}
+		this.candidatePairs = pairs;
+	}
+
+	/**
+	 * Invoke action for every registered element.
+	 *
+	 * @param action
+	 *            the action
+	 */
+	void forEach(Consumer<GameElement> action) {
+		for (List<Entry> list : this.byTeam) {
+			for (int i = 0; i < list.size(); i++) {
+				action.accept(list.get(i).element);
+			}
+		}
+	}
+
+	/**
+	 * Get the amount of registered elements.
+	 *
+	 * @return the amount of elements
+	 */
+	int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Get the amount of pairs which have been passed to the narrow phase in
+	 * the last call of {@link #forEachPair(BiConsumer)}.
+	 *
+	 * @return the amount of candidate pairs
+	 */
+	long getCandidatePairs() {
+		return this.candidatePairs;
+	}
+
+	/**
+	 * Add entry to all buckets of its cells.
+	 *
+	 * @param entry
+	 *            the entry
+	 */
+	private void link(Entry entry) {
+		for (int x = entry.minX; x <= entry.maxX; x++) {
+			for (int y = entry.minY; y <= entry.maxY; y++) {
+				this.buckets.get(CollisionGrid.hash(x, y)).add(entry);
+			}
+		}
+	}
+
+	/**
+	 * Remove entry from all buckets of its cells.
+	 *
+	 * @param entry
+	 *            the entry
+	 */
+	private void unlink(Entry entry) {
+		for (int x = entry.minX; x <= entry.maxX; x++) {
+			for (int y = entry.minY; y <= entry.maxY; y++) {
+				this.buckets.get(CollisionGrid.hash(x, y)).remove(entry);
+			}
+		}
+	}
+
+	/**
+	 * Map a cell to its bucket.
+	 *
+	 * @param x
+	 *            the x coordinate of the cell
+	 * @param y
+	 *            the y coordinate of the cell
+	 * @return the index of the bucket
+	 */
+	private static int hash(int x, int y) {
+		return (x * 73856093 ^ y * 19349663) & CollisionGrid.MASK;
+	}
+
+	/**
+	 * This class represents the registration of one {@link GameElement} in the
+	 * grid.
+	 *
+	 */
+	private static final class Entry {
+		/**
+		 * The element.
+		 */
+		private final GameElement element;
+		/**
+		 * The id (order of registration).
+		 */
+		private final int id;
+		/**
+		 * The ordinal of the team of the element.
+		 */
+		private final int team;
+		/**
+		 * The index in the list of its team (see
+		 * {@link CollisionGrid#byTeam}).
+		 */
+		private int index;
+		/**
+		 * The last query which has visited this entry.
+		 */
+		private int query;
+		/**
+		 * The covered cells.
+		 */
+		private int minX, minY, maxX, maxY;
+		/**
+		 * The newly calculated cells (see {@link #calcCells()}).
+		 */
+		private int newMinX, newMinY, newMaxX, newMaxY;
+
+		/**
+		 * Create a new entry.
+		 *
+		 * @param element
+		 *            the element
+		 * @param id
+		 *            the id
+		 */
+		Entry(GameElement element, int id) {
+			this.element = element;
+			this.id = id;
+			this.team = element.getTeam().ordinal();
+		}
+
+		/**
+		 * Calculate the cells covered by the bounding box of the element.
+		 * The result has to be applied by {@link #commitCells()}.
+		 *
+		 * @return {@code true} if the cells differ from the current cells,
+		 *         {@code false} otherwise
+		 */
+		boolean calcCells() {
+			float x = this.element.getX();
+			float y = this.element.getY();
+			float halfW = Math.abs(this.element.getWidth()) / 2F;
+			float halfH = Math.abs(this.element.getHeight()) / 2F;
+			this.newMinX = (int) Math.floor(x - halfW);
+			this.newMaxX = (int) Math.floor(x + halfW);
+			this.newMinY = (int) Math.floor(y - halfH);
+			this.newMaxY = (int) Math.floor(y + halfH);
+			return this.newMinX != this.minX || this.newMaxX != this.maxX || this.newMinY != this.minY || this.newMaxY != this.maxY;
+		}
+
+		/**
+		 * Apply the newly calculated cells.
+		 */
+		void commitCells() {
+			this.minX = this.newMinX;
+			this.maxX = this.newMaxX;
+			this.minY = this.newMinY;
+			this.maxY = this.newMaxY;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package rekit.logic.scene;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import rekit.logic.gameelements.GameElement;
+
+/**
+ * This class realizes the storage of all {@link GameElement GameElements} of a
+ * {@link Scene}. The elements are kept in one dense array per z-value (see
+ * {@link GameElement#getZ()}); every element knows its bucket and slot (see
+ * {@link GameElement#getStoreSlot()}), so it can be removed in constant time
+ * by leaving a tombstone ({@code null}) in its slot. The tombstones will be
+ * compacted by {@link #compact()} (once per logic step), which keeps the
+ * insertion order of the elements of each bucket.<br>
+ * Iteration is ordered by z-value (and by insertion within the same z-value)
+ * and only visits the buckets which contain elements.
+ *
+ */
+final class ElementStore {
+	/**
+	 * The amount of buckets (Byte: [-128, 127]).
+	 */
+	private static final int BUCKETS = 256;
+	/**
+	 * The initial capacity of a bucket.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * The elements by bucket (a bucket is {@code null} until used).
+	 */
+	private final GameElement[][] buckets = new GameElement[ElementStore.BUCKETS][];
+	/**
+	 * The amount of used slots by bucket (including tombstones).
+	 */
+	private final int[] sizes = new int[ElementStore.BUCKETS];
+	/**
+	 * The buckets which contain tombstones (bitset).
+	 */
+	private final long[] holes = new long[ElementStore.BUCKETS / 64];
+	/**
+	 * The non-empty buckets (bitset).
+	 */
+	private final long[] nonEmpty = new long[ElementStore.BUCKETS / 64];
+	/**
+	 * The amount of elements.
+	 */
+	private int size;
+
+	/**
+	 * Add an element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if added, {@code false} if already stored
+	 */
+	boolean add(GameElement element) {
+		if (this.contains(element)) {
+			return false;
+		}
+		int bucket = ElementStore.zToIndex(element.getZ());
+		GameElement[] elements = this.buckets[bucket];
+		int slot = this.sizes[bucket];
+		if (elements == null) {
+			elements = this.buckets[bucket] = new GameElement[ElementStore.INITIAL_CAPACITY];
+		} else if (slot == elements.length) {
+			elements = this.buckets[bucket] = Arrays.copyOf(elements, slot * 2);
+		}
+		elements[slot] = element;
+		element.setStoreIndex(bucket, slot);
+		this.sizes[bucket] = slot + 1;
+		this.nonEmpty[bucket >>> 6] |= 1L << bucket;
+		this.size++;
+		return true;
+	}
+
+	/**
+	 * Remove an element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if removed, {@code false} if not stored
+	 */
+	boolean remove(GameElement element) {
+		if (!this.contains(element)) {
+			return false;
+		}
+		int bucket = element.getStoreBucket();
+		int slot = element.getStoreSlot();
+		this.buckets[bucket][slot] = null;
+		this.holes[bucket >>> 6] |= 1L << bucket;
+		element.setStoreIndex(-1, -1);
+		this.size--;
+		return true;
+	}
+
+	/**
+	 * Remove all tombstones left by {@link #remove(GameElement)}. The
+	 * remaining elements of a bucket keep their order.
+	 */
+	void compact() {
+		for (int word = 0; word < this.holes.length; word++) {
+			long bits = this.holes[word];
+			this.holes[word] = 0;
+			while (bits != 0) {
+				int bucket = word << 6 | Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				this.compact(bucket);
+			}
+		}
+	}
+
+	/**
+	 * Remove the tombstones of one bucket.
+	 *
+	 * @param bucket
+	 *            the bucket
+	 */
+	private void compact(int bucket) {
+		GameElement[] elements = this.buckets[bucket];
+		int size = this.sizes[bucket];
+		int live = 0;
+		for (int i = 0; i < size; i++) {
+			GameElement element = elements[i];
+			if (element == null) {
+				continue;
+			}
+			if (i != live) {
+				elements[live] = element;
+				element.setStoreIndex(bucket, live);
+			}
+			live++;
+		}
+		Arrays.fill(elements, live, size, null);
+		this.sizes[bucket] = live;
+		if (live == 0) {
+			this.nonEmpty[bucket >>> 6] &= ~(1L << bucket);
+		}
+	}
+
+	/**
+	 * Check whether an element is stored.
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if stored, {@code false} otherwise
+	 */
+	boolean contains(GameElement element) {
+		int bucket = element.getStoreBucket();
+		int slot = element.getStoreSlot();
+		return bucket >= 0 && bucket < ElementStore.BUCKETS && slot >= 0 && slot < this.sizes[bucket] && this.buckets[bucket][slot] == element;
+	}
+
+	/**
+	 * Invoke action for every element (ordered by z-value and insertion).
+	 *
+	 * @param action
+	 *            the action
+	 */
+	void forEach(Consumer<GameElement> action) {
+		for (int word = 0; word < this.nonEmpty.length; word++) {
+			long bits = this.nonEmpty[word];
+			while (bits != 0) {
+				int bucket = word << 6 | Long.numberOfTrailingZeros(bits);
+				bits &= bits - 1;
+				GameElement[] elements = this.buckets[bucket];
+				for (int i = 0; i < this.sizes[bucket]; i++) {
+					// skip tombstones
+					if (elements[i] != null) {
+						action.accept(elements[i]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the amount of elements.
+	 *
+	 * @return the amount of elements
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get the amount of non-empty buckets.
+	 *
+	 * @return the amount of non-empty buckets
+	 */
+	int usedBuckets() {
+		int used = 0;
+		for (long bits : this.nonEmpty) {
+			used += Long.bitCount(bits);
+		}
+		return used;
+	}
+
+	/**
+	 * Get index based on z-value of position.
+	 *
+	 * @param zvalue
+	 *            the zvalue
+	 * @return the index
+	 */
+	private static int zToIndex(byte zvalue) {
+		return zvalue + 128;
+	}
+}
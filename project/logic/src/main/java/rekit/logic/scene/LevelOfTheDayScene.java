@@ -2,6 +2,7 @@ package rekit.logic.scene;
 
 import rekit.logic.GameModel;
 import rekit.logic.level.LevelFactory;
+import rekit.persistence.level.LevelDefinition;
 import rekit.persistence.level.LevelManager;
 
 /**
@@ -13,9 +14,11 @@ final class LevelOfTheDayScene extends LevelScene {
 	 *
 	 * @param model
 	 *            the model
+	 * @param level
+	 *            the level definition
 	 */
-	private LevelOfTheDayScene(GameModel model) {
-		super(model, LevelFactory.createLevel(LevelManager.getLOTDLevel()));
+	private LevelOfTheDayScene(GameModel model, LevelDefinition level) {
+		super(model, LevelFactory.createLevel(level));
 	}
 
 	/**
@@ -24,11 +27,15 @@ final class LevelOfTheDayScene extends LevelScene {
 	 * @param model
 	 *            the model
 	 * @param options
-	 *            the options
+	 *            the options - options[0] may be a Long with the seed of the
+	 *            level (default: the level of today)
 	 * @return a new arcade scene.
 	 */
 	public static Scene create(GameModel model, String... options) {
-		return new LevelOfTheDayScene(model);
+		if (options == null || options.length < 1) {
+			return new LevelOfTheDayScene(model, LevelManager.getLOTDLevel());
+		}
+		return new LevelOfTheDayScene(model, LevelManager.getLOTDLevel(Long.parseLong(options[0])));
 	}
 
 }
@@ -4,8 +4,6 @@
 package rekit.logic.scene;
 
 import java.awt.Font;
-import java.util.HashSet;
-import java.util.Set;
 
 import rekit.config.GameConf;
 import rekit.core.CameraTarget;
@@ -13,8 +11,8 @@ import rekit.logic.GameModel;
 import rekit.logic.ILevelScene;
 import rekit.logic.filters.GrayScaleMode;
 import rekit.logic.gameelements.GameElement;
-import rekit.logic.gameelements.GameElementFactory;
 import rekit.logic.gameelements.entities.Player;
+import rekit.logic.gameelements.particles.ParticleSystem;
 import rekit.logic.gui.LifeGui;
 import rekit.logic.gui.ScoreGui;
 import rekit.logic.gui.Text;
@@ -80,6 +78,10 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	 * The ParallaxContainer for the background.
 	 */
 	protected ParallaxContainer parallax;
+	/**
+	 * The particles of the scene.
+	 */
+	private ParticleSystem particles;
 	/**
 	 * Indicates whether the level has ended.
 	 */
@@ -88,6 +90,14 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	 * Return value of {@link #isOffsetWildCard()}.
 	 */
 	private boolean offsetWildCard;
+	/**
+	 * The broadphase of the collision detection.
+	 */
+	private final CollisionGrid collisionGrid = new CollisionGrid();
+	/**
+	 * The static blocks of the level.
+	 */
+	private TileLayer tileLayer;
 
 	/**
 	 * Create a new LevelScene.
@@ -107,15 +117,22 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	@Override
 	public void init() {
 		super.init();
+		this.collisionGrid.clear();
+		if (this.tileLayer == null) {
+			this.tileLayer = new TileLayer();
+		} else {
+			this.tileLayer.clear();
+		}
 		this.level.reset();
 		this.offsetWildCard = false;
 		// Create Player and add him to game
 		this.cameraTarget = this.player;
 		this.addGameElement(this.player);
 
-		// Init EnemyFactory with model
-		GameElementFactory.setScene(this);
 		this.level.reset();
+		// Create particle system
+		this.particles = new ParticleSystem();
+		this.addGameElement(this.particles);
 		// Create parallax background
 		this.parallax = new ParallaxContainer(this);
 
@@ -134,7 +151,7 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 		TextOptions op = new TextOptions(new Vec(-0.5f, -0.5f), 40, GameConf.GAME_TEXT_COLOR, GameConf.GAME_TEXT_FONT, Font.BOLD);
 		Text levelText = new Text(this, op).setText(this.level.getName());
 		levelText.setPos(CalcUtil.units2pixel(new Vec(GameConf.GRID_W / 2f, GameConf.GRID_H / 2f)));
-		this.addGuiElement(new TimeDecorator(this, levelText, new Timer(5000)));
+		this.addGuiElement(new TimeDecorator(this, levelText, new Timer(5000, this.getClock())));
 
 		// create pause menu
 		this.pauseMenu = new MenuList(this, "Pause Menu");
@@ -175,7 +192,7 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 
 		// show end menu after the specified time
 		if (delay >= 0) {
-			Timer.execute(delay, () -> this.showEndMenu(won));
+			this.execute(delay, () -> this.showEndMenu(won));
 		}
 	}
 
@@ -234,7 +251,7 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 
 		Text levelText = new Text(this, op).setText("You" + (won ? " win!" : " have lost!"));
 		levelText.setPos(CalcUtil.units2pixel(new Vec(GameConf.GRID_W / 2f, GameConf.GRID_H / 2f)));
-		this.addGuiElement(new TimeDecorator(this, levelText, new Timer(2000)));
+		this.addGuiElement(new TimeDecorator(this, levelText, new Timer(2000, this.getClock())));
 		if (won) {
 			this.getModel().removeFilter();
 		} else {
@@ -268,12 +285,16 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 		this.level.getSp().generate((int) (this.getCameraOffset() + GameConf.GRID_W + 1));
 
 		// dont allow player to go behind currentOffset
-		float minX = this.getCameraOffset() + this.player.getSize().x / 2f;
-		if (this.player.getPos().x < minX) {
-			this.player.setPos(this.player.getPos().setX(minX));
+		float minX = this.getCameraOffset() + this.player.getWidth() / 2f;
+		if (this.player.getX() < minX) {
+			this.player.setPos(minX, this.player.getY());
 		}
 
 		this.parallax.logicLoop(this.getCameraOffset());
+		if (GameConf.DEBUG) {
+			this.particles.reportStatistics(this::setDebugStat);
+			this.getElementPool().reportStatistics(this::setDebugStat);
+		}
 	}
 
 	@Override
@@ -288,18 +309,45 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 		}
 	}
 
+	@Override
+	protected void onGameElementAdded(GameElement element) {
+		if (element.getTeam().isNeutral() || this.tileLayer.add(element)) {
+			return;
+		}
+		this.collisionGrid.add(element);
+	}
+
+	@Override
+	protected void onGameElementRemoved(GameElement element) {
+		if (!this.tileLayer.remove(element)) {
+			this.collisionGrid.remove(element);
+		}
+	}
+
 	/**
-	 * Check and Threat collisions.
+	 * Check and Threat collisions. All dynamic elements will be resolved
+	 * against the static blocks of the {@link TileLayer} first. Afterwards
+	 * only elements which share a cell of the {@link CollisionGrid} will be
+	 * checked. In both phases only pairs of teams which can interact (see
+	 * {@link rekit.core.Team#canCollide(rekit.core.Team)}) will be tested.
 	 */
 	private void checkCollisions() {
-		Set<GameElement> elements = new HashSet<>();
-		this.applyToNonNeutralGameElements(elements::add);
-		for (GameElement e1 : elements) {
-			for (GameElement e2 : elements) {
-				e1.checkCollision(e2);
-
-			}
-		}
+		this.tileLayer.resetChecks();
+		this.collisionGrid.forEach(this.tileLayer::collide);
+
+		this.collisionGrid.refresh();
+		this.collisionGrid.forEachPair((e1, e2) -> {
+			e1.checkCollision(e2);
+			e2.checkCollision(e1);
+		});
+
+		long elements = this.collisionGrid.size();
+		long tested = this.collisionGrid.getCandidatePairs();
+		this.setDebugStat("Collision: elements", elements);
+		this.setDebugStat("Collision: pairs tested", tested);
+		this.setDebugStat("Collision: pairs skipped", elements * (elements - 1) / 2 - tested);
+		this.setDebugStat("Collision: static tiles", this.tileLayer.size());
+		this.setDebugStat("Collision: tile probes", this.tileLayer.getChecks());
 	}
 
 	@Override
@@ -312,6 +360,11 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 		return this.cameraTarget.getCameraOffset();
 	}
 
+	@Override
+	public ParticleSystem getParticles() {
+		return this.particles;
+	}
+
 	@Override
 	public void setCameraTarget(CameraTarget cameraTarget) {
 		this.cameraTarget = cameraTarget;
@@ -119,6 +119,11 @@ final class MainMenuScene extends Scene {
 		arcade.addItem(groupGrid);
 	}
 
+	@Override
+	protected boolean isTrackingDirtyRegions() {
+		return true;
+	}
+
 	@Override
 	public MenuItem getMenu() {
 		return this.menu;
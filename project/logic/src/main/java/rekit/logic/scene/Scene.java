@@ -1,24 +1,36 @@
 package rekit.logic.scene;
 
 import java.util.ArrayDeque;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import rekit.config.GameConf;
 import rekit.core.CameraTarget;
 import rekit.core.GameTime;
+import rekit.core.RenderSnapshot;
+import rekit.core.SimulationClock;
 import rekit.logic.GameModel;
 import rekit.logic.ILevelScene;
 import rekit.logic.IScene;
+import rekit.logic.gameelements.ElementPool;
 import rekit.logic.gameelements.GameElement;
+import rekit.logic.gameelements.GameElementFactory;
+import rekit.logic.gameelements.TransformStore;
 import rekit.logic.gui.GuiElement;
+import rekit.primitives.geometry.Frame;
+import rekit.primitives.geometry.Vec;
+import rekit.primitives.time.Timer;
+import rekit.util.AllocationCounter;
 import rekit.util.LambdaUtil;
 import rekit.util.Once;
 
@@ -47,7 +59,15 @@ abstract class Scene implements CameraTarget, IScene {
 	/**
 	 * All game elements.
 	 */
-	private Queue<GameElement>[] gameElements;
+	private ElementStore gameElements;
+	/**
+	 * The positions, velocities and sizes of all game elements.
+	 */
+	private TransformStore transforms;
+	/**
+	 * The recycled elements of the scene.
+	 */
+	private ElementPool pool;
 	/**
 	 * GameElements which shall be added.
 	 */
@@ -57,6 +77,13 @@ abstract class Scene implements CameraTarget, IScene {
 	 */
 	private Queue<GameElement> gameElementRemoveQueue;
 
+	/**
+	 * The tasks which will be invoked in every logic step (see
+	 * {@link #addTask(BooleanSupplier)}). Access to this list has to be
+	 * synchronized by this list.
+	 */
+	private final List<BooleanSupplier> tasks = new ArrayList<>();
+
 	/**
 	 * Stats of the gameElements for debugging.
 	 */
@@ -65,6 +92,10 @@ abstract class Scene implements CameraTarget, IScene {
 	 * The lock to synchronize access to {@link #gameElementDurations}.
 	 */
 	private final Lock gameElementDurationsLock = new ReentrantLock();
+	/**
+	 * Statistics of the scene for debugging.
+	 */
+	private final Map<String, Long> debugStats = new TreeMap<>();
 	/**
 	 * Indicates whether the scene is paused.
 	 */
@@ -73,10 +104,64 @@ abstract class Scene implements CameraTarget, IScene {
 	 * Indicates whether pause is possible in the current state.
 	 */
 	protected boolean canPause = true;
+	/**
+	 * The clock of the scene.
+	 */
+	private final SimulationClock clock = new SimulationClock();
+	/**
+	 * The latest published snapshot (see {@link #getRenderSnapshot()}).
+	 */
+	private final AtomicReference<RenderSnapshot> snapshot = new AtomicReference<>();
+	/**
+	 * The recorder of the snapshots (its buffers will be reused).
+	 */
+	private final RenderSnapshot.Recorder recorder = new RenderSnapshot.Recorder();
+	/**
+	 * The margin (in units) around the visible area in which elements will
+	 * still be recorded (see {@link #isVisible(Vec, Vec, float)}).
+	 */
+	private static final float CULLING_MARGIN = 2;
+	/**
+	 * The camera offset of the snapshot which is being recorded.
+	 */
+	private float recordedOffset;
+	/**
+	 * The camera offset at the beginning of the current logic step.
+	 */
+	private float previousOffset;
+	/**
+	 * The amount of elements skipped in the snapshot which is being recorded
+	 * because they are out of sight.
+	 */
+	private long culled;
+	/**
+	 * Records one {@link GameElement} into the {@link #recorder} (if it may be
+	 * visible).
+	 */
+	private final Consumer<GameElement> recordElement = e -> {
+		Vec pos = e.getPos();
+		Vec size = e.getSize();
+		if (!Scene.isVisible(pos, size, this.recordedOffset)) {
+			this.culled++;
+			return;
+		}
+		this.recorder.beginElement(pos, size, e.getClass(), e.getPreviousX(), e.getPreviousY());
+		e.render(this.recorder);
+	};
+	/**
+	 * The regions (in pixels) which have changed since the latest snapshot
+	 * (see {@link #isTrackingDirtyRegions()}). Access to this list and
+	 * {@link #dirtyAll} has to be synchronized by this list.
+	 */
+	private final List<Frame> dirtyRegions = new ArrayList<>();
+	/**
+	 * Indicates whether everything has changed since the latest snapshot.
+	 */
+	private boolean dirtyAll = true;
 	/**
 	 * Last time of invoking {@link #logicLoop()}.
 	 */
-	private long lastTime = GameTime.getTime();
+	private long lastTime = 0;
 	/**
 	 * The latest deltaTime in {@link #logicLoop()}.
 	 */
@@ -102,19 +187,18 @@ abstract class Scene implements CameraTarget, IScene {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public synchronized void init() {
-		// Byte: [-128, 127]
-		final int length = 256;
 		this.guiElements = new ConcurrentLinkedDeque<>();
-
-		this.gameElements = (Queue<GameElement>[]) new Queue<?>[length];
-		for (int i = 0; i < this.gameElements.length; i++) {
-			this.gameElements[i] = new ArrayDeque<>();
-		}
+		this.gameElements = new ElementStore();
+		this.transforms = new TransformStore();
+		this.pool = new ElementPool();
 
 		this.gameElementAddQueue = new ArrayDeque<>();
 		this.gameElementRemoveQueue = new ArrayDeque<>();
+		synchronized (this.tasks) {
+			this.tasks.clear();
+		}
+		this.invalidateAll();
 
 		// never start the game in paused state
 		this.setPause(false);
@@ -126,9 +210,9 @@ abstract class Scene implements CameraTarget, IScene {
 			return false;
 		}
 		if (this.paused) {
-			GameTime.resume();
+			this.clock.resume();
 		} else {
-			GameTime.pause();
+			this.clock.pause();
 		}
 		this.paused = !this.paused;
 		return true;
@@ -142,18 +226,173 @@ abstract class Scene implements CameraTarget, IScene {
 	@Override
 	public void setPause(boolean pause) {
 		if (pause) {
-			GameTime.pause();
+			this.clock.pause();
 		} else {
-			GameTime.resume();
+			this.clock.resume();
 		}
 		this.paused = pause;
 	}
 
+	/**
+	 * Advance the clock of the scene by {@link GameConf#LOGIC_DELTA}, perform
+	 * one logic step and publish a new {@link RenderSnapshot} (if enabled, see
+	 * {@link GameModel#setRecordingSnapshots(boolean)}). While the step is
+	 * running, the clock and the
+	 * scene are bound to the current thread (see
+	 * {@link GameTime#bindClock(SimulationClock)} and
+	 * {@link GameElementFactory#bindScene(IScene)}).
+	 */
 	@Override
 	public final void logicLoop() {
-		this.deltaTime = GameTime.getTime() - this.lastTime;
-		this.lastTime += this.deltaTime;
-		this.innerLogicLoop();
+		SimulationClock previous = GameTime.bindClock(this.clock);
+		IScene previousScene = GameElementFactory.bindScene(this);
+		try {
+			this.clock.advance(GameConf.LOGIC_DELTA);
+			this.deltaTime = this.clock.getTime() - this.lastTime;
+			this.lastTime += this.deltaTime;
+			long wait = System.nanoTime();
+			synchronized (this) {
+				this.setDebugStat("Scene: lock wait (us)", (System.nanoTime() - wait) / 1000);
+				// keep the state of the previous step for interpolation
+				this.transforms.beginStep();
+				this.previousOffset = this.getCameraOffset();
+				long allocated = GameConf.DEBUG ? AllocationCounter.getAllocatedBytes() : -1;
+				this.innerLogicLoop();
+				if (allocated >= 0) {
+					this.setDebugStat("Scene: allocated (KiB)", (AllocationCounter.getAllocatedBytes() - allocated) / 1024);
+				}
+				if (this.model.isRecordingSnapshots()) {
+					this.recordSnapshot();
+				}
+			}
+		} finally {
+			GameElementFactory.bindScene(previousScene);
+			GameTime.bindClock(previous);
+		}
+	}
+
+	/**
+	 * Record the draw calls of all elements and publish them as new snapshot.
+	 * If the scene tracks its changed regions (see
+	 * {@link #isTrackingDirtyRegions()}), a new snapshot will only be
+	 * published if something has changed.
+	 */
+	private void recordSnapshot() {
+		long start = System.nanoTime();
+		RenderSnapshot.Recorder recorder = this.recorder;
+		if (this.isTrackingDirtyRegions()) {
+			RenderSnapshot previous = this.snapshot.get();
+			synchronized (this.dirtyRegions) {
+				if (!this.dirtyAll && this.dirtyRegions.isEmpty() && previous != null) {
+					// nothing has changed: the view may keep the current image
+					return;
+				}
+				recorder.begin();
+				recorder.trackDirtyRegions(this.dirtyAll || previous == null ? -1 : previous.getId());
+				for (Frame region : this.dirtyRegions) {
+					recorder.addDirtyRegion(region);
+				}
+				this.dirtyRegions.clear();
+				this.dirtyAll = false;
+			}
+		} else {
+			recorder.begin();
+		}
+		this.recordedOffset = this.getCameraOffset();
+		this.culled = 0;
+		recorder.setCurrentOffset(this.recordedOffset);
+		recorder.setPreviousOffset(this.previousOffset);
+		this.gameElements.forEach(this.recordElement);
+		this.setDebugStat("Scene: culled", this.culled);
+		recorder.beginGui();
+		for (GuiElement e : this.guiElements) {
+			e.render(recorder);
+		}
+		this.snapshot.set(recorder.build());
+		this.model.signalRender();
+		this.setDebugStat("Scene: snapshot (us)", (System.nanoTime() - start) / 1000);
+	}
+
+	/**
+	 * Check whether a {@link GameElement} may be visible with a camera
+	 * offset. As some elements draw beyond their frame, the element is
+	 * extended by its full size and {@link #CULLING_MARGIN} in every
+	 * direction.
+	 *
+	 * @param pos
+	 *            the position of the element
+	 * @param size
+	 *            the size of the element
+	 * @param offset
+	 *            the camera offset
+	 * @return {@code false} if the element is definitely out of sight,
+	 *         {@code true} otherwise
+	 */
+	private static boolean isVisible(Vec pos, Vec size, float offset) {
+		if (pos == null || size == null) {
+			return true;
+		}
+		// parallax elements are moved depending on their z-position (like
+		// Vec#translate2D(float), but without creating a vector)
+		float x = pos.z != 0 ? pos.x + offset / pos.z : pos.x;
+		float extentX = Math.abs(size.x) + Scene.CULLING_MARGIN;
+		float extentY = Math.abs(size.y) + Scene.CULLING_MARGIN;
+		return x + extentX >= offset && x - extentX <= offset + GameConf.GRID_W //
+				&& pos.y + extentY >= 0 && pos.y - extentY <= GameConf.GRID_H;
+	}
+
+	@Override
+	public final RenderSnapshot getRenderSnapshot() {
+		return this.snapshot.get();
+	}
+
+	@Override
+	public final ElementPool getElementPool() {
+		return this.pool;
+	}
+
+	/**
+	 * Indicates whether the scene tracks the regions which have changed (see
+	 * {@link #invalidate(Vec, Vec)}), so that the view only repaints these
+	 * regions. All elements of such a scene have to report their changes.
+	 *
+	 * @return {@code true} if changed regions are tracked, {@code false} if
+	 *         the scene shall be repainted completely in every step
+	 */
+	protected boolean isTrackingDirtyRegions() {
+		return false;
+	}
+
+	@Override
+	public void invalidate(Vec pos, Vec size) {
+		if (!this.isTrackingDirtyRegions()) {
+			return;
+		}
+		Vec half = size.scalar(0.5f);
+		Frame region = new Frame(pos.sub(half), pos.add(half));
+		synchronized (this.dirtyRegions) {
+			if (!this.dirtyAll) {
+				this.dirtyRegions.add(region);
+			}
+		}
+	}
+
+	@Override
+	public void invalidateAll() {
+		synchronized (this.dirtyRegions) {
+			this.dirtyAll = true;
+			this.dirtyRegions.clear();
+		}
+	}
+
+	@Override
+	public final long getDeltaTime() {
+		return this.deltaTime;
+	}
+
+	@Override
+	public final SimulationClock getClock() {
+		return this.clock;
 	}
 
 	/**
@@ -165,16 +404,63 @@ abstract class Scene implements CameraTarget, IScene {
 		this.addGameElements();
 		if (!this.paused) {
 			// iterate all GameElements to invoke logicLoop
-			Arrays.stream(this.gameElements).forEach(list -> list.forEach(this::logicLoopGameElement));
+			this.gameElements.forEach(this::logicLoopGameElement);
+			// move all elements which move by their velocity at once
+			this.transforms.integrate(this.deltaTime / 1000F);
 		}
 		// remove GameElements that must be removed
 		this.removeGameElements();
+		this.setDebugStat("Scene: elements", this.gameElements.size());
+		this.setDebugStat("Scene: used z-buckets", this.gameElements.usedBuckets());
+		this.setDebugStat("Scene: transform capacity", this.transforms.capacity());
 		this.logicLoopAfter();
+		if (!this.paused) {
+			this.runTasks();
+		}
 		// after all game related logic update GuiElements
 		this.guiElements.forEach(e -> e.logicLoop());
 
 	}
 
+	/**
+	 * Invoke all tasks and remove the finished ones. Tasks which are added by
+	 * a task will be invoked in the same step.
+	 */
+	private void runTasks() {
+		synchronized (this.tasks) {
+			boolean finished = false;
+			for (int i = 0; i < this.tasks.size(); i++) {
+				if (!this.tasks.get(i).getAsBoolean()) {
+					this.tasks.set(i, null);
+					finished = true;
+				}
+			}
+			if (finished) {
+				this.tasks.removeIf(task -> task == null);
+			}
+		}
+	}
+
+	@Override
+	public void addTask(BooleanSupplier task) {
+		synchronized (this.tasks) {
+			this.tasks.add(task);
+		}
+	}
+
+	@Override
+	public void execute(long delay, Runnable job) {
+		Timer timer = new Timer(delay, this.clock);
+		this.addTask(() -> {
+			timer.logicLoop();
+			if (!timer.timeUp()) {
+				return true;
+			}
+			job.run();
+			return false;
+		});
+	}
+
 	/**
 	 * Will be invoked after all {@link GameElement#logicLoop()}.
 	 */
@@ -204,7 +490,7 @@ abstract class Scene implements CameraTarget, IScene {
 		// Debug: Save time before logicLoop
 		long timeBefore = 0;
 		if (GameConf.DEBUG) {
-			timeBefore = GameTime.getTime();
+			timeBefore = System.currentTimeMillis();
 		}
 
 		e.logicLoop();
@@ -216,7 +502,7 @@ abstract class Scene implements CameraTarget, IScene {
 		if (GameConf.DEBUG) {
 			try {
 				this.gameElementDurationsLock.lock();
-				long timeAfter = GameTime.getTime();
+				long timeAfter = System.currentTimeMillis();
 				String clazz = e.getClass().getSimpleName();
 				long dur = (timeAfter - timeBefore);
 				if (this.gameElementDurations.containsKey(clazz)) {
@@ -262,8 +548,11 @@ abstract class Scene implements CameraTarget, IScene {
 			Iterator<GameElement> it = this.gameElementAddQueue.iterator();
 			while (it.hasNext()) {
 				GameElement element = it.next();
-				this.gameElements[Scene.zToIndex(element.getZ())].add(element);
-				element.setScene((ILevelScene) this);
+				if (this.gameElements.add(element)) {
+					element.attachTo(this.transforms);
+					element.setScene((ILevelScene) this);
+					this.onGameElementAdded(element);
+				}
 			}
 			this.gameElementAddQueue.clear();
 		}
@@ -292,11 +581,40 @@ abstract class Scene implements CameraTarget, IScene {
 	 */
 	private void removeGameElements() {
 		synchronized (this.gameElementRemoveQueue) {
-			this.gameElementRemoveQueue.forEach(e -> this.gameElements[Scene.zToIndex(e.getZ())].remove(e));
+			for (GameElement e : this.gameElementRemoveQueue) {
+				if (this.gameElements.remove(e)) {
+					e.detach();
+					e.onRemove();
+					this.onGameElementRemoved(e);
+					this.pool.recycle(e);
+				}
+			}
 			this.gameElementRemoveQueue.clear();
+			// restore dense buckets (keeps the order of the elements)
+			this.gameElements.compact();
 		}
 	}
 
+	/**
+	 * Will be invoked after a {@link GameElement} has been added to the
+	 * internal data structure.
+	 *
+	 * @param element
+	 *            the added element
+	 */
+	protected void onGameElementAdded(GameElement element) {
+	}
+
+	/**
+	 * Will be invoked after a {@link GameElement} has been removed from the
+	 * internal data structure.
+	 *
+	 * @param element
+	 *            the removed element
+	 */
+	protected void onGameElementRemoved(GameElement element) {
+	}
+
 	/**
 	 * Adds a GuiElement to the GameModel.
 	 *
@@ -306,25 +624,27 @@ abstract class Scene implements CameraTarget, IScene {
 	@Override
 	public synchronized void addGuiElement(GuiElement e) {
 		this.guiElements.add(e);
+		this.invalidateAll();
 	}
 
 	@Override
 	public synchronized void removeGuiElement(GuiElement e) {
 		this.guiElements.remove(e);
+		this.invalidateAll();
 	}
 
 	@Override
 	public synchronized void applyToGameElements(Consumer<GameElement> function) {
-		for (Queue<GameElement> level : this.gameElements) {
-			level.forEach(function::accept);
-		}
+		this.gameElements.forEach(function);
 	}
 
 	@Override
 	public synchronized void applyToNonNeutralGameElements(Consumer<GameElement> function) {
-		for (Queue<GameElement> level : this.gameElements) {
-			level.stream().filter(e -> !e.getTeam().isNeutral()).forEach(function::accept);
-		}
+		this.gameElements.forEach(e -> {
+			if (!e.getTeam().isNeutral()) {
+				function.accept(e);
+			}
+		});
 	}
 
 	@Override
@@ -336,11 +656,7 @@ abstract class Scene implements CameraTarget, IScene {
 
 	@Override
 	public synchronized int getGameElementCount() {
-		int size = 0;
-		for (Queue<GameElement> queue : this.gameElements) {
-			size += queue.size();
-		}
-		return size;
+		return this.gameElements.size();
 	}
 
 	@Override
@@ -356,6 +672,31 @@ abstract class Scene implements CameraTarget, IScene {
 
 	}
 
+	/**
+	 * Set a statistic for debugging (only if {@link GameConf#DEBUG} is set).
+	 *
+	 * @param key
+	 *            the name of the statistic
+	 * @param value
+	 *            the current value
+	 * @see #getDebugStats()
+	 */
+	protected final void setDebugStat(String key, long value) {
+		if (!GameConf.DEBUG) {
+			return;
+		}
+		synchronized (this.debugStats) {
+			this.debugStats.put(key, value);
+		}
+	}
+
+	@Override
+	public Map<String, Long> getDebugStats() {
+		synchronized (this.debugStats) {
+			return new TreeMap<>(this.debugStats);
+		}
+	}
+
 	@Override
 	public final GameModel getModel() {
 		return this.model;
@@ -366,15 +707,4 @@ abstract class Scene implements CameraTarget, IScene {
 		this.canPause = canPause;
 	}
 
-	/**
-	 * Get index based on z-value of position.
-	 *
-	 * @param zvalue
-	 *            the zvalue
-	 * @return the index
-	 */
-	private static int zToIndex(byte zvalue) {
-		return zvalue + 128;
-	}
-
 }
@@ -0,0 +1,329 @@
+package rekit.logic.scene;
+
+import java.util.Arrays;
+
+import rekit.config.GameConf;
+import rekit.core.Team;
+import rekit.logic.gameelements.GameElement;
+import rekit.logic.gameelements.inanimate.Inanimate;
+import rekit.logic.gameelements.inanimate.InanimateBox;
+import rekit.logic.gameelements.inanimate.InanimateFloor;
+import rekit.primitives.geometry.Direction;
+
+/**
+ * This class realizes the static collision layer of a {@link LevelScene}. All
+ * plain blocks ({@link InanimateFloor} and {@link InanimateBox}) which have
+ * been built on the unit grid will be stored here by level column and row
+ * instead of taking part in the pairwise collision detection. Moving elements
+ * are resolved against the layer by visiting the occupied cells their
+ * bounding box covers. Elements whose team cannot collide with
+ * {@link Team#INANIMATE} will be ignored.<br>
+ * The columns are stored in a ring buffer which grows if a column would
+ * overwrite a column which is still in use.
+ *
+ */
+final class TileLayer {
+	/**
+	 * The initial amount of columns (must be a power of two).
+	 */
+	private static final int INITIAL_COLUMNS = 256;
+	/**
+	 * Marker for a slot without column.
+	 */
+	private static final int NO_COLUMN = Integer.MIN_VALUE;
+
+	/**
+	 * The amount of rows (the height of the level).
+	 */
+	private final int rows;
+	/**
+	 * The amount of columns (capacity of the ring buffer).
+	 */
+	private int columns;
+	/**
+	 * The occupied cells (bitset, index: slot * rows + row).
+	 */
+	private long[] solid;
+	/**
+	 * The blocks of the occupied cells (index: slot * rows + row).
+	 */
+	private Inanimate[] tiles;
+	/**
+	 * The level column stored in each slot.
+	 */
+	private int[] slotColumn;
+	/**
+	 * The amount of blocks in each slot.
+	 */
+	private int[] slotCount;
+	/**
+	 * The amount of blocks in the layer.
+	 */
+	private int size;
+	/**
+	 * The amount of blocks which have been checked since the last
+	 * {@link #resetChecks()}.
+	 */
+	private long checks;
+
+	/**
+	 * Create a new (empty) layer.
+	 */
+	TileLayer() {
+		this.rows = GameConf.GRID_H;
+		this.allocate(TileLayer.INITIAL_COLUMNS);
+	}
+
+	/**
+	 * Allocate the internal arrays.
+	 *
+	 * @param columns
+	 *            the amount of columns
+	 */
+	private void allocate(int columns) {
+		this.columns = columns;
+		this.solid = new long[(columns * this.rows + 63) / 64];
+		this.tiles = new Inanimate[columns * this.rows];
+		this.slotColumn = new int[columns];
+		this.slotCount = new int[columns];
+		Arrays.fill(this.slotColumn, TileLayer.NO_COLUMN);
+		this.size = 0;
+	}
+
+	/**
+	 * Indicates whether an element can be stored in this layer.
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if the element is a plain block on the unit grid,
+	 *         {@code false} otherwise
+	 */
+	static boolean isStaticTile(GameElement element) {
+		Class<?> type = element.getClass();
+		if (type != InanimateFloor.class && type != InanimateBox.class) {
+			return false;
+		}
+		float x = element.getX();
+		float y = element.getY();
+		return x == (int) x && y == (int) y && element.getWidth() == 1 && element.getHeight() == 1;
+	}
+
+	/**
+	 * Try to add an element to the layer.
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if the element is stored in the layer now,
+	 *         {@code false} if it has to be treated as dynamic element
+	 */
+	boolean add(GameElement element) {
+		if (!TileLayer.isStaticTile(element)) {
+			return false;
+		}
+		int column = (int) element.getX();
+		int row = (int) element.getY();
+		if (row < 0 || row >= this.rows) {
+			return false;
+		}
+		int slot = this.slot(column);
+		// columns may still share a slot after growing once
+		while (this.slotColumn[slot] != column && this.slotCount[slot] != 0) {
+			this.grow();
+			slot = this.slot(column);
+		}
+		int idx = slot * this.rows + row;
+		if (this.isSolid(idx)) {
+			// already occupied
+			return false;
+		}
+		this.slotColumn[slot] = column;
+		this.slotCount[slot]++;
+		this.solid[idx >>> 6] |= 1L << idx;
+		this.tiles[idx] = (Inanimate) element;
+		this.size++;
+		return true;
+	}
+
+	/**
+	 * Remove an element from the layer (if stored).
+	 *
+	 * @param element
+	 *            the element
+	 * @return {@code true} if the element has been removed, {@code false}
+	 *         otherwise
+	 */
+	boolean remove(GameElement element) {
+		if (!TileLayer.isStaticTile(element)) {
+			return false;
+		}
+		int column = (int) element.getX();
+		int row = (int) element.getY();
+		if (row < 0 || row >= this.rows) {
+			return false;
+		}
+		int slot = this.slot(column);
+		int idx = slot * this.rows + row;
+		if (this.slotColumn[slot] != column || this.tiles[idx] != element) {
+			return false;
+		}
+		this.solid[idx >>> 6] &= ~(1L << idx);
+		this.tiles[idx] = null;
+		this.size--;
+		if (--this.slotCount[slot] == 0) {
+			this.slotColumn[slot] = TileLayer.NO_COLUMN;
+		}
+		return true;
+	}
+
+	/**
+	 * Remove all blocks.
+	 */
+	void clear() {
+		this.allocate(this.columns);
+	}
+
+	/**
+	 * Check collisions of an element with all blocks in the cells its bounding
+	 * box covers (in both directions, see
+	 * {@link GameElement#checkCollision(GameElement)}). A block is centered on
+	 * its cell and spans half a unit in each direction, so the covered cells
+	 * are determined by rounding the borders of the bounding box. The overlap
+	 * is tested on the bounds of the cell without creating any frames.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	void collide(GameElement element) {
+		if (!element.getTeam().canCollide(Team.INANIMATE)) {
+			return;
+		}
+		float x = element.getX();
+		float y = element.getY();
+		float halfW = Math.abs(element.getWidth()) / 2F;
+		float halfH = Math.abs(element.getHeight()) / 2F;
+		int minX = TileLayer.cell(x - halfW);
+		int maxX = TileLayer.cell(x + halfW);
+		int minY = Math.max(0, TileLayer.cell(y - halfH));
+		int maxY = Math.min(this.rows - 1, TileLayer.cell(y + halfH));
+		if (minY > maxY) {
+			return;
+		}
+		for (int column = minX; column <= maxX; column++) {
+			int slot = this.slot(column);
+			if (this.slotColumn[slot] != column) {
+				continue;
+			}
+			for (int row = minY; row <= maxY; row++) {
+				int idx = slot * this.rows + row;
+				if (!this.isSolid(idx)) {
+					continue;
+				}
+				this.checks++;
+				this.collide(this.tiles[idx], column, row, element);
+			}
+		}
+	}
+
+	/**
+	 * Check the collision of an element with one block (in both directions).
+	 *
+	 * @param tile
+	 *            the block
+	 * @param column
+	 *            the column of the block
+	 * @param row
+	 *            the row of the block
+	 * @param element
+	 *            the element
+	 */
+	private void collide(Inanimate tile, int column, int row, GameElement element) {
+		if (!element.intersects(column - 0.5F, row - 0.5F, column + 0.5F, row + 0.5F)) {
+			return;
+		}
+		Direction dir = GameElement.getCollisionDirection(column, row, 1, 1, element.getX(), element.getY(), element.getWidth(), element.getHeight());
+		if (dir != null) {
+			tile.reactToCollision(element, dir);
+		}
+		// the reaction of the block may have moved the element
+		if (!element.intersects(column - 0.5F, row - 0.5F, column + 0.5F, row + 0.5F)) {
+			return;
+		}
+		dir = GameElement.getCollisionDirection(element.getX(), element.getY(), element.getWidth(), element.getHeight(), column, row, 1, 1);
+		if (dir != null) {
+			element.reactToCollision(tile, dir);
+		}
+	}
+
+	/**
+	 * Get the cell which contains a coordinate (cells are centered on the unit
+	 * grid).
+	 *
+	 * @param v
+	 *            the coordinate
+	 * @return the cell
+	 */
+	private static int cell(float v) {
+		return (int) Math.floor(v + 0.5F);
+	}
+
+	/**
+	 * Get the amount of blocks in the layer.
+	 *
+	 * @return the amount of blocks
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get the amount of blocks which have been checked since the last
+	 * {@link #resetChecks()}.
+	 *
+	 * @return the amount of checked blocks
+	 */
+	long getChecks() {
+		return this.checks;
+	}
+
+	/**
+	 * Reset the counter of checked blocks.
+	 */
+	void resetChecks() {
+		this.checks = 0;
+	}
+
+	/**
+	 * Indicates whether a cell is occupied.
+	 *
+	 * @param idx
+	 *            the index of the cell
+	 * @return {@code true} if occupied, {@code false} otherwise
+	 */
+	private boolean isSolid(int idx) {
+		return (this.solid[idx >>> 6] & (1L << idx)) != 0;
+	}
+
+	/**
+	 * Get the slot of a level column.
+	 *
+	 * @param column
+	 *            the column
+	 * @return the slot in the ring buffer
+	 */
+	private int slot(int column) {
+		return column & (this.columns - 1);
+	}
+
+	/**
+	 * Double the capacity of the ring buffer and re-insert all blocks.
+	 */
+	private void grow() {
+		Inanimate[] old = this.tiles;
+		this.allocate(this.columns * 2);
+		for (Inanimate tile : old) {
+			if (tile != null) {
+				this.add(tile);
+			}
+		}
+	}
+}
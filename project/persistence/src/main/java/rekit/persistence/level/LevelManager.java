@@ -246,6 +246,25 @@ public final class LevelManager {
 		return LevelManager.LOTD;
 	}
 
+	/**
+	 * Create a level-of-the-day level with a specific seed (e.g. to simulate
+	 * the levels of other days). The level will not be registered, so no data
+	 * (e.g. highscores) of it will be stored.
+	 *
+	 * @param seed
+	 *            the random seed for the level
+	 * @return the level or {@code null} if the level could not be loaded
+	 */
+	public static LevelDefinition getLOTDLevel(long seed) {
+		Resource level = new PathMatchingResourcePatternResolver().getResource("/levels/infinite.dat");
+		try (InputStream in = level.getInputStream()) {
+			return new LevelDefinition(in, LevelType.Level_of_the_Day, seed);
+		} catch (IOException e) {
+			GameConf.GAME_LOGGER.error("Could not load level of the day: " + e.getMessage());
+			return null;
+		}
+	}
+
 	/**
 	 * Load a level by id.
 	 *